@@ -0,0 +1,139 @@
+package com.example.CampusJobBoard.config;
+
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Brings databases created by earlier versions of the application up to date
+ * on startup.
+ *
+ * <p>{@code ddl-auto=update} only adds missing tables, columns and indexes. It
+ * never changes an existing column, fills in existing rows or drops anything,
+ * so those steps are done here. Every step checks the schema or data first and
+ * is safe to run on each startup. It runs before the other startup runners and
+ * before the in-memory indexes load on ApplicationReadyEvent.</p>
+ *
+ * <p>The statements are written for MySQL; other databases (tests) get the
+ * schema from Hibernate as is.</p>
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SchemaMigrations implements CommandLineRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SchemaMigrations(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void run(String... args) {
+        if (!isMySql()) {
+            return;
+        }
+        backfillJobCreatedAt();
+        jobStatusAsVarchar();
+        dropIndex("job", "idx_job_status_category");
+        dropIndex("job", "idx_job_status_location");
+        uniqueApplicationPerStudentAndJob();
+        backfillApplicationEmployerId();
+    }
+
+    /**
+     * Jobs inserted before CreatedAt was set on insert have none, which leaves
+     * them out of the keyset listing. Their last update is the best estimate.
+     */
+    private void backfillJobCreatedAt() {
+        int rows = jdbcTemplate.update("""
+                UPDATE job SET created_at = COALESCE(updated_at, CURRENT_TIMESTAMP)
+                WHERE created_at IS NULL
+                """);
+        report(rows, "jobs given a CreatedAt");
+    }
+
+    /**
+     * Databases created before EXPIRED existed have job.status as
+     * enum('PENDING','APPROVED','REJECTED'), which rejects the new value and
+     * would fail the expiry catch-up on startup.
+     */
+    private void jobStatusAsVarchar() {
+        if ("enum".equalsIgnoreCase(columnType("job", "status"))) {
+            jdbcTemplate.execute("ALTER TABLE job MODIFY status VARCHAR(16)");
+            System.out.println("Schema: job.status changed from ENUM to VARCHAR(16)");
+        }
+    }
+
+    /**
+     * ddl-auto cannot add uk_application_user_job while a student has two
+     * applications to the same job; it logs the failure and carries on. The
+     * oldest application of each pair is kept and the newer copies deleted,
+     * then the constraint is added.
+     */
+    private void uniqueApplicationPerStudentAndJob() {
+        if (indexExists("job_application", "uk_application_user_job")) {
+            return;
+        }
+        int rows = jdbcTemplate.update("""
+                DELETE newer FROM job_application newer
+                JOIN job_application older
+                  ON older.user_id = newer.user_id AND older.job_id = newer.job_id
+                 AND older.job_application_id < newer.job_application_id
+                """);
+        report(rows, "duplicate applications deleted");
+        jdbcTemplate.execute(
+                "ALTER TABLE job_application ADD CONSTRAINT uk_application_user_job UNIQUE (user_id, job_id)");
+        System.out.println("Schema: added uk_application_user_job on job_application");
+    }
+
+    /**
+     * Applications stored before EmployerId was added have none, which leaves
+     * them out of the employer's all-applicants page.
+     */
+    private void backfillApplicationEmployerId() {
+        int rows = jdbcTemplate.update("""
+                UPDATE job_application a JOIN job j ON j.job_id = a.job_id
+                SET a.employer_id = j.user_id
+                WHERE a.employer_id IS NULL AND j.user_id IS NOT NULL
+                """);
+        report(rows, "applications given an EmployerId");
+    }
+
+    private String columnType(String table, String column) {
+        return jdbcTemplate.query("""
+                SELECT data_type FROM information_schema.columns
+                WHERE table_schema = DATABASE() AND table_name = ? AND column_name = ?
+                """, rs -> rs.next() ? rs.getString(1) : null, table, column);
+    }
+
+    // drops an index that a wider one has replaced
+    private void dropIndex(String table, String index) {
+        if (indexExists(table, index)) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " DROP INDEX " + index);
+            System.out.println("Schema: dropped index " + index + " on " + table);
+        }
+    }
+
+    private boolean indexExists(String table, String index) {
+        Integer count = jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.statistics
+                WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?
+                """, Integer.class, table, index);
+        return count != null && count > 0;
+    }
+
+    private boolean isMySql() {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        return "MySQL".equalsIgnoreCase(product);
+    }
+
+    private static void report(int rows, String what) {
+        if (rows > 0) {
+            System.out.println("Schema: " + rows + " " + what);
+        }
+    }
+}
@@ -1,4 +1,146 @@
 package com.example.CampusJobBoard.controllers;
 
+import com.example.CampusJobBoard.dto.CatalogCacheStats;
+import com.example.CampusJobBoard.dto.PasswordHashingStats;
+import com.example.CampusJobBoard.dto.RateLimitStats;
+import com.example.CampusJobBoard.dto.TokenCacheStats;
+import com.example.CampusJobBoard.entities.Job;
+import com.example.CampusJobBoard.exceptions.ValidationException;
+import com.example.CampusJobBoard.security.PooledPasswordEncoder;
+import com.example.CampusJobBoard.security.RequestRateLimiter;
+import com.example.CampusJobBoard.security.VerifiedTokenCache;
+import com.example.CampusJobBoard.services.ExportService;
+import com.example.CampusJobBoard.services.JobCatalogCache;
+import com.example.CampusJobBoard.services.JobService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Map;
+
+/**
+ * Controller for moderation operations available to ADMIN users.
+ */
+@RestController
+@RequestMapping("/api/admin")
 public class AdminController {
+
+    private final JobService jobService;
+    private final JobCatalogCache catalogCache;
+    private final ExportService exportService;
+    private final RequestRateLimiter rateLimiter;
+    private final VerifiedTokenCache tokenCache;
+    private final PooledPasswordEncoder passwordEncoder;
+
+    public AdminController(JobService jobService,
+                           JobCatalogCache catalogCache,
+                           ExportService exportService,
+                           RequestRateLimiter rateLimiter,
+                           VerifiedTokenCache tokenCache,
+                           PooledPasswordEncoder passwordEncoder) {
+        this.jobService = jobService;
+        this.catalogCache = catalogCache;
+        this.exportService = exportService;
+        this.rateLimiter = rateLimiter;
+        this.tokenCache = tokenCache;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    /**
+     * Approves, rejects or otherwise changes the status of a job posting.
+     * Accessible via PUT /api/admin/jobs/{id}/status?status=APPROVED
+     */
+    @PutMapping("/jobs/{id}/status")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> updateJobStatus(@PathVariable Long id, @RequestParam Job.Status status) {
+        try {
+            jobService.updateJobStatus(id, status);
+            return ResponseEntity.ok("Job status updated.");
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.status(404).body(Map.of("error", ex.getMessage()));
+        }
+    }
+
+    /**
+     * Hit/miss/rebuild counters of the approved-job catalog cache.
+     * Accessible via GET /api/admin/metrics/catalog
+     */
+    @GetMapping("/metrics/catalog")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CatalogCacheStats> getCatalogStats() {
+        return ResponseEntity.ok(catalogCache.stats());
+    }
+
+    /**
+     * Allowed/rejected counters of the per-user API rate limiter.
+     * Accessible via GET /api/admin/metrics/rate-limit
+     */
+    @GetMapping("/metrics/rate-limit")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<RateLimitStats> getRateLimitStats() {
+        return ResponseEntity.ok(rateLimiter.stats());
+    }
+
+    /**
+     * Hit/miss counters and hit ratio of the verified-token cache.
+     * Accessible via GET /api/admin/metrics/token-cache
+     */
+    @GetMapping("/metrics/token-cache")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<TokenCacheStats> getTokenCacheStats() {
+        return ResponseEntity.ok(tokenCache.stats());
+    }
+
+    /**
+     * Queue depth, rejections and average timings of the password-hashing pool.
+     * Accessible via GET /api/admin/metrics/password-hashing
+     */
+    @GetMapping("/metrics/password-hashing")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<PasswordHashingStats> getPasswordHashingStats() {
+        return ResponseEntity.ok(passwordEncoder.stats());
+    }
+
+    /**
+     * Streams every job as NDJSON (default) or CSV.
+     * Accessible via GET /api/admin/export/jobs?format=csv
+     */
+    @GetMapping("/export/jobs")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportJobs(@RequestParam(defaultValue = "ndjson") String format) {
+        ExportService.Format exportFormat = parseFormat(format);
+        return export("jobs", exportFormat, out -> exportService.writeJobs(exportFormat, out));
+    }
+
+    /**
+     * Streams every job application as NDJSON (default) or CSV.
+     * Accessible via GET /api/admin/export/applications?format=csv
+     */
+    @GetMapping("/export/applications")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportApplications(@RequestParam(defaultValue = "ndjson") String format) {
+        ExportService.Format exportFormat = parseFormat(format);
+        return export("applications", exportFormat, out -> exportService.writeApplications(exportFormat, out));
+    }
+
+    // reported as 400 by GlobalExceptionHandler
+    private static ExportService.Format parseFormat(String format) {
+        try {
+            return ExportService.Format.parse(format);
+        } catch (IllegalArgumentException ex) {
+            throw new ValidationException(Map.of("format", ex.getMessage()));
+        }
+    }
+
+    private static ResponseEntity<StreamingResponseBody> export(String name,
+                                                                ExportService.Format format,
+                                                                StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"" + name + "." + format.extension() + "\"")
+                .body(body);
+    }
 }
@@ -2,9 +2,12 @@ package com.example.CampusJobBoard.controllers;
 
 import com.example.CampusJobBoard.dto.LoginRequest;
 import com.example.CampusJobBoard.dto.RegisterRequest;
+import com.example.CampusJobBoard.exceptions.LoginThrottledException;
 import com.example.CampusJobBoard.services.AuthService;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.util.Map;
 
@@ -40,12 +43,18 @@ public class AuthController {
 
     /**
      * Logs in an existing user.
+     * The client IP is the remote address, taken from X-Forwarded-For only
+     * behind a trusted proxy (see server.forward-headers-strategy).
      * Accessible via POST /api/auth/login
      */
     @PostMapping("/login")
-    public ResponseEntity<?> login(@Valid @RequestBody LoginRequest request) {
+    public ResponseEntity<?> login(@Valid @RequestBody LoginRequest request, HttpServletRequest servletRequest) {
         try {
-            return ResponseEntity.ok(authService.login(request));
+            return ResponseEntity.ok(authService.login(request, servletRequest.getRemoteAddr()));
+        } catch (LoginThrottledException ex) {
+            return ResponseEntity.status(401)
+                    .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+                    .body(Map.of("error", ex.getMessage()));
         } catch (IllegalStateException ex) {
             return ResponseEntity.status(401).body(Map.of("error", ex.getMessage()));
         }
@@ -0,0 +1,55 @@
+package com.example.CampusJobBoard.controllers;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * Helper for ETag-based conditional GETs in controllers.
+ *
+ * <p>Call it before loading anything: when it returns true the response is
+ * already a 304 with no body and the handler should return null.</p>
+ */
+final class ConditionalGet {
+
+    private ConditionalGet() {
+    }
+
+    /**
+     * Tags the response and checks it against If-None-Match.
+     *
+     * <p>Cache-Control is set to "private, no-cache" so browsers keep the
+     * response but revalidate it each time (Spring Security would otherwise
+     * send no-store, which prevents conditional requests altogether).</p>
+     *
+     * @return true if the client's copy is current and a 304 has been prepared
+     */
+    static boolean isNotModified(ServletWebRequest request, String etag) {
+        HttpServletResponse response = request.getResponse();
+        if (response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        }
+        return request.checkNotModified(etag);
+    }
+
+    /**
+     * ETag variant for the request's query string: its SHA-256 digest,
+     * URL-safe Base64 encoded. Unlike a 32-bit hash, two different queries
+     * never share a tag in practice, so one cannot be answered with a 304 for
+     * the other's page.
+     */
+    static String queryVariant(String query) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest((query == null ? "" : query).getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -1,4 +1,127 @@
 package com.example.CampusJobBoard.controllers;
 
+import com.example.CampusJobBoard.dto.ApplicationDecisionRequest;
+import com.example.CampusJobBoard.entities.JobApplication;
+import com.example.CampusJobBoard.services.ApplicationService;
+import com.example.CampusJobBoard.services.EmployerPipelineService;
+import com.example.CampusJobBoard.services.UserService;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.security.Principal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Controller for operations available to EMPLOYER users on their own postings.
+ */
+@RestController
+@RequestMapping("/api/employer")
 public class EmployerController {
+
+    private final ApplicationService appService;
+    private final UserService userService;
+    private final EmployerPipelineService pipeline;
+
+    public EmployerController(ApplicationService appService,
+                              UserService userService,
+                              EmployerPipelineService pipeline) {
+        this.appService = appService;
+        this.userService = userService;
+        this.pipeline = pipeline;
+    }
+
+    /**
+     * The employer's postings in any status, newest first, with live applicant counts.
+     * Pass the returned nextCursor back to fetch the following page.
+     * Accessible via GET /api/employer/jobs?cursor=...&size=20
+     */
+    @GetMapping("/jobs")
+    @PreAuthorize("hasRole('EMPLOYER')")
+    public ResponseEntity<?> getPostings(@RequestParam(required = false) String cursor,
+                                         @RequestParam(defaultValue = "20") int size,
+                                         Principal principal) {
+        Long employerId = userService.findIdByEmail(principal.getName());
+        try {
+            return ResponseEntity.ok(pipeline.getPostingsPage(employerId, cursor, size));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(Map.of("error", ex.getMessage()));
+        }
+    }
+
+    /**
+     * Applicants to one of the employer's postings, newest first, optionally by status.
+     * Accessible via GET /api/employer/jobs/{id}/applicants?status=SUBMITTED&cursor=...
+     */
+    @GetMapping("/jobs/{id}/applicants")
+    @PreAuthorize("hasRole('EMPLOYER')")
+    public ResponseEntity<?> getApplicants(@PathVariable Long id,
+                                           @RequestParam(required = false) JobApplication.Status status,
+                                           @RequestParam(required = false) String cursor,
+                                           @RequestParam(defaultValue = "20") int size,
+                                           Principal principal) {
+        Long employerId = userService.findIdByEmail(principal.getName());
+        try {
+            return pipeline.getApplicantsPage(employerId, id, status, cursor, size)
+                    .<ResponseEntity<?>>map(ResponseEntity::ok)
+                    .orElseGet(() -> ResponseEntity.status(404).body(Map.of("error",
+                            "No job posting with id " + id + " among your postings")));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(Map.of("error", ex.getMessage()));
+        }
+    }
+
+    /**
+     * Applicants across all of the employer's postings, newest first, optionally by status.
+     * Accessible via GET /api/employer/applicants?status=SUBMITTED&cursor=...
+     */
+    @GetMapping("/applicants")
+    @PreAuthorize("hasRole('EMPLOYER')")
+    public ResponseEntity<?> getAllApplicants(@RequestParam(required = false) JobApplication.Status status,
+                                              @RequestParam(required = false) String cursor,
+                                              @RequestParam(defaultValue = "20") int size,
+                                              Principal principal) {
+        Long employerId = userService.findIdByEmail(principal.getName());
+        try {
+            return ResponseEntity.ok(pipeline.getAllApplicantsPage(employerId, status, cursor, size));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(Map.of("error", ex.getMessage()));
+        }
+    }
+
+    /**
+     * Accepts or rejects one submitted application to one of the employer's jobs.
+     * Accessible via PUT /api/employer/applications/{id}/status?status=ACCEPTED
+     */
+    @PutMapping("/applications/{id}/status")
+    @PreAuthorize("hasRole('EMPLOYER')")
+    public ResponseEntity<?> decideApplication(@PathVariable Long id,
+                                               @RequestParam JobApplication.Status status,
+                                               Principal principal) {
+        Long employerId = userService.findIdByEmail(principal.getName());
+        if (appService.decide(employerId, List.of(id), status) == 0) {
+            return ResponseEntity.status(404).body(Map.of("error",
+                    "No submitted application with id " + id + " on your job postings"));
+        }
+        return ResponseEntity.ok("Application status updated.");
+    }
+
+    /**
+     * Accepts or rejects many applications with a single UPDATE.
+     * Ids that are not submitted applications on the employer's jobs are skipped;
+     * the response says how many were changed.
+     * Accessible via PUT /api/employer/applications/status
+     */
+    @PutMapping("/applications/status")
+    @PreAuthorize("hasRole('EMPLOYER')")
+    public ResponseEntity<Map<String, Integer>> decideApplications(@Valid @RequestBody ApplicationDecisionRequest request,
+                                                                   Principal principal) {
+        Long employerId = userService.findIdByEmail(principal.getName());
+        int updated = appService.decide(employerId, request.getApplicationIds(), request.getStatus());
+        return ResponseEntity.ok(Map.of(
+                "requested", request.getApplicationIds().size(),
+                "updated", updated));
+    }
 }
@@ -1,16 +1,45 @@
 package com.example.CampusJobBoard.controllers;
 
-import com.example.CampusJobBoard.entities.Job;
-import com.example.CampusJobBoard.entities.JobApplication;
-import com.example.CampusJobBoard.entities.User;
+import com.example.CampusJobBoard.dto.ApplicationAck;
+import com.example.CampusJobBoard.dto.ApplicationResult;
+import com.example.CampusJobBoard.dto.BatchApplicationRequest;
+import com.example.CampusJobBoard.dto.JobDetail;
+import com.example.CampusJobBoard.dto.JobFacets;
+import com.example.CampusJobBoard.dto.JobFilter;
+import com.example.CampusJobBoard.dto.JobListing;
+import com.example.CampusJobBoard.dto.JobPage;
+import com.example.CampusJobBoard.dto.JobRecommendation;
+import com.example.CampusJobBoard.dto.JobSearchHit;
+import com.example.CampusJobBoard.dto.JobSuggestion;
 import com.example.CampusJobBoard.services.ApplicationService;
+import com.example.CampusJobBoard.services.ApplicationVersionTracker;
+import com.example.CampusJobBoard.services.ApplicationWriteBehindQueue;
+import com.example.CampusJobBoard.services.JobCatalogCache;
+import com.example.CampusJobBoard.services.JobFacetIndex;
+import com.example.CampusJobBoard.services.JobFeedPublisher;
+import com.example.CampusJobBoard.services.JobSearchIndex;
 import com.example.CampusJobBoard.services.JobService;
+import com.example.CampusJobBoard.services.JobSuggestIndex;
+import com.example.CampusJobBoard.services.RecommendationService;
 import com.example.CampusJobBoard.services.UserService;
 
+import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import java.security.Principal;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Date;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/student")
@@ -19,41 +48,218 @@ public class StudentController {
     private final ApplicationService appService;
     private final UserService userService;
     private final JobService jobService;
+    private final JobSearchIndex searchIndex;
+    private final JobFacetIndex facetIndex;
+    private final JobCatalogCache catalogCache;
+    private final ApplicationVersionTracker applicationVersions;
+    private final JobFeedPublisher jobFeed;
+    private final RecommendationService recommendations;
+    private final JobSuggestIndex suggestIndex;
+    private final ApplicationWriteBehindQueue writeBehind;
 
     public StudentController(ApplicationService appService,
                                  UserService userService,
-                                 JobService jobService) {
+                                 JobService jobService,
+                                 JobSearchIndex searchIndex,
+                                 JobFacetIndex facetIndex,
+                                 JobCatalogCache catalogCache,
+                                 ApplicationVersionTracker applicationVersions,
+                                 JobFeedPublisher jobFeed,
+                                 RecommendationService recommendations,
+                                 JobSuggestIndex suggestIndex,
+                                 ApplicationWriteBehindQueue writeBehind) {
         this.appService = appService;
         this.userService = userService;
         this.jobService = jobService;
+        this.searchIndex = searchIndex;
+        this.facetIndex = facetIndex;
+        this.catalogCache = catalogCache;
+        this.applicationVersions = applicationVersions;
+        this.jobFeed = jobFeed;
+        this.recommendations = recommendations;
+        this.suggestIndex = suggestIndex;
+        this.writeBehind = writeBehind;
     }
 
-    // Return all approved jobs
+    // Return all approved jobs (304 if the catalog has not changed since the client's copy)
     @GetMapping
-    public List<Job> getAllJobs() {
+    public List<JobListing> getAllJobs(ServletWebRequest request) {
+        if (ConditionalGet.isNotModified(request, catalogCache.etag())) {
+            return null;
+        }
         return appService.getApprovedJobs();
     }
 
-    // Submit job application
-    @PostMapping("/submit")
-    public String submitApplication(@RequestParam Long JobId, Principal principal) {
+    /**
+     * Returns one page of approved jobs, newest first.
+     * Pass the returned nextCursor back to fetch the following page.
+     * Deadline bounds are inclusive calendar dates (yyyy-MM-dd).
+     */
+    @GetMapping("/jobs")
+    public ResponseEntity<?> getJobsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) Integer minSalary,
+            @RequestParam(required = false) Integer maxSalary,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate deadlineFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate deadlineTo,
+            Principal principal,
+            ServletWebRequest request) {
+
+        // pages change with the catalog and with this student's "applied" marks
+        Long userId = userService.findIdByEmail(principal.getName());
+        String etag = catalogCache.etag(ConditionalGet.queryVariant(request.getRequest().getQueryString())
+                + "-" + applicationVersions.version(userId));
+        if (ConditionalGet.isNotModified(request, etag)) {
+            return null;
+        }
+
+        JobFilter filter = new JobFilter(
+                category,
+                location,
+                minSalary,
+                maxSalary,
+                startOfDay(deadlineFrom),
+                deadlineTo == null ? null : startOfDay(deadlineTo.plusDays(1))
+        );
+
+        try {
+            JobPage<JobListing> page = jobService.getApprovedJobsPage(filter, cursor, size);
+            return ResponseEntity.ok(new JobPage<>(appService.markApplied(userId, page.items()), page.nextCursor()));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(Map.of("error", ex.getMessage()));
+        }
+    }
+
+    // One approved job with its description, for the "View Job" dialog
+    @GetMapping("/jobs/{id}")
+    public ResponseEntity<JobDetail> getJobDetail(@PathVariable Long id) {
+        return ResponseEntity.of(jobService.getApprovedJobDetail(id));
+    }
+
+    /**
+     * Full-text search over approved jobs, best matches first.
+     * The last word of the query also matches as a prefix.
+     */
+    @GetMapping("/jobs/search")
+    public List<JobSearchHit> searchJobs(@RequestParam String q,
+                                         @RequestParam(defaultValue = "20") int limit) {
+        return searchIndex.search(q, Math.min(limit, JobService.MAX_PAGE_SIZE));
+    }
+
+    // Typeahead completions for the search box (titles, categories and locations)
+    @GetMapping("/jobs/suggest")
+    public List<JobSuggestion> suggestJobs(@RequestParam String q,
+                                           @RequestParam(defaultValue = "10") int limit) {
+        return suggestIndex.suggest(q, Math.min(limit, JobSuggestIndex.TOP_K));
+    }
+
+    // Category / location / salary / deadline counts for the listing sidebar
+    @GetMapping("/jobs/facets")
+    public JobFacets getJobFacets() {
+        return facetIndex.facets();
+    }
+
+    // "Recommended for you": approved jobs ranked by the student's application history
+    @GetMapping("/jobs/recommended")
+    public List<JobRecommendation> getRecommendedJobs(@RequestParam(defaultValue = "10") int limit,
+                                                      Principal principal) {
+        Long userId = userService.findIdByEmail(principal.getName());
+        return recommendations.recommend(userId, Math.min(limit, JobService.MAX_PAGE_SIZE));
+    }
 
-        User user = userService.findByEmail(principal.getName());
-        Job job = jobService.findJobById(JobId);
+    /**
+     * Live feed of newly approved jobs as Server-Sent Events ("job-approved").
+     * Browsers reconnect with Last-Event-ID and are sent what they missed; a
+     * "reset" event means the gap was too large and the list should be reloaded.
+     */
+    @GetMapping(path = "/jobs/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamJobs(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return jobFeed.subscribe(lastEventId);
+    }
+
+    /**
+     * Submits a job application for the signed-in student.
+     * Only the student's id is looked up; the job is checked against the approved catalog in memory.
+     * In write-behind mode the answer is 202 with an ack id to poll at /submit/status/{ackId},
+     * or 503 with Retry-After while the queue is full.
+     * A job that does not exist or is not approved answers 404, and a repeat
+     * application to the same job 409; retrying either will not help.
+     * The dashboard's apply form posts here too; browsers asking for HTML are
+     * redirected back to the dashboard with the outcome instead of a JSON body.
+     */
+    @PostMapping("/submit")
+    public ResponseEntity<ApplicationResult> submitApplication(@RequestParam Long JobId, Principal principal,
+                                                               @RequestHeader(value = HttpHeaders.ACCEPT, required = false)
+                                                               String accept) {
+        Long userId = userService.findIdByEmail(principal.getName());
+        ApplicationResult result = appService.apply(userId, JobId);
 
-        JobApplication app = new JobApplication();
-        app.setUser(user);
-        app.setJob(job);
+        if (accept != null && accept.contains(MediaType.TEXT_HTML_VALUE)) {
+            return ResponseEntity.status(HttpStatus.SEE_OTHER)
+                    .location(ServletUriComponentsBuilder.fromCurrentContextPath()
+                            .path("/student/dashboard")
+                            .queryParam("applied", result.outcome())
+                            .build().toUri())
+                    .build();
+        }
+        return switch (result.outcome()) {
+            case APPLIED -> ResponseEntity.ok(result);
+            case QUEUED -> ResponseEntity.accepted().body(result);
+            case QUEUE_FULL -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(result);
+            case JOB_NOT_AVAILABLE -> ResponseEntity.status(HttpStatus.NOT_FOUND).body(result);
+            case ALREADY_APPLIED -> ResponseEntity.status(HttpStatus.CONFLICT).body(result);
+        };
+    }
 
-        appService.submit(app);
+    // Whether an application queued in write-behind mode has reached the database
+    @GetMapping("/submit/status/{ackId}")
+    public ResponseEntity<ApplicationAck> getSubmitStatus(@PathVariable String ackId, Principal principal) {
+        Long userId = userService.findIdByEmail(principal.getName());
+        return ResponseEntity.of(writeBehind.status(ackId, userId));
+    }
 
-        return "Application submitted";
+    /**
+     * Applies the signed-in student to several jobs at once with a single insert.
+     * Returns one outcome per job id.
+     */
+    @PostMapping("/submit/batch")
+    public List<ApplicationResult> submitApplications(@Valid @RequestBody BatchApplicationRequest request,
+                                                      Principal principal) {
+        Long userId = userService.findIdByEmail(principal.getName());
+        return appService.applyAll(userId, request.getJobIds());
     }
 
-    // Get current user's applied jobs
+    /**
+     * Returns one page of the signed-in student's applications, newest first,
+     * with job summary and status. Pass the returned nextCursor back for the
+     * following page. 304 if none of the student's applications changed.
+     */
     @GetMapping("/applications")
-    public List<JobApplication> getMyApps(@RequestParam Long userId) {
-        User user = userService.findUserById(userId);
-        return appService.getApplicationsByUser(user);
+    public ResponseEntity<?> getMyApps(@RequestParam(required = false) String cursor,
+                                       @RequestParam(defaultValue = "20") int size,
+                                       Principal principal,
+                                       ServletWebRequest request) {
+        Long userId = userService.findIdByEmail(principal.getName());
+
+        String etag = applicationVersions.etag(userId,
+                ConditionalGet.queryVariant(request.getRequest().getQueryString()));
+        if (ConditionalGet.isNotModified(request, etag)) {
+            return null;
+        }
+
+        try {
+            return ResponseEntity.ok(appService.getApplicationsPage(userId, cursor, size));
+        } catch (IllegalArgumentException ex) {
+            return ResponseEntity.badRequest().body(Map.of("error", ex.getMessage()));
+        }
+    }
+
+    private static Date startOfDay(LocalDate date) {
+        return date == null ? null : Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
     }
 }
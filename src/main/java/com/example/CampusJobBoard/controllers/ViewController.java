@@ -1,11 +1,14 @@
 package com.example.CampusJobBoard.controllers;
 
 import com.example.CampusJobBoard.dto.RegisterRequest;
+import com.example.CampusJobBoard.dto.UserSnapshot;
 import com.example.CampusJobBoard.entities.Job;
 import com.example.CampusJobBoard.entities.JobApplication;
-import com.example.CampusJobBoard.entities.User;
 import com.example.CampusJobBoard.services.ApplicationService;
+import com.example.CampusJobBoard.services.ApplicationVersionTracker;
 import com.example.CampusJobBoard.services.AuthService;
+import com.example.CampusJobBoard.services.EmployerPipelineService;
+import com.example.CampusJobBoard.services.JobCatalogCache;
 import com.example.CampusJobBoard.services.JobService;
 import com.example.CampusJobBoard.services.UserService;
 import jakarta.validation.Valid;
@@ -15,6 +18,7 @@ import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.security.Principal;
 import java.util.List;
@@ -32,13 +36,21 @@ public class ViewController {
     private final UserService userService;
     private final JobService jobService;
     private final AuthService authService;
+    private final JobCatalogCache catalogCache;
+    private final ApplicationVersionTracker applicationVersions;
+    private final EmployerPipelineService pipeline;
     public ViewController(ApplicationService appService, UserService userService, JobService jobService,
-                            AuthService authService)
+                            AuthService authService, JobCatalogCache catalogCache,
+                            ApplicationVersionTracker applicationVersions,
+                            EmployerPipelineService pipeline)
     {
         this.appService = appService;
         this.userService = userService;
         this.jobService = jobService;
         this.authService = authService;
+        this.catalogCache = catalogCache;
+        this.applicationVersions = applicationVersions;
+        this.pipeline = pipeline;
     }
 
     /**
@@ -68,7 +80,7 @@ public class ViewController {
      * Student dashboard.
      */
     @GetMapping("/student/dashboard")
-    public String dashboard(Model model, Authentication authentication) {
+    public String dashboard(Model model, Authentication authentication, ServletWebRequest request) {
 
         /*if (authentication == null || !authentication.isAuthenticated()) {
             return "redirect:/login";
@@ -77,10 +89,16 @@ public class ViewController {
         System.out.println("AUTHORITIES = " + authentication.getAuthorities());
 
         String email = authentication.getName();  // always works if JWT is configured correctly
-        User user = userService.findByEmail(email);
+
+        // The page changes with the catalog and with this user's "applied" marks
+        UserSnapshot user = userService.findSnapshotByEmail(email);
+        String etag = catalogCache.etag(applicationVersions.version(user.userId()));
+        if (ConditionalGet.isNotModified(request, etag)) {
+            return null;
+        }
 
         model.addAttribute("loggedInUser", user);
-        model.addAttribute("jobs", jobService.getApprovedJobs());
+        model.addAttribute("jobs", appService.getApprovedJobsFor(user.userId()));
 
         return "student/dashboard";
     }
@@ -101,11 +119,11 @@ public class ViewController {
         System.out.println("AUTHORITIES = " + authentication.getAuthorities());
 
         String email = authentication.getName();  // always works if JWT is configured correctly
-        User user = userService.findByEmail(email);
+        UserSnapshot user = userService.findSnapshotByEmail(email);
 
-        // do this but with their job postings instead of available jobs
+        // the employer's own postings (first page), with applicant counts
         model.addAttribute("loggedInUser", user);
-        model.addAttribute("jobs", jobService.getApprovedJobs());
+        model.addAttribute("jobs", pipeline.getPostingsPage(user.userId(), null, JobService.MAX_PAGE_SIZE).items());
         return "employer/dashboard";
     }
 
@@ -0,0 +1,20 @@
+package com.example.CampusJobBoard.dto;
+
+/**
+ * Where a queued application is on its way to the database.
+ *
+ * @param ackId the acknowledgement id returned when the application was queued
+ */
+public record ApplicationAck(String ackId, Long jobId, State state) {
+
+    public enum State {
+        /** Waiting in the write-behind queue. */
+        PENDING,
+        /** Written to the database. */
+        PERSISTED,
+        /** The database already had this application, so nothing was written. */
+        ALREADY_APPLIED,
+        /** The write failed; the student may submit again. */
+        FAILED
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.CampusJobBoard.dto;
+
+/**
+ * How many applications a job has, in total and per status.
+ */
+public record ApplicationCounts(long total, long submitted, long accepted, long rejected) {
+
+    public static final ApplicationCounts NONE = new ApplicationCounts(0, 0, 0, 0);
+}
@@ -0,0 +1,34 @@
+package com.example.CampusJobBoard.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Keyset position inside a student's application list.
+ *
+ * <p>The list is ordered by application id descending (newest first), so the
+ * id of the last row of a page is enough to resume from. Like {@link JobCursor}
+ * it is handed out as an opaque URL-safe string.</p>
+ */
+public record ApplicationCursor(Long applicationId) {
+
+    /** Encodes this position as an opaque token for the client. */
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(applicationId.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token previously produced by {@link #encode()}.
+     *
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static ApplicationCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            return new ApplicationCursor(Long.parseLong(raw));
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Invalid cursor.");
+        }
+    }
+}
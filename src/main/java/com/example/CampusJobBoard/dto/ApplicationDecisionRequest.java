@@ -0,0 +1,32 @@
+package com.example.CampusJobBoard.dto;
+
+import com.example.CampusJobBoard.entities.JobApplication;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * DTO for an employer accepting or rejecting several applications at once.
+ * Applied with one UPDATE, so the list is capped to keep the IN list reasonable.
+ */
+public class ApplicationDecisionRequest {
+
+    /** Maximum number of applications per request. */
+    public static final int MAX_APPLICATIONS = 500;
+
+    @NotEmpty(message = "At least one application id is required")
+    @Size(max = MAX_APPLICATIONS, message = "At most " + MAX_APPLICATIONS + " applications can be decided at once")
+    private List<@NotNull(message = "Application ids must not be null") Long> applicationIds;
+
+    /** ACCEPTED or REJECTED */
+    @NotNull(message = "Status is required")
+    private JobApplication.Status status;
+
+    public List<Long> getApplicationIds() { return applicationIds; }
+    public void setApplicationIds(List<Long> applicationIds) { this.applicationIds = applicationIds; }
+
+    public JobApplication.Status getStatus() { return status; }
+    public void setStatus(JobApplication.Status status) { this.status = status; }
+}
@@ -0,0 +1,14 @@
+package com.example.CampusJobBoard.dto;
+
+/**
+ * One job application as written by the admin export, with the job title
+ * and student details joined in so the report needs no further lookups.
+ */
+public record ApplicationExportRow(
+        Long applicationId,
+        Long jobId,
+        String jobTitle,
+        Long studentId,
+        String studentName,
+        String studentEmail
+) {}
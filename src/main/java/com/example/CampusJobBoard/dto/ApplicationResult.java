@@ -0,0 +1,30 @@
+package com.example.CampusJobBoard.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * What happened to one job in an application request.
+ *
+ * @param ackId for {@link Outcome#QUEUED}, the id to look up with the status
+ *              endpoint; null otherwise
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ApplicationResult(Long jobId, Outcome outcome, String ackId) {
+
+    public ApplicationResult(Long jobId, Outcome outcome) {
+        this(jobId, outcome, null);
+    }
+
+    public enum Outcome {
+        /** The application was saved. */
+        APPLIED,
+        /** The application was accepted and will be written shortly (write-behind mode). */
+        QUEUED,
+        /** The write-behind queue stayed full, so nothing was saved; retry later. */
+        QUEUE_FULL,
+        /** The job does not exist or is not approved, so nothing was saved. */
+        JOB_NOT_AVAILABLE,
+        /** The student had already applied to this job, so nothing was saved. */
+        ALREADY_APPLIED
+    }
+}
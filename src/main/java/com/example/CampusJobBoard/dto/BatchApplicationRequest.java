@@ -0,0 +1,25 @@
+package com.example.CampusJobBoard.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * DTO for applying to several jobs in one request.
+ * The list is capped so a single request stays one reasonably sized insert.
+ */
+public class BatchApplicationRequest {
+
+    /** Maximum number of jobs per request. */
+    public static final int MAX_JOBS = 50;
+
+    /** Ids of the jobs to apply to; duplicates are ignored */
+    @NotEmpty(message = "At least one job id is required")
+    @Size(max = MAX_JOBS, message = "At most " + MAX_JOBS + " jobs can be applied to at once")
+    private List<@NotNull(message = "Job ids must not be null") Long> jobIds;
+
+    public List<Long> getJobIds() { return jobIds; }
+    public void setJobIds(List<Long> jobIds) { this.jobIds = jobIds; }
+}
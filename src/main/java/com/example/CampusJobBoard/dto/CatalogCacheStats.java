@@ -0,0 +1,14 @@
+package com.example.CampusJobBoard.dto;
+
+/**
+ * Counters for the approved-job catalog cache, used to confirm that
+ * listing traffic is served from memory rather than the database.
+ */
+public record CatalogCacheStats(
+        long version,
+        int size,
+        long hits,
+        long misses,
+        long rebuilds,
+        long patches
+) {}
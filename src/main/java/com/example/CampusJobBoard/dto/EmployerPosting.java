@@ -0,0 +1,33 @@
+package com.example.CampusJobBoard.dto;
+
+import com.example.CampusJobBoard.entities.Job;
+
+import java.util.Date;
+
+/**
+ * One of an employer's job postings, with its live applicant counts.
+ *
+ * @param applicants counts per application status, from the in-memory counters
+ */
+public record EmployerPosting(
+        Long jobId,
+        String jobTitle,
+        String category,
+        String location,
+        int salary,
+        Date deadline,
+        Job.Status status,
+        Date createdAt,
+        ApplicationCounts applicants
+) {
+
+    /** Row as selected by the postings query, before counts are attached. */
+    public EmployerPosting(Long jobId, String jobTitle, String category, String location,
+                           int salary, Date deadline, Job.Status status, Date createdAt) {
+        this(jobId, jobTitle, category, location, salary, deadline, status, createdAt, ApplicationCounts.NONE);
+    }
+
+    public EmployerPosting withApplicants(ApplicationCounts counts) {
+        return new EmployerPosting(jobId, jobTitle, category, location, salary, deadline, status, createdAt, counts);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.CampusJobBoard.dto;
+
+/**
+ * One facet value and the number of approved jobs that have it,
+ * e.g. ("Tech", 42) for rendering "Tech (42)".
+ */
+public record FacetCount(
+        String value,
+        long count
+) {}
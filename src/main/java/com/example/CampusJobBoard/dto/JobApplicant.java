@@ -0,0 +1,22 @@
+package com.example.CampusJobBoard.dto;
+
+import com.example.CampusJobBoard.entities.JobApplication;
+
+import java.util.Date;
+
+/**
+ * One applicant in an employer's pipeline, read in a single projected query.
+ *
+ * @param decidedAt when the status last changed (equal to submittedAt until decided)
+ */
+public record JobApplicant(
+        Long applicationId,
+        Long jobId,
+        String jobTitle,
+        Long studentId,
+        String studentName,
+        String studentEmail,
+        JobApplication.Status status,
+        Date submittedAt,
+        Date decidedAt
+) {}
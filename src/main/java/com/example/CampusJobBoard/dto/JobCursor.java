@@ -0,0 +1,40 @@
+package com.example.CampusJobBoard.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * Keyset position inside the approved job listing.
+ *
+ * <p>The listing is ordered by (CreatedAt DESC, JobId DESC), so the last row of a
+ * page is enough to resume from. The cursor is handed to clients as an opaque
+ * URL-safe string so they never depend on its layout.</p>
+ */
+public record JobCursor(Date createdAt, Long jobId) {
+
+    /** Encodes this position as an opaque token for the client. */
+    public String encode() {
+        String raw = createdAt.getTime() + ":" + jobId;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token previously produced by {@link #encode()}.
+     *
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static JobCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int sep = raw.indexOf(':');
+            return new JobCursor(
+                    new Date(Long.parseLong(raw.substring(0, sep))),
+                    Long.parseLong(raw.substring(sep + 1))
+            );
+        } catch (RuntimeException ex) {
+            throw new IllegalArgumentException("Invalid cursor.");
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.CampusJobBoard.dto;
+
+import java.util.Date;
+
+/**
+ * One approved job as shown in its detail view: the listing fields plus the
+ * description, which listings leave out. Loaded by id with a single query.
+ */
+public record JobDetail(
+        Long jobId,
+        String jobTitle,
+        String description,
+        String location,
+        String category,
+        int salary,
+        Date deadline,
+        Date createdAt,
+        String employerName
+) {}
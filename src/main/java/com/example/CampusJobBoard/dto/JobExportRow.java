@@ -0,0 +1,26 @@
+package com.example.CampusJobBoard.dto;
+
+import com.example.CampusJobBoard.entities.Job;
+
+import java.util.Date;
+
+/**
+ * One job as written by the admin export.
+ *
+ * <p>Built by a constructor projection, so exported rows are never managed
+ * entities and the persistence context does not grow while streaming.</p>
+ */
+public record JobExportRow(
+        Long jobId,
+        String jobTitle,
+        String category,
+        String location,
+        int salary,
+        Date deadline,
+        Job.Status status,
+        Date createdAt,
+        Date updatedAt,
+        Long employerId,
+        String employerName,
+        String employerEmail
+) {}
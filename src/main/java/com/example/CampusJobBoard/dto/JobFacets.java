@@ -0,0 +1,19 @@
+package com.example.CampusJobBoard.dto;
+
+import java.util.List;
+
+/**
+ * Precomputed facet counts over the approved job catalog.
+ *
+ * @param categories  counts per category, most common first
+ * @param locations   counts per location, most common first
+ * @param salaryBands counts per salary band, lowest band first
+ * @param deadlines   counts per deadline window, soonest first; the windows do
+ *                    not overlap, so each job is counted in exactly one
+ */
+public record JobFacets(
+        List<FacetCount> categories,
+        List<FacetCount> locations,
+        List<FacetCount> salaryBands,
+        List<FacetCount> deadlines
+) {}
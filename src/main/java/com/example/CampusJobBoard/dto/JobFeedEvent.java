@@ -0,0 +1,31 @@
+package com.example.CampusJobBoard.dto;
+
+import java.util.Date;
+
+/**
+ * Payload pushed to students on the live job feed when a job is approved.
+ * Leaves out the description to keep each event small; clients fetch the
+ * full job when it is opened.
+ */
+public record JobFeedEvent(
+        Long jobId,
+        String jobTitle,
+        String category,
+        String location,
+        int salary,
+        Date deadline,
+        String employerName
+) {
+
+    public static JobFeedEvent from(JobListing listing) {
+        return new JobFeedEvent(
+                listing.jobId(),
+                listing.jobTitle(),
+                listing.category(),
+                listing.location(),
+                listing.salary(),
+                listing.deadline(),
+                listing.employerName()
+        );
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.CampusJobBoard.dto;
+
+import java.util.Date;
+
+/**
+ * Optional filters applied to the approved job listing.
+ * Any field left null is ignored by the query.
+ *
+ * <p>Salary bounds are inclusive. deadlineFrom is inclusive and deadlineTo is
+ * exclusive, so a whole calendar day can be expressed as [day, day + 1).</p>
+ */
+public record JobFilter(
+        String category,
+        String location,
+        Integer minSalary,
+        Integer maxSalary,
+        Date deadlineFrom,
+        Date deadlineTo
+) {
+
+    /** Filter that matches every approved job. */
+    public static JobFilter none() {
+        return new JobFilter(null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.CampusJobBoard.dto;
+
+import com.example.CampusJobBoard.entities.Job;
+
+import java.util.Date;
+
+/**
+ * Immutable, read-only view of an approved job as shown in listings.
+ *
+ * <p>Unlike the Job entity it carries no lazy associations, so it can be
+ * cached and shared between requests and serialized safely. JobRepository
+ * builds it directly with a constructor projection, selecting only these
+ * columns plus the employer's name through a single join. The description is
+ * left out because listings never show it; {@link JobDetail} carries it for
+ * the job detail view.</p>
+ */
+public record JobListing(
+        Long jobId,
+        String jobTitle,
+        String location,
+        String category,
+        int salary,
+        Date deadline,
+        Date createdAt,
+        String employerName
+) {
+
+    /**
+     * Copies the listing fields out of a job entity.
+     * Touches the employer association, so call it while the job's session is open.
+     */
+    public static JobListing from(Job job) {
+        return new JobListing(
+                job.getJobId(),
+                job.getJobTitle(),
+                job.getLocation(),
+                job.getCategory(),
+                job.getSalary(),
+                job.getDeadline(),
+                job.getCreatedAt(),
+                job.getUser() == null ? null : job.getUser().getFullName()
+        );
+    }
+}
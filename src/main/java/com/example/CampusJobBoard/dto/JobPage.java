@@ -0,0 +1,14 @@
+package com.example.CampusJobBoard.dto;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated listing (approved jobs, or a student's applications).
+ *
+ * @param items      rows on this page, newest first
+ * @param nextCursor token for the following page, or null when this is the last page
+ */
+public record JobPage<T>(
+        List<T> items,
+        String nextCursor
+) {}
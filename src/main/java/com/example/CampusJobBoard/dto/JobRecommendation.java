@@ -0,0 +1,18 @@
+package com.example.CampusJobBoard.dto;
+
+import java.util.Date;
+
+/**
+ * An approved job recommended to a student, with its relevance score
+ * (higher is better; only meaningful relative to other results of the same request).
+ */
+public record JobRecommendation(
+        Long jobId,
+        String jobTitle,
+        String category,
+        String location,
+        int salary,
+        Date deadline,
+        String employerName,
+        double score
+) {}
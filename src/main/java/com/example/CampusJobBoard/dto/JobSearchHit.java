@@ -0,0 +1,14 @@
+package com.example.CampusJobBoard.dto;
+
+/**
+ * A single ranked result from the job search endpoint.
+ * Built from the in-memory index, so returning it needs no database access.
+ */
+public record JobSearchHit(
+        Long jobId,
+        String jobTitle,
+        String category,
+        String location,
+        int salary,
+        double score
+) {}
@@ -0,0 +1,10 @@
+package com.example.CampusJobBoard.dto;
+
+/**
+ * One typeahead completion for the job search box.
+ *
+ * @param text  the title, category or location as it appears on the jobs
+ * @param type  which field it came from: "title", "category" or "location"
+ * @param count number of approved jobs carrying this value
+ */
+public record JobSuggestion(String text, String type, int count) {}
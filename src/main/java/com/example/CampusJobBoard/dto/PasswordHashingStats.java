@@ -0,0 +1,16 @@
+package com.example.CampusJobBoard.dto;
+
+/**
+ * Counters for the password-hashing pool, used to see whether logins are
+ * queueing behind BCrypt and how long one hash takes at the current cost.
+ */
+public record PasswordHashingStats(
+        int strength,
+        int threads,
+        int active,
+        int queued,
+        long completed,
+        long rejected,
+        double avgQueueWaitMs,
+        double avgHashMs
+) {}
@@ -0,0 +1,17 @@
+package com.example.CampusJobBoard.dto;
+
+import java.util.Map;
+
+/**
+ * Counters for the per-user API rate limiter. Rejections are keyed by
+ * role and endpoint group, e.g. {@code STUDENT.SUBMIT}.
+ *
+ * @param evictedBuckets buckets dropped because {@code max-buckets} was exceeded
+ */
+public record RateLimitStats(
+        int activeBuckets,
+        long evictedBuckets,
+        long allowed,
+        long rejected,
+        Map<String, Long> rejectedByQuota
+) {}
@@ -0,0 +1,20 @@
+package com.example.CampusJobBoard.dto;
+
+import com.example.CampusJobBoard.entities.JobApplication;
+
+import java.util.Date;
+
+/**
+ * One row of a student's "my applications" list, read in a single query.
+ *
+ * @param decidedAt when the status last changed (equal to submittedAt until the employer decides)
+ */
+public record StudentApplication(
+        Long applicationId,
+        Long jobId,
+        String jobTitle,
+        String employerName,
+        JobApplication.Status status,
+        Date submittedAt,
+        Date decidedAt
+) {}
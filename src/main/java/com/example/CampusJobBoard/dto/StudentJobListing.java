@@ -0,0 +1,34 @@
+package com.example.CampusJobBoard.dto;
+
+import java.util.Date;
+
+/**
+ * A job listing as shown to one student, marked if they have already applied.
+ * The shared {@link JobListing} stays user-independent so it can be cached.
+ */
+public record StudentJobListing(
+        Long jobId,
+        String jobTitle,
+        String location,
+        String category,
+        int salary,
+        Date deadline,
+        Date createdAt,
+        String employerName,
+        boolean applied
+) {
+
+    public static StudentJobListing of(JobListing listing, boolean applied) {
+        return new StudentJobListing(
+                listing.jobId(),
+                listing.jobTitle(),
+                listing.location(),
+                listing.category(),
+                listing.salary(),
+                listing.deadline(),
+                listing.createdAt(),
+                listing.employerName(),
+                applied
+        );
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.CampusJobBoard.dto;
+
+/**
+ * Counters for the verified-token cache, used to confirm that repeat
+ * requests skip JWT signature verification.
+ */
+public record TokenCacheStats(
+        boolean enabled,
+        int size,
+        long hits,
+        long misses,
+        long evictions,
+        double hitRatio
+) {}
@@ -0,0 +1,17 @@
+package com.example.CampusJobBoard.dto;
+
+import com.example.CampusJobBoard.entities.User;
+
+/**
+ * Who a signed-in caller is, without the password hash or relations.
+ * Kept in memory by UserSnapshotCache so controllers can resolve the
+ * principal's email without a query.
+ */
+public record UserSnapshot(
+        Long userId,
+        String fullName,
+        String email,
+        User.Role role,
+        User.Status status,
+        boolean mustUpdateProfile
+) {}
@@ -1,12 +1,25 @@
 package com.example.CampusJobBoard.entities;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.util.Date;
 import java.util.Set;
 
 @Entity
-@Table(name="job")
+@Table(name="job", indexes = {
+        // keyset pagination of the approved listing: WHERE status = ? ORDER BY CreatedAt DESC, JobId DESC
+        @Index(name = "idx_job_status_created", columnList = "status, CreatedAt, JobId"),
+        // equality filters, still in listing order so a filtered page is a seek without a sort
+        @Index(name = "idx_job_status_category_created", columnList = "status, Category, CreatedAt, JobId"),
+        @Index(name = "idx_job_status_location_created", columnList = "status, Location, CreatedAt, JobId"),
+        // range filters (cannot also give the order; used when they match few rows)
+        @Index(name = "idx_job_status_salary", columnList = "status, Salary"),
+        @Index(name = "idx_job_status_deadline", columnList = "status, Deadline"),
+        // an employer's postings, newest first
+        @Index(name = "idx_job_employer_created", columnList = "UserId, CreatedAt, JobId")
+})
 public class Job {
 
     @Id
@@ -26,9 +39,12 @@ public class Job {
     private Date Deadline;
 
     public enum Status {
-        PENDING, APPROVED, REJECTED
+        PENDING, APPROVED, REJECTED, EXPIRED
     };
+    // plain VARCHAR rather than MySQL's ENUM type, so adding a status needs no ALTER
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(length = 16)
     private Status status;
 
     private Date CreatedAt;
@@ -45,6 +61,21 @@ public class Job {
 
 
 
+    // keeps CreatedAt populated so every row has a usable pagination key
+    @PrePersist
+    protected void onCreate() {
+        Date now = new Date();
+        if (CreatedAt == null) {
+            CreatedAt = now;
+        }
+        UpdatedAt = now;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        UpdatedAt = new Date();
+    }
+
     // GETTERS AND SETTERS //
 
     public Long getJobId() {
@@ -87,6 +118,14 @@ public class Job {
         Category = category;
     }
 
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
     public Date getUpdatedAt() {
         return UpdatedAt;
     }
@@ -1,18 +1,41 @@
 package com.example.CampusJobBoard.entities;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.util.Date;
 
 @Entity
-@Table(name="JobApplication")
+@Table(name="JobApplication",
+        uniqueConstraints = @UniqueConstraint(name = "uk_application_user_job", columnNames = {"UserId", "JobId"}),
+        indexes = {
+                // keyset pagination of a student's applications: WHERE UserId = ? ORDER BY id DESC
+                @Index(name = "idx_application_user", columnList = "UserId, jobApplicationId"),
+                // an employer's applicants per job, newest first: WHERE JobId = ? ORDER BY id DESC
+                @Index(name = "idx_application_job", columnList = "JobId, jobApplicationId"),
+                // the same in one status: WHERE JobId = ? AND status = ? ORDER BY id DESC
+                @Index(name = "idx_application_job_status", columnList = "JobId, status, jobApplicationId"),
+                // an employer's applicants across all their jobs: WHERE EmployerId = ? ORDER BY id DESC
+                @Index(name = "idx_application_employer", columnList = "EmployerId, jobApplicationId"),
+                @Index(name = "idx_application_employer_status", columnList = "EmployerId, status, jobApplicationId")
+        })
 public class JobApplication {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long jobApplicationId;
 
-    public enum status {
+    public enum Status {
         SUBMITTED, ACCEPTED, REJECTED
     }
+    // the default fills rows that existed before the column did
+    @Enumerated(EnumType.STRING)
+    @ColumnDefault("'SUBMITTED'")
+    private Status status = Status.SUBMITTED;
+
+    private Date SubmittedAt;
+
+    private Date UpdatedAt;
 
     // connect to user table
     @ManyToOne(fetch = FetchType.LAZY)
@@ -24,7 +47,26 @@ public class JobApplication {
     @JoinColumn(name="JobId")
     private Job job;
 
+    // the job's employer, copied so an employer's applicants are read without joining every posting
+    private Long EmployerId;
+
+
+    @PrePersist
+    protected void onCreate() {
+        Date now = new Date();
+        if (SubmittedAt == null) {
+            SubmittedAt = now;
+        }
+        if (EmployerId == null && job != null && job.getUser() != null) {
+            EmployerId = job.getUser().getUserId();
+        }
+        UpdatedAt = now;
+    }
 
+    @PreUpdate
+    protected void onUpdate() {
+        UpdatedAt = new Date();
+    }
 
     // GETTERS AND SETTERS //
 
@@ -52,5 +94,37 @@ public class JobApplication {
         this.job = job;
     }
 
+    public Long getEmployerId() {
+        return EmployerId;
+    }
+
+    public void setEmployerId(Long employerId) {
+        EmployerId = employerId;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    public Date getSubmittedAt() {
+        return SubmittedAt;
+    }
+
+    public void setSubmittedAt(Date submittedAt) {
+        SubmittedAt = submittedAt;
+    }
+
+    public Date getUpdatedAt() {
+        return UpdatedAt;
+    }
+
+    public void setUpdatedAt(Date updatedAt) {
+        UpdatedAt = updatedAt;
+    }
+
 
 }
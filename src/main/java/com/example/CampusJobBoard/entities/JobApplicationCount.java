@@ -0,0 +1,78 @@
+package com.example.CampusJobBoard.entities;
+
+import jakarta.persistence.*;
+
+import java.util.Date;
+
+/**
+ * Denormalized application counts for one job, so "N applicants" never needs
+ * the job's application collection. Written in batches by
+ * JobApplicationCounters and recounted from job_application on startup.
+ */
+@Entity
+@Table(name = "job_application_count")
+public class JobApplicationCount {
+
+    @Id
+    private Long JobId;
+
+    private long Total;
+
+    private long Submitted;
+
+    private long Accepted;
+
+    private long Rejected;
+
+    private Date UpdatedAt;
+
+    // GETTERS AND SETTERS //
+
+    public Long getJobId() {
+        return JobId;
+    }
+
+    public void setJobId(Long jobId) {
+        JobId = jobId;
+    }
+
+    public long getTotal() {
+        return Total;
+    }
+
+    public void setTotal(long total) {
+        Total = total;
+    }
+
+    public long getSubmitted() {
+        return Submitted;
+    }
+
+    public void setSubmitted(long submitted) {
+        Submitted = submitted;
+    }
+
+    public long getAccepted() {
+        return Accepted;
+    }
+
+    public void setAccepted(long accepted) {
+        Accepted = accepted;
+    }
+
+    public long getRejected() {
+        return Rejected;
+    }
+
+    public void setRejected(long rejected) {
+        Rejected = rejected;
+    }
+
+    public Date getUpdatedAt() {
+        return UpdatedAt;
+    }
+
+    public void setUpdatedAt(Date updatedAt) {
+        UpdatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.CampusJobBoard.events;
+
+import com.example.CampusJobBoard.entities.JobApplication;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Published by ApplicationService after an employer accepts or rejects applications.
+ *
+ * @param userIds        the students whose applications changed, without duplicates
+ * @param changedPerJob  number of applications that changed, per job id
+ * @param previousStatus the status the applications moved from
+ * @param status         the status the applications moved to
+ */
+public record ApplicationStatusChangedEvent(List<Long> userIds,
+                                            Map<Long, Integer> changedPerJob,
+                                            JobApplication.Status previousStatus,
+                                            JobApplication.Status status) {}
@@ -0,0 +1,9 @@
+package com.example.CampusJobBoard.events;
+
+/**
+ * Published by ApplicationService after a student's job application is saved.
+ *
+ * @param userId the applying student
+ * @param jobId  the job applied to
+ */
+public record ApplicationSubmittedEvent(Long userId, Long jobId) {}
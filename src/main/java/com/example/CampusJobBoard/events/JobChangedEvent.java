@@ -0,0 +1,29 @@
+package com.example.CampusJobBoard.events;
+
+import com.example.CampusJobBoard.dto.JobListing;
+import com.example.CampusJobBoard.entities.Job;
+
+/**
+ * Published by JobService whenever a job is created, edited or changes status.
+ *
+ * <p>In-memory read models (search index, caches) listen for this event after
+ * the transaction commits and update themselves incrementally instead of
+ * reloading the whole catalog.</p>
+ *
+ * @param job            the job as it was saved
+ * @param listing        listing view of the job, built inside the transaction so
+ *                       listeners never need to touch lazy associations
+ * @param previousStatus status before the change, or null for a new job.
+ *                       Equal to the current status when only content was edited.
+ */
+public record JobChangedEvent(Job job, JobListing listing, Job.Status previousStatus) {
+
+    public JobChangedEvent(Job job, Job.Status previousStatus) {
+        this(job, JobListing.from(job), previousStatus);
+    }
+
+    /** True if this change moved the job into the given status. */
+    public boolean enteredStatus(Job.Status status) {
+        return job.getStatus() == status && previousStatus != status;
+    }
+}
@@ -1,6 +1,9 @@
 package com.example.CampusJobBoard.exceptions;
 
 import com.example.CampusJobBoard.exceptions.ValidationException;
+import com.example.CampusJobBoard.security.PasswordHashingBusyException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -30,5 +33,13 @@ public class GlobalExceptionHandler {
     public ResponseEntity<?> handleCustomValidation(ValidationException ex) {
         return ResponseEntity.badRequest().body(ex.getErrors());
     }
+
+    // Password-hashing pool saturated (login bursts)
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<?> handleHashingBusy(PasswordHashingBusyException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of("error", ex.getMessage()));
+    }
 }
 
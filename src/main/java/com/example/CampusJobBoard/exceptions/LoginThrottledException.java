@@ -0,0 +1,20 @@
+package com.example.CampusJobBoard.exceptions;
+
+/**
+ * Thrown when a login is refused because its email or client IP is locked out
+ * after too many failures. Extends IllegalStateException so callers report it
+ * like any other failed login.
+ */
+public class LoginThrottledException extends IllegalStateException {
+
+    private final long retryAfterSeconds;
+
+    public LoginThrottledException(long retryAfterSeconds) {
+        super("Too many failed login attempts. Try again in " + retryAfterSeconds + " seconds.");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
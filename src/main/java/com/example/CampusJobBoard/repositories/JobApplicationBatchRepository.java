@@ -0,0 +1,27 @@
+package com.example.CampusJobBoard.repositories;
+
+import java.util.List;
+
+/**
+ * Bulk write operations on job applications that bypass entity loading.
+ * Mixed into {@link JobApplicationRepository}.
+ */
+public interface JobApplicationBatchRepository {
+
+    /** One application row to insert. */
+    record NewApplication(Long userId, Long jobId) {}
+
+    /**
+     * Inserts one application per job for the user in a single multi-row INSERT.
+     *
+     * @return number of rows inserted
+     */
+    int insertAll(Long userId, List<Long> jobIds);
+
+    /**
+     * Inserts applications from any number of users in a single multi-row INSERT.
+     *
+     * @return number of rows inserted
+     */
+    int insertAll(List<NewApplication> applications);
+}
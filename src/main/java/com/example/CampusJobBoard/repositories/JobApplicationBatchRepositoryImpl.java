@@ -0,0 +1,62 @@
+package com.example.CampusJobBoard.repositories;
+
+import com.example.CampusJobBoard.entities.JobApplication;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * JDBC implementation of {@link JobApplicationBatchRepository}.
+ *
+ * <p>JobApplication ids are IDENTITY-generated, which stops Hibernate from
+ * batching inserts, so the rows are written with one multi-row statement
+ * instead. It joins the surrounding Spring transaction like any repository call.</p>
+ */
+class JobApplicationBatchRepositoryImpl implements JobApplicationBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    JobApplicationBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public int insertAll(Long userId, List<Long> jobIds) {
+        return insert(jobIds.size(), i -> userId, jobIds::get);
+    }
+
+    @Override
+    public int insertAll(List<NewApplication> applications) {
+        return insert(applications.size(),
+                i -> applications.get(i).userId(),
+                i -> applications.get(i).jobId());
+    }
+
+    private int insert(int rows, IntFunction<Long> userId, IntFunction<Long> jobId) {
+        if (rows == 0) {
+            return 0;
+        }
+
+        // same initial status, timestamps and employer id the entity's @PrePersist would set;
+        // the employer comes from the job's primary key, one lookup per row
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO job_application (user_id, job_id, employer_id, status, submitted_at, updated_at) VALUES ");
+        String status = JobApplication.Status.SUBMITTED.name();
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        Object[] args = new Object[rows * 6];
+        for (int i = 0; i < rows; i++) {
+            sql.append(i == 0 ? "" : ", ")
+                    .append("(?, ?, (SELECT j.user_id FROM job j WHERE j.job_id = ?), ?, ?, ?)");
+            Long job = jobId.apply(i);
+            args[i * 6] = userId.apply(i);
+            args[i * 6 + 1] = job;
+            args[i * 6 + 2] = job;
+            args[i * 6 + 3] = status;
+            args[i * 6 + 4] = now;
+            args[i * 6 + 5] = now;
+        }
+        return jdbcTemplate.update(sql.toString(), args);
+    }
+}
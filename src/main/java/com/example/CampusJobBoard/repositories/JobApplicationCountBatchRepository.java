@@ -0,0 +1,25 @@
+package com.example.CampusJobBoard.repositories;
+
+import java.util.List;
+
+/**
+ * Bulk writes to the per-job application counters.
+ * Mixed into {@link JobApplicationCountRepository}.
+ */
+public interface JobApplicationCountBatchRepository {
+
+    /** Change to one job's counters since the last flush. */
+    record CountDelta(Long jobId, long total, long submitted, long accepted, long rejected) {}
+
+    /**
+     * Adds the deltas to the stored counters in a single multi-row upsert,
+     * creating rows for jobs that have none yet.
+     */
+    void addAll(List<CountDelta> deltas);
+
+    /**
+     * Replaces every counter row with exact counts from job_application.
+     * Must run inside a transaction.
+     */
+    void recountAll();
+}
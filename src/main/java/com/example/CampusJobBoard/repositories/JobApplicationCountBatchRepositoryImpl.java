@@ -0,0 +1,71 @@
+package com.example.CampusJobBoard.repositories;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * JDBC implementation of {@link JobApplicationCountBatchRepository}.
+ *
+ * <p>Deltas are added with MySQL's INSERT ... ON DUPLICATE KEY UPDATE, so a
+ * flush is one statement however many jobs changed and never reads the rows
+ * first. The recount is a DELETE plus an INSERT ... SELECT grouped by job.</p>
+ */
+class JobApplicationCountBatchRepositoryImpl implements JobApplicationCountBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    JobApplicationCountBatchRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void addAll(List<CountDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        StringBuilder sql = new StringBuilder("""
+                INSERT INTO job_application_count (job_id, total, submitted, accepted, rejected, updated_at)
+                VALUES\s""");
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        Object[] args = new Object[deltas.size() * 6];
+        for (int i = 0; i < deltas.size(); i++) {
+            CountDelta delta = deltas.get(i);
+            sql.append(i == 0 ? "(?, ?, ?, ?, ?, ?)" : ", (?, ?, ?, ?, ?, ?)");
+            args[i * 6] = delta.jobId();
+            args[i * 6 + 1] = delta.total();
+            args[i * 6 + 2] = delta.submitted();
+            args[i * 6 + 3] = delta.accepted();
+            args[i * 6 + 4] = delta.rejected();
+            args[i * 6 + 5] = now;
+        }
+        sql.append("""
+                 ON DUPLICATE KEY UPDATE
+                    total = total + VALUES(total),
+                    submitted = submitted + VALUES(submitted),
+                    accepted = accepted + VALUES(accepted),
+                    rejected = rejected + VALUES(rejected),
+                    updated_at = VALUES(updated_at)
+                """);
+        jdbcTemplate.update(sql.toString(), args);
+    }
+
+    @Override
+    public void recountAll() {
+        jdbcTemplate.update("DELETE FROM job_application_count");
+        jdbcTemplate.update("""
+                INSERT INTO job_application_count (job_id, total, submitted, accepted, rejected, updated_at)
+                SELECT job_id,
+                       COUNT(*),
+                       SUM(CASE WHEN status = 'SUBMITTED' OR status IS NULL THEN 1 ELSE 0 END),
+                       SUM(CASE WHEN status = 'ACCEPTED' THEN 1 ELSE 0 END),
+                       SUM(CASE WHEN status = 'REJECTED' THEN 1 ELSE 0 END),
+                       CURRENT_TIMESTAMP
+                FROM job_application
+                WHERE job_id IS NOT NULL
+                GROUP BY job_id
+                """);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.CampusJobBoard.repositories;
+
+import com.example.CampusJobBoard.entities.JobApplicationCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface JobApplicationCountRepository extends JpaRepository<JobApplicationCount, Long>,
+        JobApplicationCountBatchRepository {
+}
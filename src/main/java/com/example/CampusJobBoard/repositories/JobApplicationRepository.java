@@ -1,15 +1,214 @@
 package com.example.CampusJobBoard.repositories;
 
+import com.example.CampusJobBoard.dto.ApplicationExportRow;
+import com.example.CampusJobBoard.dto.JobApplicant;
+import com.example.CampusJobBoard.dto.StudentApplication;
 import com.example.CampusJobBoard.entities.Job;
 import com.example.CampusJobBoard.entities.JobApplication;
 import com.example.CampusJobBoard.entities.User;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface JobApplicationRepository extends JpaRepository<JobApplication, Long> {
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+public interface JobApplicationRepository extends JpaRepository<JobApplication, Long>,
+        JobApplicationBatchRepository {
     Optional<JobApplication> findById(Long jobApplicationId);
 
+    /** One (student, job) pair. */
+    interface AppliedJob {
+        Long getUserId();
+        Long getJobId();
+    }
+
+    /** One application with its (student, job) pair. */
+    interface ApplicationKey extends AppliedJob {
+        Long getApplicationId();
+    }
+
+    /** Who applied to which job, with the job attributes the recommender learns from. */
+    interface ApplicationHistory {
+        Long getUserId();
+        Long getJobId();
+        String getCategory();
+        String getLocation();
+        Integer getSalary();
+    }
+
     List<JobApplication> findByUser(User user);
+
+    /**
+     * Keyset page of the student's applications with job, employer and status,
+     * newest first, in one query. Starts strictly after the cursor id (null for
+     * the first page) and is served by idx_application_user.
+     */
+    @Query("""
+            SELECT new com.example.CampusJobBoard.dto.StudentApplication(
+                a.jobApplicationId, j.JobId, j.JobTitle, e.fullName, a.status, a.SubmittedAt, a.UpdatedAt)
+            FROM JobApplication a JOIN a.job j LEFT JOIN j.user e
+            WHERE a.user.userId = :userId
+              AND (:cursorId IS NULL OR a.jobApplicationId < :cursorId)
+            ORDER BY a.jobApplicationId DESC
+            """)
+    List<StudentApplication> findStudentApplicationsPage(@Param("userId") Long userId,
+                                                         @Param("cursorId") Long cursorId,
+                                                         Limit limit);
+
+    /**
+     * Keyset page of one job's applicants, newest first. Served in order by
+     * idx_application_job.
+     */
+    @Query("""
+            SELECT new com.example.CampusJobBoard.dto.JobApplicant(
+                a.jobApplicationId, j.JobId, j.JobTitle, u.userId, u.fullName, u.email,
+                a.status, a.SubmittedAt, a.UpdatedAt)
+            FROM JobApplication a JOIN a.job j JOIN a.user u
+            WHERE j.JobId = :jobId
+              AND (:cursorId IS NULL OR a.jobApplicationId < :cursorId)
+            ORDER BY a.jobApplicationId DESC
+            """)
+    List<JobApplicant> findApplicantsPage(@Param("jobId") Long jobId,
+                                          @Param("cursorId") Long cursorId,
+                                          Limit limit);
+
+    /**
+     * Keyset page of one job's applicants in one status, newest first. Served
+     * in order by idx_application_job_status.
+     */
+    @Query("""
+            SELECT new com.example.CampusJobBoard.dto.JobApplicant(
+                a.jobApplicationId, j.JobId, j.JobTitle, u.userId, u.fullName, u.email,
+                a.status, a.SubmittedAt, a.UpdatedAt)
+            FROM JobApplication a JOIN a.job j JOIN a.user u
+            WHERE j.JobId = :jobId AND a.status = :status
+              AND (:cursorId IS NULL OR a.jobApplicationId < :cursorId)
+            ORDER BY a.jobApplicationId DESC
+            """)
+    List<JobApplicant> findApplicantsPageInStatus(@Param("jobId") Long jobId,
+                                                  @Param("status") JobApplication.Status status,
+                                                  @Param("cursorId") Long cursorId,
+                                                  Limit limit);
+
+    /**
+     * Keyset page of the applicants across all of an employer's jobs, newest
+     * first. Reads idx_application_employer in order on the denormalized
+     * EmployerId, so it stops after one page instead of joining every posting.
+     */
+    @Query("""
+            SELECT new com.example.CampusJobBoard.dto.JobApplicant(
+                a.jobApplicationId, j.JobId, j.JobTitle, u.userId, u.fullName, u.email,
+                a.status, a.SubmittedAt, a.UpdatedAt)
+            FROM JobApplication a JOIN a.job j JOIN a.user u
+            WHERE a.EmployerId = :employerId
+              AND (:cursorId IS NULL OR a.jobApplicationId < :cursorId)
+            ORDER BY a.jobApplicationId DESC
+            """)
+    List<JobApplicant> findEmployerApplicantsPage(@Param("employerId") Long employerId,
+                                                  @Param("cursorId") Long cursorId,
+                                                  Limit limit);
+
+    /**
+     * Keyset page of the applicants across all of an employer's jobs in one
+     * status, newest first. Served in order by idx_application_employer_status.
+     */
+    @Query("""
+            SELECT new com.example.CampusJobBoard.dto.JobApplicant(
+                a.jobApplicationId, j.JobId, j.JobTitle, u.userId, u.fullName, u.email,
+                a.status, a.SubmittedAt, a.UpdatedAt)
+            FROM JobApplication a JOIN a.job j JOIN a.user u
+            WHERE a.EmployerId = :employerId AND a.status = :status
+              AND (:cursorId IS NULL OR a.jobApplicationId < :cursorId)
+            ORDER BY a.jobApplicationId DESC
+            """)
+    List<JobApplicant> findEmployerApplicantsPageInStatus(@Param("employerId") Long employerId,
+                                                          @Param("status") JobApplication.Status status,
+                                                          @Param("cursorId") Long cursorId,
+                                                          Limit limit);
+
+    /**
+     * The given applications that are still in {@code status} and belong to
+     * one of the employer's jobs, locked with SELECT ... FOR UPDATE until the
+     * transaction ends. A concurrent decision on the same rows waits and then
+     * no longer finds them in {@code status}.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT a.jobApplicationId AS applicationId, a.user.userId AS userId, a.job.JobId AS jobId
+            FROM JobApplication a
+            WHERE a.jobApplicationId IN :ids AND a.status = :status
+              AND a.EmployerId = :employerId
+            """)
+    List<ApplicationKey> lockInStatusForEmployer(@Param("ids") List<Long> ids,
+                                                 @Param("employerId") Long employerId,
+                                                 @Param("status") JobApplication.Status status);
+
+    /** Set-based status transition for applications already locked by #lockInStatusForEmployer. */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            UPDATE JobApplication a SET a.status = :to, a.UpdatedAt = :now
+            WHERE a.jobApplicationId IN :ids
+            """)
+    int updateStatus(@Param("ids") List<Long> ids,
+                     @Param("to") JobApplication.Status to,
+                     @Param("now") Date now);
+
+    /**
+     * Every (student, job) pair, for the in-memory duplicate guard. Streamed
+     * from the driver like #streamAllForExport.
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a.user.userId AS userId, a.job.JobId AS jobId FROM JobApplication a")
+    Stream<AppliedJob> streamAllAppliedJobs();
+
+    // which of the given jobs the student has already applied to
+    @Query("SELECT a.job.JobId FROM JobApplication a WHERE a.user.userId = :userId AND a.job.JobId IN :jobIds")
+    List<Long> findAppliedJobIds(@Param("userId") Long userId, @Param("jobIds") List<Long> jobIds);
+
+    /**
+     * Every application in submission order, for building recommendation
+     * profiles at startup. Streamed from the driver like #streamAllForExport.
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            SELECT u.userId AS userId, j.JobId AS jobId, j.Category AS category,
+                   j.Location AS location, j.Salary AS salary
+            FROM JobApplication a JOIN a.user u JOIN a.job j
+            ORDER BY a.jobApplicationId
+            """)
+    Stream<ApplicationHistory> streamAllHistory();
+
+    /**
+     * Every application with its job title and student, in id order, for the
+     * admin export. Streamed from the driver like JobRepository#streamAllForExport.
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            SELECT new com.example.CampusJobBoard.dto.ApplicationExportRow(
+                a.jobApplicationId, j.JobId, j.JobTitle, u.userId, u.fullName, u.email)
+            FROM JobApplication a LEFT JOIN a.job j LEFT JOIN a.user u
+            ORDER BY a.jobApplicationId
+            """)
+    Stream<ApplicationExportRow> streamAllForExport();
 }
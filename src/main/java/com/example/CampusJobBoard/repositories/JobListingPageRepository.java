@@ -0,0 +1,21 @@
+package com.example.CampusJobBoard.repositories;
+
+import com.example.CampusJobBoard.dto.JobCursor;
+import com.example.CampusJobBoard.dto.JobFilter;
+import com.example.CampusJobBoard.dto.JobListing;
+import com.example.CampusJobBoard.entities.Job;
+
+import java.util.List;
+
+/**
+ * Keyset pages of the job listing with optional filters.
+ * Mixed into {@link JobRepository}.
+ */
+public interface JobListingPageRepository {
+
+    /**
+     * Listing rows with the given status, newest first, starting strictly
+     * after {@code after} (null for the first page). Null filters are ignored.
+     */
+    List<JobListing> findPageByStatus(Job.Status status, JobFilter filter, JobCursor after, int limit);
+}
@@ -0,0 +1,71 @@
+package com.example.CampusJobBoard.repositories;
+
+import com.example.CampusJobBoard.dto.JobCursor;
+import com.example.CampusJobBoard.dto.JobFilter;
+import com.example.CampusJobBoard.dto.JobListing;
+import com.example.CampusJobBoard.entities.Job;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JPQL implementation of {@link JobListingPageRepository}.
+ *
+ * <p>The WHERE clause holds only the filters that are set, so a filtered page
+ * is a plain equality prefix plus the keyset condition and MySQL can seek
+ * through idx_job_status_created or one of the (status, filter, CreatedAt,
+ * JobId) indexes without a sort. A catch-all {@code :x IS NULL OR ...} query
+ * would leave the optimizer one plan for every combination.</p>
+ *
+ * <p>The keyset condition is the row-value comparison
+ * {@code (CreatedAt, JobId) < (?, ?)}. The redundant {@code CreatedAt <= ?}
+ * in front of it gives the optimizer a range on the index even where it does
+ * not use row values for ranges itself.</p>
+ */
+class JobListingPageRepositoryImpl implements JobListingPageRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<JobListing> findPageByStatus(Job.Status status, JobFilter filter, JobCursor after, int limit) {
+        StringBuilder jpql = new StringBuilder("""
+                SELECT new com.example.CampusJobBoard.dto.JobListing(
+                    j.JobId, j.JobTitle, j.Location, j.Category,
+                    j.Salary, j.Deadline, j.CreatedAt, u.fullName)
+                FROM Job j LEFT JOIN j.user u
+                WHERE j.status = :status""");
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("status", status);
+
+        where(jpql, params, "j.Category = :category", "category", filter.category());
+        where(jpql, params, "j.Location = :location", "location", filter.location());
+        where(jpql, params, "j.Salary >= :minSalary", "minSalary", filter.minSalary());
+        where(jpql, params, "j.Salary <= :maxSalary", "maxSalary", filter.maxSalary());
+        where(jpql, params, "j.Deadline >= :deadlineFrom", "deadlineFrom", filter.deadlineFrom());
+        where(jpql, params, "j.Deadline < :deadlineTo", "deadlineTo", filter.deadlineTo());
+        if (after != null) {
+            jpql.append("\n  AND j.CreatedAt <= :cursorCreatedAt")
+                .append("\n  AND (j.CreatedAt, j.JobId) < (:cursorCreatedAt, :cursorJobId)");
+            params.put("cursorCreatedAt", after.createdAt());
+            params.put("cursorJobId", after.jobId());
+        }
+        jpql.append("\nORDER BY j.CreatedAt DESC, j.JobId DESC");
+
+        TypedQuery<JobListing> query = entityManager.createQuery(jpql.toString(), JobListing.class);
+        params.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    private static void where(StringBuilder jpql, Map<String, Object> params,
+                              String condition, String name, Object value) {
+        if (value != null) {
+            jpql.append("\n  AND ").append(condition);
+            params.put(name, value);
+        }
+    }
+}
@@ -1,15 +1,156 @@
 package com.example.CampusJobBoard.repositories;
 
+import com.example.CampusJobBoard.dto.EmployerPosting;
+import com.example.CampusJobBoard.dto.JobDetail;
+import com.example.CampusJobBoard.dto.JobExportRow;
+import com.example.CampusJobBoard.dto.JobListing;
 import com.example.CampusJobBoard.entities.Job;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 
+import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface JobRepository extends JpaRepository<Job, Long> {
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
+
+public interface JobRepository extends JpaRepository<Job, Long>, JobListingPageRepository {
     Optional<Job> findById(Long JobId);
 
+    /** Id and deadline of a job, used by the expiry scheduler. */
+    interface JobDeadline {
+        Long getJobId();
+        Date getDeadline();
+    }
+
+    /** Id and description of a job, used by the search index. */
+    interface JobDescription {
+        Long getJobId();
+        String getDescription();
+    }
+
     // find job by its status
     List<Job> findByStatus(Job.Status status);
+
+    /**
+     * Listing rows for every job with the given status.
+     * Selects only the listing columns and the employer name in one query.
+     */
+    @Query("""
+            SELECT new com.example.CampusJobBoard.dto.JobListing(
+                j.JobId, j.JobTitle, j.Location, j.Category,
+                j.Salary, j.Deadline, j.CreatedAt, u.fullName)
+            FROM Job j LEFT JOIN j.user u
+            WHERE j.status = :status
+            """)
+    List<JobListing> findListingsByStatus(@Param("status") Job.Status status);
+
+    // descriptions of every job with the given status, for the search index
+    @Query("SELECT j.JobId AS jobId, j.Description AS description FROM Job j WHERE j.status = :status")
+    List<JobDescription> findDescriptionsByStatus(@Param("status") Job.Status status);
+
+    // one job with its description and employer name, if it has the given status
+    @Query("""
+            SELECT new com.example.CampusJobBoard.dto.JobDetail(
+                j.JobId, j.JobTitle, j.Description, j.Location, j.Category,
+                j.Salary, j.Deadline, j.CreatedAt, u.fullName)
+            FROM Job j LEFT JOIN j.user u
+            WHERE j.JobId = :jobId AND j.status = :status
+            """)
+    Optional<JobDetail> findDetailByIdAndStatus(@Param("jobId") Long jobId, @Param("status") Job.Status status);
+
+    /**
+     * Ids of jobs in the given status whose deadline is before {@code now},
+     * oldest deadline first. Served by idx_job_status_deadline.
+     */
+    @Query("""
+            SELECT j.JobId FROM Job j
+            WHERE j.status = :status AND j.Deadline < :now
+            ORDER BY j.Deadline
+            """)
+    List<Long> findIdsPastDeadline(@Param("status") Job.Status status,
+                                   @Param("now") Date now,
+                                   Limit limit);
+
+    /**
+     * Deadlines that fall in [from, to) for jobs in the given status.
+     * Lets the expiry scheduler load only the near future into memory.
+     */
+    @Query("""
+            SELECT j.JobId AS jobId, j.Deadline AS deadline FROM Job j
+            WHERE j.status = :status AND j.Deadline >= :from AND j.Deadline < :to
+            """)
+    List<JobDeadline> findDeadlinesBetween(@Param("status") Job.Status status,
+                                           @Param("from") Date from,
+                                           @Param("to") Date to);
+
+    /**
+     * Set-based status transition for a batch of jobs. Only rows still in
+     * {@code from} are changed, so concurrent edits are never overwritten.
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            UPDATE Job j SET j.status = :to, j.UpdatedAt = :now
+            WHERE j.JobId IN :ids AND j.status = :from
+            """)
+    int updateStatusForIds(@Param("ids") List<Long> ids,
+                           @Param("from") Job.Status from,
+                           @Param("to") Job.Status to,
+                           @Param("now") Date now);
+
+    /**
+     * Keyset page of the employer's postings in any status, newest first,
+     * ordered like the public listing and served by idx_job_employer_created.
+     * Pass a null cursor for the first page.
+     */
+    @Query("""
+            SELECT new com.example.CampusJobBoard.dto.EmployerPosting(
+                j.JobId, j.JobTitle, j.Category, j.Location, j.Salary, j.Deadline, j.status, j.CreatedAt)
+            FROM Job j
+            WHERE j.user.userId = :employerId
+              AND (:cursorCreatedAt IS NULL
+                   OR (j.CreatedAt <= :cursorCreatedAt
+                       AND (j.CreatedAt, j.JobId) < (:cursorCreatedAt, :cursorJobId)))
+            ORDER BY j.CreatedAt DESC, j.JobId DESC
+            """)
+    List<EmployerPosting> findPageByEmployer(@Param("employerId") Long employerId,
+                                             @Param("cursorCreatedAt") Date cursorCreatedAt,
+                                             @Param("cursorJobId") Long cursorJobId,
+                                             Limit limit);
+
+    // whether the job exists and was posted by the employer
+    @Query("SELECT COUNT(j) > 0 FROM Job j WHERE j.JobId = :jobId AND j.user.userId = :employerId")
+    boolean isPostedBy(@Param("jobId") Long jobId, @Param("employerId") Long employerId);
+
+    // jobs with their employer loaded in the same query
+    @Query("SELECT j FROM Job j LEFT JOIN FETCH j.user WHERE j.JobId IN :ids")
+    List<Job> findAllWithEmployerByIdIn(@Param("ids") List<Long> ids);
+
+    /**
+     * Every job with its employer, in id order, for the admin export.
+     *
+     * <p>The fetch size of Integer.MIN_VALUE makes MySQL Connector/J stream
+     * the result set row by row instead of buffering it in the driver.
+     * The stream must be consumed inside a transaction and closed.</p>
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            SELECT new com.example.CampusJobBoard.dto.JobExportRow(
+                j.JobId, j.JobTitle, j.Category, j.Location, j.Salary, j.Deadline,
+                j.status, j.CreatedAt, j.UpdatedAt, u.userId, u.fullName, u.email)
+            FROM Job j LEFT JOIN j.user u
+            ORDER BY j.JobId
+            """)
+    Stream<JobExportRow> streamAllForExport();
 }
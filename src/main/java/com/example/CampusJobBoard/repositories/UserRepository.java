@@ -1,7 +1,12 @@
 package com.example.CampusJobBoard.repositories;
 
+import com.example.CampusJobBoard.dto.UserSnapshot;
 import com.example.CampusJobBoard.entities.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +20,30 @@ public interface UserRepository extends JpaRepository<User, Long> {
     /** Finds a user by their email address (used for login and validation). */
     Optional<User> findByEmail(String email);
 
+    /** Looks up only the id for an email, without loading the user. */
+    @Query("SELECT u.userId FROM User u WHERE u.email = :email")
+    Optional<Long> findIdByEmail(@Param("email") String email);
+
+    /** Loads only what identifies a signed-in user (see UserSnapshotCache). */
+    @Query("""
+            SELECT new com.example.CampusJobBoard.dto.UserSnapshot(
+                u.userId, u.fullName, u.email, u.role, u.status, u.mustUpdateProfile)
+            FROM User u WHERE u.email = :email
+            """)
+    Optional<UserSnapshot> findSnapshotByEmail(@Param("email") String email);
+
+    /**
+     * Swaps a password hash for a rehash of the same password, but only if the
+     * stored hash is still the one that was checked (used to upgrade the
+     * BCrypt cost on login).
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE User u SET u.password = :newHash WHERE u.email = :email AND u.password = :oldHash")
+    int replacePassword(@Param("email") String email,
+                        @Param("oldHash") String oldHash,
+                        @Param("newHash") String newHash);
+
     /** Checks if a user with the given email already exists. */
     boolean existsByEmail(String email);
 
@@ -0,0 +1,332 @@
+package com.example.CampusJobBoard.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+
+/**
+ * Makes the API's create endpoints safe to retry: a POST to submit, register
+ * or create-admin carrying an {@code Idempotency-Key} header runs once, and
+ * every repeat with the same key gets the stored response back without
+ * reaching the controllers.
+ *
+ * <p>Other endpoints ignore the header. Login in particular must not be
+ * replayed: its response is a token, and a replay would skip both the
+ * password check and the login throttle.</p>
+ *
+ * <p>Keys are scoped to the signed-in user (or to anonymous callers, for
+ * registration) and to the method and path. A repeat whose parameters or body
+ * differ from the original is refused with 422. A repeat that arrives while
+ * the original is still running waits for its result instead of running
+ * alongside it.</p>
+ *
+ * <p>Responses are kept for {@code ttl-ms} and at most {@code max-entries}
+ * of them at a time. Server errors are not stored, so those requests can be
+ * retried with the same key.</p>
+ */
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    /** Servlet paths that accept the header, all POST. */
+    static final Set<String> PATHS = Set.of(
+            "/api/student/submit",
+            "/api/student/submit/batch",
+            "/api/auth/register",
+            "/api/superadmin/create-admin");
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final String[] REPLAYED_HEADERS = {
+            HttpHeaders.LOCATION, HttpHeaders.RETRY_AFTER, HttpHeaders.ETAG, HttpHeaders.CACHE_CONTROL};
+
+    /** A finished response, replayed as is. */
+    private record StoredResponse(int status, String contentType, Map<String, String> headers, byte[] body) {}
+
+    /** One key; {@code result} completes with null when nothing was stored. */
+    private record Entry(String scope, byte[] fingerprint, long createdAt,
+                         CompletableFuture<StoredResponse> result) {}
+
+    private final long ttlMs;
+    private final int maxEntries;
+    private final long waitMs;
+    private final int maxBodyBytes;
+    private final LongSupplier clock;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    /** Entries in creation order, which is also expiry order. */
+    private final Queue<Entry> byAge = new ConcurrentLinkedQueue<>();
+
+    @Autowired
+    public IdempotencyFilter(@Value("${app.idempotency.ttl-ms:86400000}") long ttlMs,
+                             @Value("${app.idempotency.max-entries:10000}") int maxEntries,
+                             @Value("${app.idempotency.wait-ms:10000}") long waitMs,
+                             @Value("${app.idempotency.max-body-bytes:65536}") int maxBodyBytes) {
+        this(ttlMs, maxEntries, waitMs, maxBodyBytes, System::currentTimeMillis);
+    }
+
+    IdempotencyFilter(long ttlMs, int maxEntries, long waitMs, int maxBodyBytes, LongSupplier clock) {
+        this.ttlMs = ttlMs;
+        this.maxEntries = maxEntries;
+        this.waitMs = waitMs;
+        this.maxBodyBytes = maxBodyBytes;
+        this.clock = clock;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getHeader(HEADER) == null
+                || !"POST".equals(request.getMethod())
+                || !PATHS.contains(request.getServletPath());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String key = request.getHeader(HEADER);
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST,
+                    HEADER + " must be 1 to " + MAX_KEY_LENGTH + " characters.");
+            return;
+        }
+
+        // form bodies are read through getParameterMap(); anything else is buffered here
+        byte[] body = isForm(request) ? new byte[0] : request.getInputStream().readNBytes(maxBodyBytes + 1);
+        if (body.length > maxBodyBytes) {
+            writeError(response, HttpStatus.PAYLOAD_TOO_LARGE,
+                    "Request body is too large to be used with " + HEADER + ".");
+            return;
+        }
+        HttpServletRequest replayable = isForm(request) ? request : new CachedBodyRequest(request, body);
+
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        String scope = (auth == null ? "-" : auth.getName()) + " " + request.getMethod() + " "
+                + request.getRequestURI() + " " + key;
+        byte[] fingerprint = fingerprint(request, body);
+
+        for (;;) {
+            Entry mine = new Entry(scope, fingerprint, clock.getAsLong(), new CompletableFuture<>());
+            Entry existing = entries.putIfAbsent(scope, mine);
+
+            if (existing == null) {
+                byAge.add(mine);
+                evictExpiredAndOverflow();
+                execute(replayable, response, filterChain, mine);
+                return;
+            }
+            if (isExpired(existing, clock.getAsLong())) {
+                entries.remove(scope, existing);
+                continue;
+            }
+            if (!Arrays.equals(existing.fingerprint(), fingerprint)) {
+                writeError(response, HttpStatus.UNPROCESSABLE_ENTITY,
+                        HEADER + " was already used for a different request.");
+                return;
+            }
+
+            StoredResponse stored;
+            try {
+                stored = existing.result().get(waitMs, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException ex) {
+                writeError(response, HttpStatus.CONFLICT,
+                        "A request with this " + HEADER + " is still in progress.");
+                return;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new ServletException(ex);
+            } catch (ExecutionException ex) {
+                stored = null;
+            }
+            if (stored != null) {
+                replay(stored, response);
+                return;
+            }
+            // the original was not stored (server error); run this one instead
+            entries.remove(scope, existing);
+        }
+    }
+
+    private void execute(HttpServletRequest request, HttpServletResponse response,
+                         FilterChain filterChain, Entry entry) throws ServletException, IOException {
+        ContentCachingResponseWrapper capture = new ContentCachingResponseWrapper(response);
+        StoredResponse stored = null;
+        try {
+            filterChain.doFilter(request, capture);
+            if (capture.getStatus() < 500 && !request.isAsyncStarted()) {
+                stored = new StoredResponse(capture.getStatus(), capture.getContentType(),
+                        replayedHeaders(capture), capture.getContentAsByteArray());
+            }
+        } finally {
+            if (stored == null) {
+                entries.remove(entry.scope(), entry);
+            }
+            entry.result().complete(stored);
+            capture.copyBodyToResponse();
+        }
+    }
+
+    private static void replay(StoredResponse stored, HttpServletResponse response) throws IOException {
+        response.setStatus(stored.status());
+        stored.headers().forEach(response::setHeader);
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private static Map<String, String> replayedHeaders(HttpServletResponse response) {
+        Map<String, String> headers = new TreeMap<>();
+        for (String name : REPLAYED_HEADERS) {
+            String value = response.getHeader(name);
+            if (value != null) {
+                headers.put(name, value);
+            }
+        }
+        return headers;
+    }
+
+    private void evictExpiredAndOverflow() {
+        long now = clock.getAsLong();
+        for (Entry oldest; (oldest = byAge.peek()) != null; ) {
+            // failed entries have already left the map but are still queued
+            boolean stale = entries.get(oldest.scope()) != oldest;
+            boolean overflow = entries.size() > maxEntries && oldest.result().isDone();
+            if (!stale && !overflow && !isExpired(oldest, now)) {
+                return;
+            }
+            if (byAge.remove(oldest)) {
+                entries.remove(oldest.scope(), oldest);
+            }
+        }
+    }
+
+    private boolean isExpired(Entry entry, long now) {
+        return now - entry.createdAt() > ttlMs;
+    }
+
+    private static boolean isForm(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return contentType != null && contentType.startsWith(MediaType.APPLICATION_FORM_URLENCODED_VALUE);
+    }
+
+    // SHA-256 over the parameters (query string and form fields) and the raw body
+    private static byte[] fingerprint(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            new TreeMap<>(request.getParameterMap()).forEach((name, values) -> {
+                digest.update(name.getBytes(StandardCharsets.UTF_8));
+                for (String value : values) {
+                    digest.update((byte) 0);
+                    digest.update(value.getBytes(StandardCharsets.UTF_8));
+                }
+                digest.update((byte) '\n');
+            });
+            digest.update(body);
+            return digest.digest();
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"error\":\"" + message + "\"}");
+    }
+
+    /** Hands the buffered body to the rest of the chain. */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // the whole body is already in memory, so it is available at once
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    try {
+                        listener.onDataAvailable();
+                        if (isFinished()) {
+                            listener.onAllDataRead();
+                        }
+                    } catch (IOException ex) {
+                        listener.onError(ex);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding)));
+        }
+    }
+}
@@ -4,22 +4,24 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
-import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Security filter that intercepts every incoming HTTP request to:
  * <ul>
  *   <li>Extract the JWT from the Authorization header</li>
- *   <li>Validate the token</li>
- *   <li>Extract the user's role and attach authentication to the security context</li>
+ *   <li>Verify the token and read the user's email and role from it in one parse</li>
+ *   <li>Attach authentication to the security context</li>
+ *   <li>Apply the per-user rate limit of {@link RequestRateLimiter}, answering 429 when exceeded</li>
  * </ul>
  *
  * <p>This enables stateless authentication and role-based access control
@@ -28,10 +30,12 @@ import java.util.List;
 @Component
 public class JwtAuthFilter extends OncePerRequestFilter {
 
-    private final JwtService jwtService;
+    private final VerifiedTokenCache tokenCache;
+    private final RequestRateLimiter rateLimiter;
 
-    public JwtAuthFilter(JwtService jwtService) {
-        this.jwtService = jwtService;
+    public JwtAuthFilter(VerifiedTokenCache tokenCache, RequestRateLimiter rateLimiter) {
+        this.tokenCache = tokenCache;
+        this.rateLimiter = rateLimiter;
     }
 
     @Override
@@ -50,41 +54,42 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             return;
         }
         final String authHeader = request.getHeader("Authorization");
-        final String jwt;
-        final String username;
 
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
             filterChain.doFilter(request, response);
             return;
         }
 
-        jwt = authHeader.substring(7);
-        username = jwtService.extractUsername(jwt);
+        // one parse checks signature and expiry and yields subject and role; repeats come from the cache
+        JwtPrincipal principal = tokenCache.verify(authHeader.substring(7)).orElse(null);
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+        if (principal != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 
-            // Extract role from JWT
-            String role = jwtService.extractRole(jwt);
+            UsernamePasswordAuthenticationToken authToken =
+                    new UsernamePasswordAuthenticationToken(
+                            principal,
+                            null,
+                            principal.authorities()
+                    );
 
-            List<SimpleGrantedAuthority> authorities =
-                    List.of(new SimpleGrantedAuthority("ROLE_" + role));
+            authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authToken);
 
-            User tempUser = new User(username, "", authorities);
-
-            if (jwtService.validateToken(jwt, tempUser)) {
-
-                UsernamePasswordAuthenticationToken authToken =
-                        new UsernamePasswordAuthenticationToken(
-                                tempUser,
-                                null,
-                                authorities
-                        );
-
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authToken);
+            long waitNanos = rateLimiter.tryAcquire(principal.username(), principal.role(), request.getMethod(), path);
+            if (waitNanos > 0) {
+                rejectTooManyRequests(response, waitNanos);
+                return;
             }
         }
 
         filterChain.doFilter(request, response);
     }
+
+    private static void rejectTooManyRequests(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfter = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"error\":\"Too many requests. Try again in " + retryAfter + " seconds.\"}");
+    }
 }
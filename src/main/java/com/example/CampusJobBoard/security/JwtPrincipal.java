@@ -0,0 +1,38 @@
+package com.example.CampusJobBoard.security;
+
+import com.example.CampusJobBoard.entities.User;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.security.Principal;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The caller identified by a verified JWT: subject (email), role and expiry,
+ * read from a single parse of the token.
+ *
+ * <p>Used as the principal of the authentication set by {@link JwtAuthFilter},
+ * so {@code principal.getName()} in controllers is still the email.</p>
+ */
+public record JwtPrincipal(String username, User.Role role, long expiresAtMillis) implements Principal {
+
+    /** One immutable authority list per role, shared by every request. */
+    private static final Map<User.Role, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(User.Role.class);
+
+    static {
+        for (User.Role role : User.Role.values()) {
+            AUTHORITIES.put(role, List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+        }
+    }
+
+    @Override
+    public String getName() {
+        return username;
+    }
+
+    public List<GrantedAuthority> authorities() {
+        return AUTHORITIES.get(role);
+    }
+}
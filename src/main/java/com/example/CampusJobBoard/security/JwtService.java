@@ -1,6 +1,9 @@
 package com.example.CampusJobBoard.security;
 
+import com.example.CampusJobBoard.entities.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -12,32 +15,35 @@ import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.Optional;
 
 /**
  * Handles creation, parsing, and validation of JWT tokens.
  *
  * <p>This service is used to generate
- * secure access tokens and by the security filter to validate them.</p>
+ * secure access tokens and by the security filter to verify them.</p>
  *
  * <p>Tokens contain the user's email and their role
  * (Student, Employer, Admin) as custom claims.</p>
+ *
+ * <p>The signing key and parser are built once; both are immutable and
+ * thread-safe, so every request reuses them.</p>
  */
 @Service
 public class JwtService {
 
-    /** Secret signing key loaded from application.properties */
-    @Value("${app.jwt.secret}")
-    private String secretKey;
-
     /** Token validity duration — currently 1 hour */
     private static final long EXPIRATION_TIME = 1000 * 60 * 60;
 
-    /**
-     * Creates a key using the secret key string from application.properties.
-     */
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(secretKey.getBytes());
+    /** Key derived from the secret in application.properties */
+    private final Key signingKey;
+
+    /** Verifies the signature and expiry of incoming tokens */
+    private final JwtParser parser;
+
+    public JwtService(@Value("${app.jwt.secret}") String secretKey) {
+        this.signingKey = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
     }
 
     /**
@@ -68,69 +74,35 @@ public class JwtService {
                 .setSubject(userDetails.getUsername()) // user's email
                 .setIssuedAt(new Date(System.currentTimeMillis())) // token creation timestamp
                 .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION_TIME)) // expiry timestamp
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256) // sign with the secret key
+                .signWith(signingKey, SignatureAlgorithm.HS256) // sign with the secret key
                 .compact();
     }
 
     /**
-     * Validates the token's subject and ensures it has not expired.
+     * Verifies the token's signature and expiry and reads its subject, role
+     * and expiry in a single parse.
      *
-     * @param token       the token being validated
-     * @param userDetails expected user details
-     * @return true if the token is valid for the user
-     */
-    public boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return username.equals(userDetails.getUsername()) && !isTokenExpired(token);
-    }
-
-    /**
-     * Extracts the username (email) stored as the token subject.
+     * @return the caller, or empty if the token is malformed, tampered with,
+     *         expired or carries an unknown role
      */
-    public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
-    }
-
-    /**
-     * Extracts the user role stored in the token.
-     *
-     * <p>This is used in the JwtAuthFilter to build Spring Security
-     * authorities for role-based access control.</p>
-     */
-    public String extractRole(String token) {
-        return extractClaim(token, claims -> claims.get("role", String.class));
-    }
-
-    /**
-     * Extracts a single claim using a resolver function.
-     */
-    public <T> T extractClaim(String token, Function<Claims, T> resolver) {
-        final Claims claims = extractAllClaims(token);
-        return resolver.apply(claims);
+    public Optional<JwtPrincipal> verify(String token) {
+        try {
+            Claims claims = extractAllClaims(token);
+            String role = claims.get("role", String.class);
+            if (claims.getSubject() == null || role == null || claims.getExpiration() == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new JwtPrincipal(claims.getSubject(), User.Role.valueOf(role),
+                    claims.getExpiration().getTime()));
+        } catch (JwtException | IllegalArgumentException ex) {
+            return Optional.empty();
+        }
     }
 
     /**
      * Parses and returns all claims contained within the JWT.
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey()) // verify signature with secret key
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    /**
-     * Determines whether the token has exceeded its expiration time.
-     */
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    /**
-     * Retrieves the token expiration timestamp.
-     */
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        return parser.parseClaimsJws(token).getBody(); // also rejects expired tokens
     }
 }
@@ -0,0 +1,15 @@
+package com.example.CampusJobBoard.security;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * Thrown when every password-hashing thread is busy and the wait queue is
+ * full. Reported as 503 with Retry-After by the API and as a failed login by
+ * the form login.
+ */
+public class PasswordHashingBusyException extends AuthenticationServiceException {
+
+    public PasswordHashingBusyException() {
+        super("Too many logins at the moment. Please try again shortly.");
+    }
+}
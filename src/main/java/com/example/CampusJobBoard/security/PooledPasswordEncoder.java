@@ -0,0 +1,136 @@
+package com.example.CampusJobBoard.security;
+
+import com.example.CampusJobBoard.dto.PasswordHashingStats;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * BCrypt password encoder that runs every hash and check on its own small,
+ * bounded thread pool instead of on whichever request thread asked.
+ *
+ * <p>At most {@code threads} hashes run at once and at most
+ * {@code queue-capacity} more wait. Beyond that a login, registration or
+ * admin creation fails fast with {@link PasswordHashingBusyException} (503)
+ * rather than parking another request thread, so a burst of logins cannot
+ * take every Tomcat worker away from the rest of the API.</p>
+ *
+ * <p>{@link #upgradeEncoding} reports any stored hash whose cost differs from
+ * the configured strength, so hashes are redone at the new cost the next time
+ * their owner logs in, whether the cost was raised or lowered.</p>
+ */
+public class PooledPasswordEncoder implements PasswordEncoder {
+
+    private final int strength;
+    private final BCryptPasswordEncoder bcrypt;
+    private final ThreadPoolExecutor pool;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+
+    /**
+     * @param strength      BCrypt cost factor (4..31); each step doubles the work
+     * @param threads       hashes run in parallel, or 0 for one per CPU
+     * @param queueCapacity hashes allowed to wait for a thread
+     */
+    public PooledPasswordEncoder(int strength, int threads, int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger sequence = new AtomicInteger();
+
+        this.strength = strength;
+        this.bcrypt = new BCryptPasswordEncoder(strength);
+        this.pool = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> bcrypt.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> bcrypt.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // "$2a$10$..." carries the cost in characters 4 and 5
+        if (encodedPassword == null || encodedPassword.length() < 7 || encodedPassword.charAt(6) != '$') {
+            return false;
+        }
+        try {
+            return Integer.parseInt(encodedPassword.substring(4, 6)) != strength;
+        } catch (NumberFormatException ex) {
+            return false;
+        }
+    }
+
+    /** Pool and timing counters for monitoring. */
+    public PasswordHashingStats stats() {
+        long done = completed.sum();
+        return new PasswordHashingStats(
+                strength,
+                pool.getMaximumPoolSize(),
+                pool.getActiveCount(),
+                pool.getQueue().size(),
+                done,
+                rejected.sum(),
+                done == 0 ? 0 : queueWaitNanos.sum() / done / 1_000_000.0,
+                done == 0 ? 0 : hashNanos.sum() / done / 1_000_000.0
+        );
+    }
+
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    private <T> T run(Callable<T> hashing) {
+        long submittedAt = System.nanoTime();
+        Future<T> result;
+        try {
+            result = pool.submit(() -> {
+                long startedAt = System.nanoTime();
+                queueWaitNanos.add(startedAt - submittedAt);
+                try {
+                    return hashing.call();
+                } finally {
+                    hashNanos.add(System.nanoTime() - startedAt);
+                    completed.increment();
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            rejected.increment();
+            throw new PasswordHashingBusyException();
+        }
+
+        try {
+            return result.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            result.cancel(true);
+            throw new IllegalStateException("Interrupted while waiting for password hashing", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        }
+    }
+}
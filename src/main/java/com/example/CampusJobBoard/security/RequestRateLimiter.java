@@ -0,0 +1,235 @@
+package com.example.CampusJobBoard.security;
+
+import com.example.CampusJobBoard.dto.RateLimitStats;
+import com.example.CampusJobBoard.entities.User;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-user token buckets for authenticated API calls, consulted by
+ * {@link JwtAuthFilter} once the caller's identity is known.
+ *
+ * <p>Each (user, endpoint group) pair has a bucket whose quota depends on the
+ * user's role. A bucket is a single {@link AtomicLong} holding the instant at
+ * which it will be full again (the GCRA form of a token bucket), so taking a
+ * token is one compare-and-set and concurrent requests never block.</p>
+ *
+ * <p>A bucket that has refilled completely is indistinguishable from a new
+ * one, so such buckets are dropped by a periodic sweep. Creating a bucket
+ * beyond {@code max-buckets} also drops the refilled ones and then, if that
+ * is not enough, the least recently used, down to 90% of the limit; the next
+ * eviction is then at least a tenth of the limit of new buckets away.
+ * Memory therefore tracks recently active users only.</p>
+ *
+ * <p>Quotas are read from {@code app.rate-limit.<role>.<group>}, falling back
+ * to {@code app.rate-limit.default.<group>}, as {@code <requests>/<seconds>}:
+ * {@code 10/60} allows bursts of 10 and refills one token every 6 seconds.</p>
+ */
+@Component
+public class RequestRateLimiter {
+
+    /** Endpoint groups with separate quotas. */
+    public enum Group {
+        /** Job application submits. */
+        SUBMIT,
+        /** Any other GET, e.g. the job listings. */
+        READ,
+        /** Any other POST, PUT or DELETE. */
+        WRITE;
+
+        static Group of(String method, String path) {
+            if (path.startsWith("/api/student/submit") && "POST".equals(method)) {
+                return SUBMIT;
+            }
+            return "GET".equals(method) || "HEAD".equals(method) ? READ : WRITE;
+        }
+    }
+
+    private static final Map<Group, String> DEFAULT_QUOTAS = Map.of(
+            Group.SUBMIT, "20/60",
+            Group.READ, "300/60",
+            Group.WRITE, "60/60");
+
+    /** Sustained rate and burst for one role and group. */
+    private record Quota(long capacity, long intervalNanos) {
+
+        static Quota parse(String value) {
+            String[] parts = value.split("/");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Rate limit must be <requests>/<seconds>: " + value);
+            }
+            long requests = Long.parseLong(parts[0].trim());
+            long seconds = Long.parseLong(parts[1].trim());
+            if (requests < 1 || seconds < 1) {
+                throw new IllegalArgumentException("Rate limit must be positive: " + value);
+            }
+            return new Quota(requests, TimeUnit.SECONDS.toNanos(seconds) / requests);
+        }
+    }
+
+    private record Key(String username, Group group) {}
+
+    /** GCRA state of one bucket, plus when it was last used for LRU eviction. */
+    private static final class Bucket {
+        final AtomicLong fullAt;
+        volatile long lastUsed;
+
+        Bucket(long now) {
+            fullAt = new AtomicLong(now);
+            lastUsed = now;
+        }
+    }
+
+    private final boolean enabled;
+    private final int maxBuckets;
+    private final Map<User.Role, Map<Group, Quota>> quotas = new EnumMap<>(User.Role.class);
+
+    private final LongSupplier nanoClock;
+    private final long origin;
+    private final Map<Key, Bucket> buckets = new ConcurrentHashMap<>();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+    private final Map<User.Role, Map<Group, LongAdder>> rejected = new EnumMap<>(User.Role.class);
+
+    @Autowired
+    public RequestRateLimiter(Environment environment,
+                              @Value("${app.rate-limit.enabled:true}") boolean enabled,
+                              @Value("${app.rate-limit.max-buckets:100000}") int maxBuckets) {
+        this(environment, enabled, maxBuckets, System::nanoTime);
+    }
+
+    RequestRateLimiter(Environment environment, boolean enabled, int maxBuckets, LongSupplier nanoClock) {
+        this.enabled = enabled;
+        this.maxBuckets = maxBuckets;
+        this.nanoClock = nanoClock;
+        this.origin = nanoClock.getAsLong();
+
+        for (User.Role role : User.Role.values()) {
+            Map<Group, Quota> byGroup = new EnumMap<>(Group.class);
+            Map<Group, LongAdder> rejectedByGroup = new EnumMap<>(Group.class);
+            for (Group group : Group.values()) {
+                String name = group.name().toLowerCase(Locale.ROOT);
+                String fallback = environment.getProperty("app.rate-limit.default." + name, DEFAULT_QUOTAS.get(group));
+                String key = "app.rate-limit." + role.name().toLowerCase(Locale.ROOT).replace('_', '-') + "." + name;
+                byGroup.put(group, Quota.parse(environment.getProperty(key, fallback)));
+                rejectedByGroup.put(group, new LongAdder());
+            }
+            quotas.put(role, byGroup);
+            rejected.put(role, rejectedByGroup);
+        }
+    }
+
+    /**
+     * Takes one token from the caller's bucket for this request.
+     *
+     * @return 0 if the request may proceed, otherwise how many nanoseconds
+     *         until a token will be available
+     */
+    public long tryAcquire(String username, User.Role role, String method, String path) {
+        if (!enabled) {
+            return 0;
+        }
+        Group group = Group.of(method, path);
+        Quota quota = quotas.get(role).get(group);
+        long now = nanoClock.getAsLong() - origin;
+
+        Key key = new Key(username, group);
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = buckets.computeIfAbsent(key, k -> new Bucket(now));
+            if (buckets.size() > maxBuckets) {
+                evict(now);
+            }
+        }
+        bucket.lastUsed = now;
+
+        long burst = quota.capacity() * quota.intervalNanos();
+        for (;;) {
+            long fullAt = bucket.fullAt.get();
+            long next = Math.max(fullAt, now) + quota.intervalNanos();
+            long wait = next - burst - now;
+            if (wait > 0) {
+                rejected.get(role).get(group).increment();
+                return wait;
+            }
+            if (bucket.fullAt.compareAndSet(fullAt, next)) {
+                allowed.increment();
+                return 0;
+            }
+        }
+    }
+
+    /** Drops buckets that have refilled completely; they would start out the same if recreated. */
+    @Scheduled(fixedDelayString = "${app.rate-limit.sweep-ms:60000}")
+    public void sweep() {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = nanoClock.getAsLong() - origin;
+            buckets.values().removeIf(bucket -> bucket.fullAt.get() <= now);
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    /**
+     * Drops refilled buckets, then the least recently used ones, until at most
+     * 90% of {@code max-buckets} remain. An evicted bucket that was still
+     * draining starts again full, which only ever errs in the caller's favour.
+     */
+    private void evict(long now) {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int before = buckets.size();
+            buckets.values().removeIf(bucket -> bucket.fullAt.get() <= now);
+
+            int target = maxBuckets - maxBuckets / 10;
+            int excess = buckets.size() - target;
+            if (excess > 0) {
+                long[] lastUsed = buckets.values().stream().mapToLong(bucket -> bucket.lastUsed).toArray();
+                Arrays.sort(lastUsed);
+                long cutoff = lastUsed[Math.min(excess, lastUsed.length) - 1];
+                buckets.values().removeIf(bucket -> bucket.lastUsed <= cutoff);
+            }
+            evicted.add(Math.max(0, before - buckets.size()));
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    /** Allowed/rejected counters for monitoring. */
+    public RateLimitStats stats() {
+        Map<String, Long> rejectedByQuota = new LinkedHashMap<>();
+        long total = 0;
+        for (Map.Entry<User.Role, Map<Group, LongAdder>> role : rejected.entrySet()) {
+            for (Map.Entry<Group, LongAdder> group : role.getValue().entrySet()) {
+                long count = group.getValue().sum();
+                if (count > 0) {
+                    rejectedByQuota.put(role.getKey() + "." + group.getKey(), count);
+                    total += count;
+                }
+            }
+        }
+        return new RateLimitStats(buckets.size(), evicted.sum(), allowed.sum(), total, rejectedByQuota);
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.CampusJobBoard.security;
+
+import com.example.CampusJobBoard.dto.TokenCacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Remembers bearer tokens that {@link JwtService} has already verified, so a
+ * client sending the same token on every request pays for one SHA-256 instead
+ * of a full JWS parse and HMAC check.
+ *
+ * <p>Entries are keyed by the token's SHA-256 digest, never the token itself,
+ * and hold the {@link JwtPrincipal} read from it. An entry is dropped at the
+ * token's expiry, so a token is never accepted from the cache after it would
+ * have been rejected by the parser. Rejected tokens are not cached, so junk
+ * tokens cannot fill the cache.</p>
+ *
+ * <p>Once {@code max-entries} is reached, one thread at a time clears expired
+ * entries and, if that is not enough, drops arbitrary ones down to 90% of the
+ * limit; lookups carry on without waiting. Set
+ * {@code app.jwt.cache.enabled=false} to verify every request again.</p>
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtService jwtService;
+    private final boolean enabled;
+    private final int maxEntries;
+
+    private final Map<ByteBuffer, JwtPrincipal> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public VerifiedTokenCache(JwtService jwtService,
+                              @Value("${app.jwt.cache.enabled:true}") boolean enabled,
+                              @Value("${app.jwt.cache.max-entries:10000}") int maxEntries) {
+        this.jwtService = jwtService;
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Same contract as {@link JwtService#verify}, answered from the cache when
+     * the token was verified before and has not expired since.
+     */
+    public Optional<JwtPrincipal> verify(String token) {
+        if (!enabled) {
+            return jwtService.verify(token);
+        }
+
+        ByteBuffer key = digest(token);
+        JwtPrincipal cached = entries.get(key);
+        if (cached != null) {
+            if (System.currentTimeMillis() < cached.expiresAtMillis()) {
+                hits.increment();
+                return Optional.of(cached);
+            }
+            entries.remove(key, cached);
+        }
+
+        misses.increment();
+        Optional<JwtPrincipal> verified = jwtService.verify(token);
+        verified.ifPresent(principal -> {
+            if (entries.size() >= maxEntries) {
+                evict();
+            }
+            entries.put(key, principal);
+        });
+        return verified;
+    }
+
+    /** Hit/miss counters for monitoring. */
+    public TokenCacheStats stats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long lookups = hitCount + missCount;
+        return new TokenCacheStats(
+                enabled,
+                entries.size(),
+                hitCount,
+                missCount,
+                evictions.sum(),
+                lookups == 0 ? 0 : (double) hitCount / lookups
+        );
+    }
+
+    private void evict() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            int before = entries.size();
+            entries.values().removeIf(principal -> principal.expiresAtMillis() <= now);
+
+            int target = maxEntries - maxEntries / 10;
+            Iterator<JwtPrincipal> it = entries.values().iterator();
+            while (entries.size() > target && it.hasNext()) {
+                it.next();
+                it.remove();
+            }
+            evictions.add(Math.max(0, before - entries.size()));
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+    private static ByteBuffer digest(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -1,37 +1,236 @@
 package com.example.CampusJobBoard.services;
 
-import com.example.CampusJobBoard.entities.Job;
+import com.example.CampusJobBoard.dto.ApplicationCursor;
+import com.example.CampusJobBoard.dto.ApplicationResult;
+import com.example.CampusJobBoard.dto.JobListing;
+import com.example.CampusJobBoard.dto.JobPage;
+import com.example.CampusJobBoard.dto.StudentApplication;
+import com.example.CampusJobBoard.dto.StudentJobListing;
 import com.example.CampusJobBoard.entities.JobApplication;
-import com.example.CampusJobBoard.entities.User;
+import com.example.CampusJobBoard.events.ApplicationStatusChangedEvent;
+import com.example.CampusJobBoard.events.ApplicationSubmittedEvent;
+import com.example.CampusJobBoard.exceptions.ValidationException;
 import com.example.CampusJobBoard.repositories.JobApplicationRepository;
-import com.example.CampusJobBoard.repositories.JobRepository;
+import com.example.CampusJobBoard.repositories.JobApplicationRepository.ApplicationKey;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 public class ApplicationService {
 
     private final JobApplicationRepository applicationRepository;
-    private final JobRepository jobRepository;
+    private final JobCatalogCache catalogCache;
+    private final AppliedJobsIndex appliedJobs;
+    private final ApplicationWriteBehindQueue writeBehind;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public ApplicationService(JobApplicationRepository applicationRepository, JobRepository jobRepository) {
+    public ApplicationService(JobApplicationRepository applicationRepository,
+                              JobCatalogCache catalogCache,
+                              AppliedJobsIndex appliedJobs,
+                              ApplicationWriteBehindQueue writeBehind,
+                              ApplicationEventPublisher eventPublisher) {
         this.applicationRepository = applicationRepository;
-        this.jobRepository = jobRepository;
+        this.catalogCache = catalogCache;
+        this.appliedJobs = appliedJobs;
+        this.writeBehind = writeBehind;
+        this.eventPublisher = eventPublisher;
     }
 
-    // returns a list of all the jobs approved by admin
-    public List<Job> getApprovedJobs() {
-        List<Job> jobs = jobRepository.findByStatus(Job.Status.APPROVED);
-        return jobs;
+    // returns a list of all the jobs approved by admin, served from the catalog snapshot
+    public List<JobListing> getApprovedJobs() {
+        return catalogCache.approvedJobs();
     }
 
-    // submits the job application
-    public JobApplication submit(JobApplication application) {
-        return applicationRepository.save(application);
+    /**
+     * Applies the student to one job. See {@link #applyAll}.
+     */
+    public ApplicationResult apply(Long userId, Long jobId) {
+        return applyAll(userId, List.of(jobId)).get(0);
     }
 
-    public List<JobApplication> getApplicationsByUser(User user) {
-        return applicationRepository.findByUser(user);
+    /**
+     * Applies the student to each job. Works from ids only: availability is
+     * checked against the approved catalog and duplicates against
+     * {@link AppliedJobsIndex}, both in memory, so neither the user nor the jobs
+     * are loaded.
+     *
+     * <p>Accepted applications are written in a single multi-row INSERT, which
+     * is atomic on its own, so no transaction is opened here (it joins the
+     * caller's if there is one). With write-behind enabled they are queued
+     * instead and each result carries an ack id.</p>
+     *
+     * @return one result per distinct job id, in request order
+     */
+    public List<ApplicationResult> applyAll(Long userId, List<Long> jobIds) {
+        Map<Long, JobListing> approved = catalogCache.snapshot().byId();
+
+        Map<Long, ApplicationResult> results = new LinkedHashMap<>();
+        List<Long> accepted = new ArrayList<>();
+        for (Long jobId : new LinkedHashSet<>(jobIds)) {
+            if (!approved.containsKey(jobId)) {
+                results.put(jobId, new ApplicationResult(jobId, ApplicationResult.Outcome.JOB_NOT_AVAILABLE));
+            } else if (!appliedJobs.reserve(userId, jobId)) {
+                results.put(jobId, new ApplicationResult(jobId, ApplicationResult.Outcome.ALREADY_APPLIED));
+            } else {
+                results.put(jobId, new ApplicationResult(jobId, ApplicationResult.Outcome.APPLIED));
+                accepted.add(jobId);
+            }
+        }
+
+        if (accepted.isEmpty()) {
+            return new ArrayList<>(results.values());
+        }
+        if (writeBehind.isEnabled()) {
+            enqueue(userId, accepted, results);
+        } else {
+            insert(userId, accepted, results);
+        }
+        return new ArrayList<>(results.values());
+    }
+
+    private void insert(Long userId, List<Long> accepted, Map<Long, ApplicationResult> results) {
+        try {
+            try {
+                applicationRepository.insertAll(userId, accepted);
+            } catch (DuplicateKeyException ex) {
+                // memory was behind the database (e.g. another instance took the application)
+                List<Long> existing = applicationRepository.findAppliedJobIds(userId, accepted);
+                existing.forEach(jobId ->
+                        results.put(jobId, new ApplicationResult(jobId, ApplicationResult.Outcome.ALREADY_APPLIED)));
+                accepted.removeAll(existing);
+                if (!accepted.isEmpty()) {
+                    applicationRepository.insertAll(userId, accepted);
+                }
+            }
+        } catch (RuntimeException ex) {
+            appliedJobs.release(userId, accepted);
+            throw ex;
+        }
+        releaseOnRollback(userId, accepted);
+
+        for (Long jobId : accepted) {
+            eventPublisher.publishEvent(new ApplicationSubmittedEvent(userId, jobId));
+        }
+    }
+
+    private void enqueue(Long userId, List<Long> accepted, Map<Long, ApplicationResult> results) {
+        for (Long jobId : accepted) {
+            String ackId = writeBehind.enqueue(userId, jobId);
+            if (ackId == null) {
+                appliedJobs.release(userId, List.of(jobId));
+                results.put(jobId, new ApplicationResult(jobId, ApplicationResult.Outcome.QUEUE_FULL));
+            } else {
+                results.put(jobId, new ApplicationResult(jobId, ApplicationResult.Outcome.QUEUED, ackId));
+            }
+        }
+    }
+
+    /**
+     * Approved jobs, newest first, each marked if the student has applied to it.
+     */
+    public List<StudentJobListing> getApprovedJobsFor(Long userId) {
+        return markApplied(userId, catalogCache.approvedJobs());
+    }
+
+    public List<StudentJobListing> markApplied(Long userId, List<JobListing> jobs) {
+        List<StudentJobListing> marked = new ArrayList<>(jobs.size());
+        for (JobListing job : jobs) {
+            marked.add(StudentJobListing.of(job, appliedJobs.contains(userId, job.jobId())));
+        }
+        return marked;
+    }
+
+    // inside a caller's transaction, undoes the reservations if it does not commit
+    private void releaseOnRollback(Long userId, List<Long> reserved) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    appliedJobs.release(userId, reserved);
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns one page of the student's applications with their job summary
+     * and status, newest first. Always a single query, however many
+     * applications the student has or how deep the page is.
+     *
+     * @param cursor token from the previous page, or null for the first page
+     * @param size   requested page size, clamped to 1..{@value JobService#MAX_PAGE_SIZE}
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public JobPage<StudentApplication> getApplicationsPage(Long userId, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, JobService.MAX_PAGE_SIZE));
+        ApplicationCursor after = (cursor == null || cursor.isBlank()) ? null : ApplicationCursor.decode(cursor);
+
+        List<StudentApplication> rows = applicationRepository.findStudentApplicationsPage(
+                userId, after == null ? null : after.applicationId(), Limit.of(pageSize + 1));
+
+        if (rows.size() <= pageSize) {
+            return new JobPage<>(rows, null);
+        }
+
+        List<StudentApplication> items = rows.subList(0, pageSize);
+        Long last = items.get(pageSize - 1).applicationId();
+        return new JobPage<>(items, new ApplicationCursor(last).encode());
+    }
+
+    /**
+     * Accepts or rejects a batch of the employer's submitted applications: one
+     * locking SELECT finds them and one UPDATE changes exactly those.
+     * Applications that are not on the employer's jobs, or were already
+     * decided, are left alone.
+     *
+     * @return number of applications changed
+     * @throws ValidationException if the status is not ACCEPTED or REJECTED
+     */
+    @Transactional
+    public int decide(Long employerId, List<Long> applicationIds, JobApplication.Status status) {
+        if (status != JobApplication.Status.ACCEPTED && status != JobApplication.Status.REJECTED) {
+            throw new ValidationException(Map.of("status", "Status must be ACCEPTED or REJECTED"));
+        }
+        List<Long> ids = List.copyOf(new LinkedHashSet<>(applicationIds));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        // lock the rows that will change, so the event counts exactly the ones this call moved
+        List<ApplicationKey> changed = applicationRepository.lockInStatusForEmployer(
+                ids, employerId, JobApplication.Status.SUBMITTED);
+        if (changed.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> changedIds = new ArrayList<>(changed.size());
+        Set<Long> students = new LinkedHashSet<>();
+        Map<Long, Integer> changedPerJob = new HashMap<>();
+        for (ApplicationKey application : changed) {
+            changedIds.add(application.getApplicationId());
+            students.add(application.getUserId());
+            changedPerJob.merge(application.getJobId(), 1, Integer::sum);
+        }
+        int updated = applicationRepository.updateStatus(changedIds, status, new Date());
+        eventPublisher.publishEvent(new ApplicationStatusChangedEvent(
+                List.copyOf(students), changedPerJob, JobApplication.Status.SUBMITTED, status));
+        return updated;
     }
 }
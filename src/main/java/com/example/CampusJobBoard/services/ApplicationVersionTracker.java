@@ -0,0 +1,58 @@
+package com.example.CampusJobBoard.services;
+
+import com.example.CampusJobBoard.events.ApplicationStatusChangedEvent;
+import com.example.CampusJobBoard.events.ApplicationSubmittedEvent;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks a version number per student that changes whenever that student's
+ * applications change, so "my applications" responses can carry an ETag that
+ * is computed without touching the database.
+ *
+ * <p>Versions live in memory only. They are prefixed with a per-process id so
+ * tags handed out before a restart never match afterwards.</p>
+ */
+@Service
+public class ApplicationVersionTracker {
+
+    private static final String BOOT_ID = Long.toString(System.currentTimeMillis(), 36);
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+
+    /** Marks the user's applications as changed. */
+    public void bump(Long userId) {
+        versions.put(userId, sequence.incrementAndGet());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationSubmitted(ApplicationSubmittedEvent event) {
+        bump(event.userId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationStatusChanged(ApplicationStatusChangedEvent event) {
+        event.userIds().forEach(this::bump);
+    }
+
+    /**
+     * Changes whenever this user's applications change, and only then. For
+     * tags of pages that mix the catalog with the user's "applied" marks.
+     */
+    public String version(Long userId) {
+        return BOOT_ID + "-" + userId + "-" + versions.getOrDefault(userId, 0L);
+    }
+
+    /**
+     * Strong ETag for one representation of the user's applications, such as a
+     * single page; {@code variant} must differ between representations.
+     */
+    public String etag(Long userId, String variant) {
+        return "\"apps-" + version(userId) + "-" + variant + "\"";
+    }
+}
@@ -0,0 +1,268 @@
+package com.example.CampusJobBoard.services;
+
+import com.example.CampusJobBoard.dto.ApplicationAck;
+import com.example.CampusJobBoard.events.ApplicationSubmittedEvent;
+import com.example.CampusJobBoard.repositories.JobApplicationBatchRepository.NewApplication;
+import com.example.CampusJobBoard.repositories.JobApplicationRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Opt-in write-behind ingestion for job applications
+ * ({@code app.applications.write-behind.enabled}).
+ *
+ * <p>Submits are put on a bounded queue and acknowledged with an id straight
+ * away; one writer thread drains the queue and writes up to a batch of rows,
+ * from any number of students, per multi-row INSERT. When the queue is full a
+ * submit waits briefly and is then turned away, so a burst slows clients down
+ * instead of growing memory. Everything still queued is written on shutdown.</p>
+ *
+ * <p>Duplicates are already filtered by {@link AppliedJobsIndex} before
+ * queueing. If a batch still hits the unique key, its rows are retried one by
+ * one so only the clashing rows are dropped. Other failures are retried a few
+ * times, then the rows are marked FAILED and their reservations released.</p>
+ *
+ * <p>Ack states are kept in memory for {@code status-retention-ms} after
+ * completion, and {@link ApplicationSubmittedEvent} is published once a row is
+ * persisted, so everything downstream still sees only stored applications.</p>
+ */
+@Service
+public class ApplicationWriteBehindQueue {
+
+    private static final String BOOT_ID = Long.toString(System.currentTimeMillis(), 36);
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long RETRY_BACKOFF_MS = 100;
+    private static final long PRUNE_INTERVAL_MS = 1000;
+
+    private static final class Pending {
+        final String ackId;
+        final Long userId;
+        final Long jobId;
+        volatile ApplicationAck.State state = ApplicationAck.State.PENDING;
+        volatile long completedAt;
+
+        Pending(String ackId, Long userId, Long jobId) {
+            this.ackId = ackId;
+            this.userId = userId;
+            this.jobId = jobId;
+        }
+    }
+
+    private final JobApplicationRepository applicationRepository;
+    private final AppliedJobsIndex appliedJobs;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushMs;
+    private final long enqueueTimeoutMs;
+    private final long statusRetentionMs;
+
+    private final BlockingQueue<Pending> queue;
+    private final Map<String, Pending> acks = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    private volatile boolean accepting;
+    private Thread writer;
+    private long lastPrune;
+
+    public ApplicationWriteBehindQueue(JobApplicationRepository applicationRepository,
+                                       AppliedJobsIndex appliedJobs,
+                                       ApplicationEventPublisher eventPublisher,
+                                       @Value("${app.applications.write-behind.enabled:false}") boolean enabled,
+                                       @Value("${app.applications.write-behind.capacity:10000}") int capacity,
+                                       @Value("${app.applications.write-behind.batch-size:500}") int batchSize,
+                                       @Value("${app.applications.write-behind.flush-ms:20}") long flushMs,
+                                       @Value("${app.applications.write-behind.enqueue-timeout-ms:100}") long enqueueTimeoutMs,
+                                       @Value("${app.applications.write-behind.status-retention-ms:600000}") long statusRetentionMs) {
+        this.applicationRepository = applicationRepository;
+        this.appliedJobs = appliedJobs;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.flushMs = flushMs;
+        this.enqueueTimeoutMs = enqueueTimeoutMs;
+        this.statusRetentionMs = statusRetentionMs;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        accepting = true;
+        writer = new Thread(this::drainLoop, "application-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues an application whose job has already been reserved in
+     * {@link AppliedJobsIndex}.
+     *
+     * @return the ack id, or null if the queue stayed full (or is shutting
+     *         down); the caller then still owns the reservation
+     */
+    public String enqueue(Long userId, Long jobId) {
+        if (!accepting) {
+            return null;
+        }
+        Pending pending = new Pending(BOOT_ID + "-" + sequence.incrementAndGet(), userId, jobId);
+        acks.put(pending.ackId, pending);
+        try {
+            if (queue.offer(pending, enqueueTimeoutMs, TimeUnit.MILLISECONDS)) {
+                return pending.ackId;
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        acks.remove(pending.ackId);
+        return null;
+    }
+
+    /** State of a queued application, visible only to the student who submitted it. */
+    public Optional<ApplicationAck> status(String ackId, Long userId) {
+        Pending pending = acks.get(ackId);
+        if (pending == null || !pending.userId.equals(userId)) {
+            return Optional.empty();
+        }
+        return Optional.of(new ApplicationAck(pending.ackId, pending.jobId, pending.state));
+    }
+
+    /** Stops accepting submits and writes everything still queued. */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        accepting = false;
+        writer.join();
+        // anything offered while the writer was finishing
+        flushRemaining();
+    }
+
+    private void drainLoop() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (accepting || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(flushMs, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    write(batch);
+                    batch.clear();
+                }
+                pruneCompleted();
+            } catch (InterruptedException ex) {
+                // shutdown() waits for the queue to empty; keep draining
+            } catch (RuntimeException ex) {
+                // never let one bad batch stop the writer or leave acks pending
+                batch.stream().filter(p -> p.state == ApplicationAck.State.PENDING).forEach(this::failed);
+                batch.clear();
+            }
+        }
+    }
+
+    private void flushRemaining() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<Pending> batch) {
+        List<NewApplication> rows = new ArrayList<>(batch.size());
+        for (Pending pending : batch) {
+            rows.add(new NewApplication(pending.userId, pending.jobId));
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                applicationRepository.insertAll(rows);
+                batch.forEach(this::persisted);
+                return;
+            } catch (DuplicateKeyException ex) {
+                batch.forEach(this::writeOne);
+                return;
+            } catch (DataAccessException ex) {
+                if (attempt == MAX_ATTEMPTS || !backOff(attempt)) {
+                    batch.forEach(this::failed);
+                    return;
+                }
+            }
+        }
+    }
+
+    private void writeOne(Pending pending) {
+        try {
+            applicationRepository.insertAll(List.of(new NewApplication(pending.userId, pending.jobId)));
+            persisted(pending);
+        } catch (DuplicateKeyException ex) {
+            // the row exists, so the reservation stays
+            complete(pending, ApplicationAck.State.ALREADY_APPLIED);
+        } catch (DataAccessException ex) {
+            failed(pending);
+        }
+    }
+
+    private void persisted(Pending pending) {
+        complete(pending, ApplicationAck.State.PERSISTED);
+        try {
+            eventPublisher.publishEvent(new ApplicationSubmittedEvent(pending.userId, pending.jobId));
+        } catch (RuntimeException ex) {
+            // the row is stored; a failing listener must not mark it otherwise
+        }
+    }
+
+    private void failed(Pending pending) {
+        appliedJobs.release(pending.userId, List.of(pending.jobId));
+        complete(pending, ApplicationAck.State.FAILED);
+    }
+
+    private void complete(Pending pending, ApplicationAck.State state) {
+        pending.completedAt = System.currentTimeMillis();
+        pending.state = state;
+    }
+
+    private static boolean backOff(int attempt) {
+        try {
+            Thread.sleep(RETRY_BACKOFF_MS << (attempt - 1));
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // only called on the writer thread
+    private void pruneCompleted() {
+        long now = System.currentTimeMillis();
+        if (now - lastPrune < PRUNE_INTERVAL_MS) {
+            return;
+        }
+        lastPrune = now;
+        acks.values().removeIf(pending -> pending.state != ApplicationAck.State.PENDING
+                && now - pending.completedAt > statusRetentionMs);
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.CampusJobBoard.services;
+
+import com.example.CampusJobBoard.repositories.JobApplicationRepository;
+import com.example.CampusJobBoard.repositories.JobApplicationRepository.AppliedJob;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Which jobs each student has applied to, held in memory so duplicate
+ * applications can be turned away and listings marked without a database read.
+ *
+ * <p>Each student's job ids are a sorted {@code long[]} (8 bytes per
+ * application, binary-searched), replaced copy-on-write under the map's
+ * per-key lock. The set is exact, so unlike a Bloom filter it never rejects a
+ * genuine first application. The (UserId, JobId) unique constraint on
+ * JobApplication remains the final guarantee.</p>
+ */
+@Service
+public class AppliedJobsIndex {
+
+    private static final long[] NONE = new long[0];
+
+    private final JobApplicationRepository applicationRepository;
+
+    private final Map<Long, long[]> applied = new ConcurrentHashMap<>();
+
+    public AppliedJobsIndex(JobApplicationRepository applicationRepository) {
+        this.applicationRepository = applicationRepository;
+    }
+
+    /** Loads every existing application, streamed, once the application has started. */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        Map<Long, long[]> loaded = new HashMap<>();
+        Map<Long, Integer> sizes = new HashMap<>();
+        try (Stream<AppliedJob> rows = applicationRepository.streamAllAppliedJobs()) {
+            rows.forEach(row -> {
+                long[] ids = loaded.getOrDefault(row.getUserId(), NONE);
+                int size = sizes.getOrDefault(row.getUserId(), 0);
+                if (size == ids.length) {
+                    ids = Arrays.copyOf(ids, Math.max(4, size * 2));
+                    loaded.put(row.getUserId(), ids);
+                }
+                ids[size] = row.getJobId();
+                sizes.put(row.getUserId(), size + 1);
+            });
+        }
+
+        loaded.forEach((userId, ids) -> {
+            long[] sorted = Arrays.copyOf(ids, sizes.get(userId));
+            Arrays.sort(sorted);
+            // merge with anything reserved while loading
+            applied.merge(userId, sorted, AppliedJobsIndex::union);
+        });
+    }
+
+    public boolean contains(Long userId, Long jobId) {
+        return Arrays.binarySearch(applied.getOrDefault(userId, NONE), jobId) >= 0;
+    }
+
+    /**
+     * Records the application if the student has not applied to the job yet.
+     * Atomic per student, so of two concurrent double-click requests only one wins.
+     *
+     * @return false if the student had already applied
+     */
+    public boolean reserve(Long userId, Long jobId) {
+        boolean[] added = new boolean[1];
+        applied.compute(userId, (id, ids) -> {
+            long[] current = ids == null ? NONE : ids;
+            int at = Arrays.binarySearch(current, jobId);
+            if (at >= 0) {
+                return current;
+            }
+            added[0] = true;
+            int insert = -at - 1;
+            long[] next = new long[current.length + 1];
+            System.arraycopy(current, 0, next, 0, insert);
+            next[insert] = jobId;
+            System.arraycopy(current, insert, next, insert + 1, current.length - insert);
+            return next;
+        });
+        return added[0];
+    }
+
+    /** Forgets reservations whose insert did not commit. */
+    public void release(Long userId, Collection<Long> jobIds) {
+        applied.computeIfPresent(userId, (id, ids) -> {
+            long[] kept = Arrays.stream(ids).filter(jobId -> !jobIds.contains(jobId)).toArray();
+            return kept.length == 0 ? null : kept;
+        });
+    }
+
+    private static long[] union(long[] a, long[] b) {
+        return LongStream.concat(Arrays.stream(a), Arrays.stream(b))
+                .sorted().distinct().toArray();
+    }
+}
@@ -4,8 +4,10 @@ import com.example.CampusJobBoard.dto.AuthResponse;
 import com.example.CampusJobBoard.dto.LoginRequest;
 import com.example.CampusJobBoard.dto.RegisterRequest;
 import com.example.CampusJobBoard.entities.User;
+import com.example.CampusJobBoard.exceptions.LoginThrottledException;
 import com.example.CampusJobBoard.repositories.UserRepository;
 import com.example.CampusJobBoard.security.JwtService;
+import com.example.CampusJobBoard.security.PasswordHashingBusyException;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -13,6 +15,9 @@ import org.springframework.stereotype.Service;
 /**
  * Handles user registration and login logic.
  * Issues JWT tokens for authenticated sessions.
+ *
+ * <p>Password hashing runs on the bounded pool of the configured
+ * {@link PasswordEncoder}, not on the request thread.</p>
  */
 @Service
 public class AuthService {
@@ -20,11 +25,16 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
+    private final LoginThrottle loginThrottle;
+    private final UserSnapshotCache userSnapshots;
 
-    public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtService jwtService) {
+    public AuthService(UserRepository userRepository, PasswordEncoder passwordEncoder, JwtService jwtService,
+                       LoginThrottle loginThrottle, UserSnapshotCache userSnapshots) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtService = jwtService;
+        this.loginThrottle = loginThrottle;
+        this.userSnapshots = userSnapshots;
     }
 
     /**
@@ -62,6 +72,7 @@ public class AuthService {
         newUser.setMustUpdateProfile(false);
 
         userRepository.save(newUser);
+        userSnapshots.evict(newUser.getEmail());
 
         // Build token
         UserDetails details = org.springframework.security.core.userdetails.User
@@ -79,13 +90,53 @@ public class AuthService {
      * Authenticates an existing user and returns a signed JWT token.
      */
     public AuthResponse login(LoginRequest request) {
+        return login(request, null);
+    }
+
+    /**
+     * Authenticates an existing user and returns a signed JWT token.
+     *
+     * <p>Emails and client IPs with too many recent failures are refused with
+     * {@link LoginThrottledException} before the user is looked up or any
+     * password is hashed. The attempt is reserved with the throttle first, so
+     * concurrent guesses count against the limit while they are checked.</p>
+     *
+     * @param clientIp address the attempt came from, or null if unknown
+     */
+    public AuthResponse login(LoginRequest request, String clientIp) {
 
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new IllegalStateException("Invalid credentials"));
+        LoginThrottle.Attempt attempt = loginThrottle.reserve(request.getEmail(), clientIp);
+        if (!attempt.admitted()) {
+            throw new LoginThrottledException(LoginThrottle.toRetryAfterSeconds(attempt.retryAfterMs()));
+        }
+
+        User user;
+        boolean matched;
+        try {
+            user = userRepository.findByEmail(request.getEmail()).orElse(null);
+            matched = user != null && passwordEncoder.matches(request.getPassword(), user.getPassword());
+        } catch (RuntimeException ex) {
+            // e.g. a busy hashing pool: the password was never checked
+            loginThrottle.release(attempt);
+            throw ex;
+        }
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!matched) {
+            loginThrottle.recordFailure(attempt);
             throw new IllegalStateException("Invalid credentials");
         }
+        loginThrottle.recordSuccess(attempt);
+
+        // Rehash at the configured BCrypt cost if it changed since this hash was made.
+        // Best effort: with the hashing pool full it waits for a later login instead of failing this one.
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            try {
+                String rehashed = passwordEncoder.encode(request.getPassword());
+                userRepository.replacePassword(user.getEmail(), user.getPassword(), rehashed);
+            } catch (PasswordHashingBusyException ex) {
+                // deferred; the rejection is already counted in PasswordHashingStats
+            }
+        }
 
         UserDetails details = org.springframework.security.core.userdetails.User
                 .withUsername(user.getEmail())
@@ -0,0 +1,130 @@
+package com.example.CampusJobBoard.services;
+
+import com.example.CampusJobBoard.dto.ApplicationCursor;
+import com.example.CampusJobBoard.dto.EmployerPosting;
+import com.example.CampusJobBoard.dto.JobApplicant;
+import com.example.CampusJobBoard.dto.JobCursor;
+import com.example.CampusJobBoard.dto.JobPage;
+import com.example.CampusJobBoard.entities.JobApplication;
+import com.example.CampusJobBoard.repositories.JobApplicationRepository;
+import com.example.CampusJobBoard.repositories.JobRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * An employer's view of their postings and the applicants to them.
+ *
+ * <p>Every page is one keyset query on an index that starts with the
+ * employer's id (postings) or the job id (applicants), and applicant counts
+ * come from {@link JobApplicationCounters} in memory, so the cost of a page
+ * does not grow with the number of postings or applicants.</p>
+ */
+@Service
+public class EmployerPipelineService {
+
+    private final JobRepository jobRepository;
+    private final JobApplicationRepository applicationRepository;
+    private final JobApplicationCounters applicationCounters;
+
+    public EmployerPipelineService(JobRepository jobRepository,
+                                   JobApplicationRepository applicationRepository,
+                                   JobApplicationCounters applicationCounters) {
+        this.jobRepository = jobRepository;
+        this.applicationRepository = applicationRepository;
+        this.applicationCounters = applicationCounters;
+    }
+
+    /**
+     * One page of the employer's postings in any status, newest first, each
+     * with its live applicant counts.
+     *
+     * @param cursor token from the previous page, or null for the first page
+     * @param size   requested page size, clamped to 1..{@value JobService#MAX_PAGE_SIZE}
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public JobPage<EmployerPosting> getPostingsPage(Long employerId, String cursor, int size) {
+        int pageSize = clamp(size);
+        JobCursor after = (cursor == null || cursor.isBlank()) ? null : JobCursor.decode(cursor);
+
+        List<EmployerPosting> rows = jobRepository.findPageByEmployer(
+                employerId,
+                after == null ? null : after.createdAt(),
+                after == null ? null : after.jobId(),
+                Limit.of(pageSize + 1));
+
+        boolean more = rows.size() > pageSize;
+        List<EmployerPosting> items = new ArrayList<>(Math.min(rows.size(), pageSize));
+        for (EmployerPosting row : more ? rows.subList(0, pageSize) : rows) {
+            items.add(row.withApplicants(applicationCounters.countsFor(row.jobId())));
+        }
+
+        if (!more) {
+            return new JobPage<>(items, null);
+        }
+        EmployerPosting last = items.get(pageSize - 1);
+        return new JobPage<>(items, new JobCursor(last.createdAt(), last.jobId()).encode());
+    }
+
+    /**
+     * One page of a posting's applicants, newest first.
+     *
+     * @param status only applicants in this status, or null for all
+     * @return empty if the job does not exist or was not posted by the employer
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public Optional<JobPage<JobApplicant>> getApplicantsPage(Long employerId, Long jobId,
+                                                             JobApplication.Status status,
+                                                             String cursor, int size) {
+        int pageSize = clamp(size);
+        ApplicationCursor after = decode(cursor);
+        if (!jobRepository.isPostedBy(jobId, employerId)) {
+            return Optional.empty();
+        }
+
+        Long cursorId = after == null ? null : after.applicationId();
+        Limit limit = Limit.of(pageSize + 1);
+        List<JobApplicant> rows = status == null
+                ? applicationRepository.findApplicantsPage(jobId, cursorId, limit)
+                : applicationRepository.findApplicantsPageInStatus(jobId, status, cursorId, limit);
+        return Optional.of(page(rows, pageSize));
+    }
+
+    /**
+     * One page of the applicants across all of the employer's postings, newest first.
+     *
+     * @param status only applicants in this status, or null for all
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public JobPage<JobApplicant> getAllApplicantsPage(Long employerId, JobApplication.Status status,
+                                                      String cursor, int size) {
+        int pageSize = clamp(size);
+        ApplicationCursor after = decode(cursor);
+
+        Long cursorId = after == null ? null : after.applicationId();
+        Limit limit = Limit.of(pageSize + 1);
+        List<JobApplicant> rows = status == null
+                ? applicationRepository.findEmployerApplicantsPage(employerId, cursorId, limit)
+                : applicationRepository.findEmployerApplicantsPageInStatus(employerId, status, cursorId, limit);
+        return page(rows, pageSize);
+    }
+
+    private static JobPage<JobApplicant> page(List<JobApplicant> rows, int pageSize) {
+        if (rows.size() <= pageSize) {
+            return new JobPage<>(rows, null);
+        }
+        List<JobApplicant> items = rows.subList(0, pageSize);
+        return new JobPage<>(items, new ApplicationCursor(items.get(pageSize - 1).applicationId()).encode());
+    }
+
+    private static ApplicationCursor decode(String cursor) {
+        return (cursor == null || cursor.isBlank()) ? null : ApplicationCursor.decode(cursor);
+    }
+
+    private static int clamp(int size) {
+        return Math.max(1, Math.min(size, JobService.MAX_PAGE_SIZE));
+    }
+}
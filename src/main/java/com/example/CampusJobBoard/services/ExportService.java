@@ -0,0 +1,187 @@
+package com.example.CampusJobBoard.services;
+
+import com.example.CampusJobBoard.dto.ApplicationExportRow;
+import com.example.CampusJobBoard.dto.JobExportRow;
+import com.example.CampusJobBoard.repositories.JobApplicationRepository;
+import com.example.CampusJobBoard.repositories.JobRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Writes full exports of jobs and applications for admin reporting.
+ *
+ * <p>Rows are read from a streamed result set and written straight to the
+ * response, so memory use stays flat however many rows there are. Each
+ * method holds a read-only transaction open for the length of the export.</p>
+ */
+@Service
+public class ExportService {
+
+    /** Output formats supported by the export endpoints. */
+    public enum Format {
+        NDJSON(MediaType.parseMediaType("application/x-ndjson"), "ndjson"),
+        CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv");
+
+        private final MediaType mediaType;
+        private final String extension;
+
+        Format(MediaType mediaType, String extension) {
+            this.mediaType = mediaType;
+            this.extension = extension;
+        }
+
+        public MediaType mediaType() {
+            return mediaType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        /**
+         * @throws IllegalArgumentException if the format is not supported
+         */
+        public static Format parse(String value) {
+            try {
+                return Format.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ex) {
+                throw new IllegalArgumentException("Unsupported export format: " + value);
+            }
+        }
+    }
+
+    // rows written between flushing the writer and clearing the persistence context
+    private static final int FLUSH_EVERY = 1000;
+
+    private static final String[] JOB_HEADER = {
+            "jobId", "jobTitle", "category", "location", "salary", "deadline",
+            "status", "createdAt", "updatedAt", "employerId", "employerName", "employerEmail"
+    };
+
+    private static final String[] APPLICATION_HEADER = {
+            "applicationId", "jobId", "jobTitle", "studentId", "studentName", "studentEmail"
+    };
+
+    private final JobRepository jobRepository;
+    private final JobApplicationRepository applicationRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    public ExportService(JobRepository jobRepository,
+                         JobApplicationRepository applicationRepository,
+                         EntityManager entityManager,
+                         ObjectMapper objectMapper) {
+        this.jobRepository = jobRepository;
+        this.applicationRepository = applicationRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Writes every job to {@code out}.
+     *
+     * @return number of rows written
+     */
+    @Transactional(readOnly = true)
+    public long writeJobs(Format format, OutputStream out) throws IOException {
+        try (Stream<JobExportRow> rows = jobRepository.streamAllForExport()) {
+            return write(rows, format, JOB_HEADER, row -> new Object[]{
+                    row.jobId(), row.jobTitle(), row.category(), row.location(), row.salary(),
+                    row.deadline(), row.status(), row.createdAt(), row.updatedAt(),
+                    row.employerId(), row.employerName(), row.employerEmail()
+            }, out);
+        }
+    }
+
+    /**
+     * Writes every job application to {@code out}.
+     *
+     * @return number of rows written
+     */
+    @Transactional(readOnly = true)
+    public long writeApplications(Format format, OutputStream out) throws IOException {
+        try (Stream<ApplicationExportRow> rows = applicationRepository.streamAllForExport()) {
+            return write(rows, format, APPLICATION_HEADER, row -> new Object[]{
+                    row.applicationId(), row.jobId(), row.jobTitle(),
+                    row.studentId(), row.studentName(), row.studentEmail()
+            }, out);
+        }
+    }
+
+    private <T> long write(Stream<T> rows, Format format, String[] header,
+                           Function<T, Object[]> columns, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == Format.CSV) {
+            writeCsvLine(writer, header);
+        }
+
+        long count = 0;
+        Iterator<T> it = rows.iterator();
+        while (it.hasNext()) {
+            T row = it.next();
+            if (format == Format.CSV) {
+                writeCsvLine(writer, columns.apply(row));
+            } else {
+                writer.write(objectMapper.writeValueAsString(row));
+                writer.write('\n');
+            }
+
+            if (++count % FLUSH_EVERY == 0) {
+                // projections are not managed, but drop anything Hibernate may have attached
+                writer.flush();
+                entityManager.clear();
+            }
+        }
+        writer.flush();
+        return count;
+    }
+
+    private static void writeCsvLine(Writer writer, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvField(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    // RFC 4180 quoting, plus a leading quote on text that a spreadsheet would run as a formula
+    static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof Date date) {
+            return Instant.ofEpochMilli(date.getTime()).toString();
+        }
+        if (value instanceof Number) {
+            return value.toString();
+        }
+
+        String text = value.toString();
+        if (!text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0
+                || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            text = '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+}
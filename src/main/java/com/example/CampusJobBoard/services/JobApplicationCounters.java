@@ -0,0 +1,203 @@
+package com.example.CampusJobBoard.services;
+
+import com.example.CampusJobBoard.dto.ApplicationCounts;
+import com.example.CampusJobBoard.entities.JobApplication;
+import com.example.CampusJobBoard.entities.JobApplicationCount;
+import com.example.CampusJobBoard.events.ApplicationStatusChangedEvent;
+import com.example.CampusJobBoard.events.ApplicationSubmittedEvent;
+import com.example.CampusJobBoard.repositories.JobApplicationCountBatchRepository.CountDelta;
+import com.example.CampusJobBoard.repositories.JobApplicationCountRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-job application counts (total and per status), kept in memory and
+ * written behind to the job_application_count table.
+ *
+ * <p>Submits and status changes add to {@link LongAdder}s once their
+ * transaction commits, so concurrent applications to a hot job never contend
+ * on one lock or one database row. A scheduled flush writes what changed since
+ * the previous flush as a single multi-row upsert. Adders are never reset: a
+ * flush sends the difference from the last flushed values, so increments that
+ * race with a flush are simply picked up by the next one.</p>
+ *
+ * <p>Deltas not yet flushed when the process dies are recovered on startup,
+ * which recounts the table from job_application before loading it. Requests
+ * are served before then, so the live counters are snapshotted before the
+ * recount: what they held is already in the recounted rows and is replaced by
+ * them, while applications counted after the snapshot are kept and flushed on
+ * top.</p>
+ */
+@Service
+public class JobApplicationCounters {
+
+    private static final class Counter {
+        final LongAdder total = new LongAdder();
+        final LongAdder submitted = new LongAdder();
+        final LongAdder accepted = new LongAdder();
+        final LongAdder rejected = new LongAdder();
+        final AtomicBoolean dirty = new AtomicBoolean();
+
+        // last values written to the table; only touched by the synchronized load() and flush()
+        long flushedTotal;
+        long flushedSubmitted;
+        long flushedAccepted;
+        long flushedRejected;
+
+        LongAdder of(JobApplication.Status status) {
+            return switch (status) {
+                case SUBMITTED -> submitted;
+                case ACCEPTED -> accepted;
+                case REJECTED -> rejected;
+            };
+        }
+    }
+
+    private final JobApplicationCountRepository countRepository;
+
+    private final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+
+    public JobApplicationCounters(JobApplicationCountRepository countRepository) {
+        this.countRepository = countRepository;
+    }
+
+    /** Recounts the table from job_application and loads it once the application has started. */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public synchronized void load() {
+        // events fire after commit, so whatever was counted before the recount is already in its rows
+        Map<Long, long[]> countedBefore = new HashMap<>();
+        counters.forEach((jobId, counter) -> countedBefore.put(jobId, sums(counter)));
+
+        countRepository.recountAll();
+
+        for (JobApplicationCount row : countRepository.findAll()) {
+            long[] stored = {row.getTotal(), row.getSubmitted(), row.getAccepted(), row.getRejected()};
+            rebase(counter(row.getJobId()), stored, countedBefore.remove(row.getJobId()));
+        }
+        // counted before the recount but no longer in job_application
+        countedBefore.forEach((jobId, counted) -> rebase(counters.get(jobId), new long[4], counted));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationSubmitted(ApplicationSubmittedEvent event) {
+        Counter counter = counter(event.jobId());
+        counter.total.increment();
+        counter.submitted.increment();
+        counter.dirty.set(true);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationStatusChanged(ApplicationStatusChangedEvent event) {
+        event.changedPerJob().forEach((jobId, changed) -> {
+            Counter counter = counter(jobId);
+            counter.of(event.previousStatus()).add(-changed);
+            counter.of(event.status()).add(changed);
+            counter.dirty.set(true);
+        });
+    }
+
+    public ApplicationCounts countsFor(Long jobId) {
+        Counter counter = counters.get(jobId);
+        return counter == null ? ApplicationCounts.NONE : snapshot(counter);
+    }
+
+    /** Counts for each of the given jobs; jobs without applications map to {@link ApplicationCounts#NONE}. */
+    public Map<Long, ApplicationCounts> countsFor(Collection<Long> jobIds) {
+        Map<Long, ApplicationCounts> counts = new HashMap<>(jobIds.size() * 2);
+        for (Long jobId : jobIds) {
+            counts.put(jobId, countsFor(jobId));
+        }
+        return counts;
+    }
+
+    /** Writes every counter that changed since the last flush in one upsert. */
+    @Scheduled(fixedDelayString = "${app.applications.counters.flush-ms:5000}")
+    public synchronized void flush() {
+        List<Counter> changed = new ArrayList<>();
+        List<CountDelta> deltas = new ArrayList<>();
+        List<long[]> sums = new ArrayList<>();
+
+        counters.forEach((jobId, counter) -> {
+            // cleared before reading, so an increment after this point marks it again
+            if (!counter.dirty.getAndSet(false)) {
+                return;
+            }
+            long[] sum = sums(counter);
+            CountDelta delta = new CountDelta(jobId,
+                    sum[0] - counter.flushedTotal, sum[1] - counter.flushedSubmitted,
+                    sum[2] - counter.flushedAccepted, sum[3] - counter.flushedRejected);
+            if (delta.total() != 0 || delta.submitted() != 0 || delta.accepted() != 0 || delta.rejected() != 0) {
+                changed.add(counter);
+                deltas.add(delta);
+                sums.add(sum);
+            }
+        });
+
+        try {
+            countRepository.addAll(deltas);
+        } catch (RuntimeException ex) {
+            changed.forEach(counter -> counter.dirty.set(true));
+            throw ex;
+        }
+
+        for (int i = 0; i < changed.size(); i++) {
+            Counter counter = changed.get(i);
+            long[] sum = sums.get(i);
+            counter.flushedTotal = sum[0];
+            counter.flushedSubmitted = sum[1];
+            counter.flushedAccepted = sum[2];
+            counter.flushedRejected = sum[3];
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * Makes the stored values the flushed baseline. What was counted before
+     * the recount is part of them and is replaced; only what was counted since
+     * stays pending.
+     */
+    private static void rebase(Counter counter, long[] stored, long[] countedBefore) {
+        long[] counted = countedBefore == null ? new long[4] : countedBefore;
+        counter.total.add(stored[0] - counted[0]);
+        counter.submitted.add(stored[1] - counted[1]);
+        counter.accepted.add(stored[2] - counted[2]);
+        counter.rejected.add(stored[3] - counted[3]);
+        counter.flushedTotal = stored[0];
+        counter.flushedSubmitted = stored[1];
+        counter.flushedAccepted = stored[2];
+        counter.flushedRejected = stored[3];
+    }
+
+    private static long[] sums(Counter counter) {
+        return new long[] {counter.total.sum(), counter.submitted.sum(),
+                counter.accepted.sum(), counter.rejected.sum()};
+    }
+
+    private Counter counter(Long jobId) {
+        return counters.computeIfAbsent(jobId, id -> new Counter());
+    }
+
+    private static ApplicationCounts snapshot(Counter counter) {
+        return new ApplicationCounts(counter.total.sum(), counter.submitted.sum(),
+                counter.accepted.sum(), counter.rejected.sum());
+    }
+}
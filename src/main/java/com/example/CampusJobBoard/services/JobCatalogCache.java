@@ -0,0 +1,190 @@
+package com.example.CampusJobBoard.services;
+
+import com.example.CampusJobBoard.dto.CatalogCacheStats;
+import com.example.CampusJobBoard.dto.JobListing;
+import com.example.CampusJobBoard.entities.Job;
+import com.example.CampusJobBoard.events.JobChangedEvent;
+import com.example.CampusJobBoard.repositories.JobRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Immutable, versioned snapshot of the approved job catalog.
+ *
+ * <p>Readers grab the current snapshot with a single volatile read and never
+ * lock. Writers (a rebuild from the database, or a patch after a job changes
+ * status or content) build a new snapshot and swap it in, bumping the version.
+ * The version can be used by callers as a cheap "has anything changed" token.</p>
+ */
+@Service
+public class JobCatalogCache {
+
+    /** Distinguishes versions handed out by different runs of the application. */
+    private static final String BOOT_ID = Long.toString(System.currentTimeMillis(), 36);
+
+    /** Listing order: newest first, ties broken by id. */
+    private static final Comparator<JobListing> NEWEST_FIRST =
+            Comparator.comparing(JobListing::createdAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                    .thenComparing(JobListing::jobId, Comparator.reverseOrder());
+
+    private final JobRepository jobRepository;
+
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+    private final AtomicLong versions = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder rebuilds = new LongAdder();
+    private final LongAdder patches = new LongAdder();
+
+    public JobCatalogCache(JobRepository jobRepository) {
+        this.jobRepository = jobRepository;
+    }
+
+    /**
+     * A point-in-time view of the approved catalog.
+     *
+     * @param version monotonically increasing, changes whenever the catalog does
+     * @param jobs    approved jobs, newest first (unmodifiable)
+     * @param byId    the same jobs keyed by id (unmodifiable)
+     */
+    public record Snapshot(long version, List<JobListing> jobs, Map<Long, JobListing> byId) {
+
+        private static Snapshot of(long version, List<JobListing> jobs) {
+            Map<Long, JobListing> byId = new HashMap<>(jobs.size() * 2);
+            for (JobListing job : jobs) {
+                byId.put(job.jobId(), job);
+            }
+            return new Snapshot(version, List.copyOf(jobs), Map.copyOf(byId));
+        }
+    }
+
+    /** Loads the catalog eagerly so the first dashboard request is already a hit. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (current.get() == null) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Returns the current snapshot, loading it from the database only if
+     * nothing has been cached yet.
+     */
+    public Snapshot snapshot() {
+        Snapshot snapshot = current.get();
+        if (snapshot != null) {
+            hits.increment();
+            return snapshot;
+        }
+        misses.increment();
+        return rebuild();
+    }
+
+    /** Shortcut for {@code snapshot().jobs()}. */
+    public List<JobListing> approvedJobs() {
+        return snapshot().jobs();
+    }
+
+    /** Current catalog version without counting as a cache read. */
+    public long version() {
+        Snapshot snapshot = current.get();
+        return snapshot == null ? 0 : snapshot.version();
+    }
+
+    /**
+     * Strong ETag for the current catalog version. Changes whenever the
+     * approved set or any approved job changes.
+     */
+    public String etag() {
+        return "\"catalog-" + BOOT_ID + "-" + loadedVersion() + "\"";
+    }
+
+    /**
+     * ETag for a response derived from the catalog plus something else that
+     * varies per request (the viewer, query parameters, ...).
+     */
+    public String etag(String variant) {
+        return "\"catalog-" + BOOT_ID + "-" + loadedVersion() + "-" + variant + "\"";
+    }
+
+    /** Version of the current snapshot, loading it first if necessary. */
+    private long loadedVersion() {
+        Snapshot snapshot = current.get();
+        return snapshot != null ? snapshot.version() : rebuild().version();
+    }
+
+    /**
+     * Reloads the whole catalog from the database. Synchronized so concurrent
+     * misses trigger a single load; readers of an existing snapshot are unaffected.
+     */
+    public synchronized Snapshot rebuild() {
+        List<JobListing> jobs = new ArrayList<>(jobRepository.findListingsByStatus(Job.Status.APPROVED));
+        jobs.sort(NEWEST_FIRST);
+
+        Snapshot snapshot = Snapshot.of(versions.incrementAndGet(), jobs);
+        current.set(snapshot);
+        rebuilds.increment();
+        return snapshot;
+    }
+
+    /**
+     * Patches the snapshot after a job is approved, edited, rejected or otherwise
+     * leaves the approved set. Copy-on-write: the previous snapshot stays valid
+     * for readers that already hold it.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onJobChanged(JobChangedEvent event) {
+        Snapshot snapshot = current.get();
+        if (snapshot == null) {
+            // nothing cached yet; the next read loads fresh data
+            return;
+        }
+
+        Job job = event.job();
+        boolean approved = job.getStatus() == Job.Status.APPROVED;
+        if (!approved && !snapshot.byId().containsKey(job.getJobId())) {
+            return;
+        }
+
+        List<JobListing> jobs = new ArrayList<>(snapshot.jobs().size() + 1);
+        for (JobListing listing : snapshot.jobs()) {
+            if (!listing.jobId().equals(job.getJobId())) {
+                jobs.add(listing);
+            }
+        }
+        if (approved) {
+            JobListing listing = event.listing();
+            int pos = Collections.binarySearch(jobs, listing, NEWEST_FIRST);
+            jobs.add(pos < 0 ? -pos - 1 : pos, listing);
+        }
+
+        current.set(Snapshot.of(versions.incrementAndGet(), jobs));
+        patches.increment();
+    }
+
+    /** Hit/miss/rebuild counters for monitoring. */
+    public CatalogCacheStats stats() {
+        Snapshot snapshot = current.get();
+        return new CatalogCacheStats(
+                snapshot == null ? 0 : snapshot.version(),
+                snapshot == null ? 0 : snapshot.jobs().size(),
+                hits.sum(),
+                misses.sum(),
+                rebuilds.sum(),
+                patches.sum()
+        );
+    }
+}
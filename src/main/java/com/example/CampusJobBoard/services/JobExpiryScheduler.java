@@ -0,0 +1,196 @@
+package com.example.CampusJobBoard.services;
+
+import com.example.CampusJobBoard.entities.Job;
+import com.example.CampusJobBoard.events.JobChangedEvent;
+import com.example.CampusJobBoard.repositories.JobRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Retires approved jobs once their deadline has passed by moving them to
+ * {@link Job.Status#EXPIRED}.
+ *
+ * <p>Only deadlines inside a rolling horizon (e.g. the next 24 hours) are kept
+ * in memory, in a priority queue ordered by deadline. Each tick pops whatever
+ * is due and expires it in small batched UPDATEs, so the periodic work never
+ * scans the job table. The horizon is topped up from the deadline index as
+ * time moves on, and job writes add or drop entries as they happen.</p>
+ *
+ * <p>On startup a catch-up sweep expires anything whose deadline passed while
+ * the application was down, so nothing is lost across restarts.</p>
+ *
+ * <p>The horizon end ({@code loadedUntil}) is advanced, under the same lock
+ * that job changes check, before the database is queried for the deadlines it
+ * newly covers. A change committed before the query is in its result; a change
+ * arriving after the advance is scheduled by {@link #onJobChanged} directly.
+ * Rows for jobs that changed while the query ran are skipped, so a stale row
+ * cannot bring back an old deadline.</p>
+ */
+@Service
+public class JobExpiryScheduler {
+
+    private final JobRepository jobRepository;
+    private final JobService jobService;
+
+    private final int batchSize;
+    private final long horizonMillis;
+
+    /** Due-time ordered queue; stale entries are skipped when popped. */
+    private final PriorityQueue<DueJob> queue = new PriorityQueue<>();
+    /** Current deadline per scheduled job, used to recognise stale queue entries. */
+    private final Map<Long, Long> deadlines = new HashMap<>();
+    /** Deadlines before this instant have been loaded into the queue, or are scheduled on change. */
+    private long loadedUntil;
+    /** Jobs changed while a refill query runs, or null when none is running. */
+    private Set<Long> changedDuringRefill;
+    /** Serializes refills; job changes only wait for the short state updates. */
+    private final Object refillLock = new Object();
+
+    public JobExpiryScheduler(JobRepository jobRepository,
+                              JobService jobService,
+                              @Value("${app.jobs.expiry.batch-size:100}") int batchSize,
+                              @Value("${app.jobs.expiry.horizon-hours:24}") long horizonHours) {
+        this.jobRepository = jobRepository;
+        this.jobService = jobService;
+        this.batchSize = batchSize;
+        this.horizonMillis = TimeUnit.HOURS.toMillis(horizonHours);
+    }
+
+    /**
+     * Expires everything that went past its deadline while the application was
+     * down, then loads the upcoming horizon.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        // deadlines before now are the catch-up's; from now on changes are scheduled as they happen
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            loadedUntil = now;
+        }
+
+        List<Long> due;
+        do {
+            due = jobRepository.findIdsPastDeadline(Job.Status.APPROVED, new Date(now), Limit.of(batchSize));
+            jobService.expireJobs(due);
+        } while (due.size() == batchSize);
+
+        extendHorizon();
+    }
+
+    /** Expires jobs whose deadline has been reached. */
+    @Scheduled(fixedDelayString = "${app.jobs.expiry.tick-ms:30000}")
+    public void tick() {
+        List<Long> batch;
+        while (!(batch = pollDue(System.currentTimeMillis())).isEmpty()) {
+            jobService.expireJobs(batch);
+        }
+    }
+
+    /** Loads deadlines that have entered the horizon since the last refill. */
+    @Scheduled(fixedDelayString = "${app.jobs.expiry.refill-ms:3600000}",
+               initialDelayString = "${app.jobs.expiry.refill-ms:3600000}")
+    public void extendHorizon() {
+        synchronized (refillLock) {
+            long from;
+            long to = System.currentTimeMillis() + horizonMillis;
+            Set<Long> changed = new HashSet<>();
+            synchronized (this) {
+                from = loadedUntil;
+                if (to <= from) {
+                    return;
+                }
+                loadedUntil = to;
+                changedDuringRefill = changed;
+            }
+
+            List<JobRepository.JobDeadline> upcoming;
+            try {
+                upcoming = jobRepository.findDeadlinesBetween(Job.Status.APPROVED, new Date(from), new Date(to));
+            } catch (RuntimeException ex) {
+                synchronized (this) {
+                    // retry the same range on the next refill
+                    loadedUntil = from;
+                    changedDuringRefill = null;
+                }
+                throw ex;
+            }
+
+            synchronized (this) {
+                for (JobRepository.JobDeadline d : upcoming) {
+                    if (!changed.contains(d.getJobId())) {
+                        schedule(d.getJobId(), d.getDeadline().getTime());
+                    }
+                }
+                changedDuringRefill = null;
+            }
+        }
+    }
+
+    /** Adds, moves or drops a job's deadline as it is approved, edited or leaves APPROVED. */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onJobChanged(JobChangedEvent event) {
+        Job job = event.job();
+        deadlines.remove(job.getJobId());
+        if (changedDuringRefill != null) {
+            changedDuringRefill.add(job.getJobId());
+        }
+
+        if (job.getStatus() == Job.Status.APPROVED && job.getDeadline() != null) {
+            long deadline = job.getDeadline().getTime();
+            // later deadlines are picked up by extendHorizon when they come close
+            if (deadline < loadedUntil) {
+                schedule(job.getJobId(), deadline);
+            }
+        }
+    }
+
+    /** Number of deadlines currently held in memory. */
+    public synchronized int scheduledCount() {
+        return deadlines.size();
+    }
+
+    // ----------------------------
+    // INTERNALS
+    // ----------------------------
+
+    private void schedule(Long jobId, long deadline) {
+        deadlines.put(jobId, deadline);
+        queue.add(new DueJob(deadline, jobId));
+    }
+
+    /** Removes up to one batch of due, still-current entries from the queue. */
+    private synchronized List<Long> pollDue(long now) {
+        List<Long> batch = new ArrayList<>();
+        while (batch.size() < batchSize && !queue.isEmpty() && queue.peek().deadline() <= now) {
+            DueJob next = queue.poll();
+            Long current = deadlines.get(next.jobId());
+            if (current != null && current == next.deadline()) {
+                deadlines.remove(next.jobId());
+                batch.add(next.jobId());
+            }
+        }
+        return batch;
+    }
+
+    private record DueJob(long deadline, Long jobId) implements Comparable<DueJob> {
+        @Override
+        public int compareTo(DueJob other) {
+            return Long.compare(deadline, other.deadline);
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package com.example.CampusJobBoard.services;
+
+import com.example.CampusJobBoard.dto.FacetCount;
+import com.example.CampusJobBoard.dto.JobFacets;
+import com.example.CampusJobBoard.dto.JobListing;
+import com.example.CampusJobBoard.entities.Job;
+import com.example.CampusJobBoard.events.JobChangedEvent;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Facet counts (category, location, salary band, deadline window) for the
+ * approved job catalog.
+ *
+ * <p>Counts are adjusted per job as jobs enter or leave the approved set, so
+ * an update costs O(number of distinct facet values) and never scans the
+ * catalog. After each update an immutable {@link JobFacets} is published, and
+ * {@link #facets()} just returns it.</p>
+ *
+ * <p>Deadline windows are relative to today and do not overlap, so each job
+ * counts towards exactly one of them. The published facets are refreshed when
+ * the date rolls over. A job whose deadline has passed stops counting in every
+ * facet at that moment, even before the expiry scheduler marks it EXPIRED.</p>
+ */
+@Service
+public class JobFacetIndex {
+
+    /** Lower bounds of the salary bands; the last band is open-ended. */
+    private static final int[] SALARY_BAND_FLOORS = {0, 20_000, 40_000, 60_000, 80_000};
+
+    private static final String NO_DEADLINE = "No deadline";
+
+    private final JobCatalogCache catalogCache;
+
+    /** What each indexed job contributed, so it can be subtracted again. */
+    private final Map<Long, Contribution> contributions = new HashMap<>();
+
+    private final Map<String, Long> categoryCounts = new HashMap<>();
+    private final Map<String, Long> locationCounts = new HashMap<>();
+    private final long[] salaryBandCounts = new long[SALARY_BAND_FLOORS.length];
+    private final TreeMap<LocalDate, Long> deadlineCounts = new TreeMap<>();
+    private long noDeadlineCount;
+
+    /** Counted jobs by deadline (epoch millis), so they can be dropped once it passes. */
+    private final TreeMap<Long, Set<Long>> byDeadline = new TreeMap<>();
+    /** Earliest deadline still counted; read without the monitor by {@link #facets()}. */
+    private volatile long nextDeadline = Long.MAX_VALUE;
+
+    private volatile JobFacets published = new JobFacets(List.of(), List.of(), List.of(), List.of());
+
+    public JobFacetIndex(JobCatalogCache catalogCache) {
+        this.catalogCache = catalogCache;
+    }
+
+    /** Builds the counts from the catalog snapshot once the application has started. */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        for (JobListing job : catalogCache.approvedJobs()) {
+            add(job);
+        }
+        publish();
+    }
+
+    /** Adjusts counts when a job is approved, edited, rejected or expires. */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onJobChanged(JobChangedEvent event) {
+        subtract(event.job().getJobId());
+        if (event.job().getStatus() == Job.Status.APPROVED) {
+            add(event.listing());
+        }
+        publish();
+    }
+
+    /** Re-buckets deadline windows once the date changes. */
+    @Scheduled(cron = "0 0 0 * * *")
+    public synchronized void refreshDeadlineWindows() {
+        publish();
+    }
+
+    /**
+     * Current facet counts. Returns the last published snapshot, first
+     * dropping any job whose deadline has passed since it was published.
+     */
+    public JobFacets facets() {
+        if (System.currentTimeMillis() >= nextDeadline) {
+            dropPastDeadlines();
+        }
+        return published;
+    }
+
+    private synchronized void dropPastDeadlines() {
+        long now = System.currentTimeMillis();
+        boolean dropped = false;
+        while (!byDeadline.isEmpty() && byDeadline.firstKey() <= now) {
+            for (Long jobId : List.copyOf(byDeadline.firstEntry().getValue())) {
+                subtract(jobId);
+            }
+            dropped = true;
+        }
+        if (dropped) {
+            publish();
+        }
+    }
+
+    // ----------------------------
+    // INTERNALS (callers hold the monitor)
+    // ----------------------------
+
+    private void add(JobListing job) {
+        subtract(job.jobId());
+        Date deadline = job.deadline();
+        if (deadline != null && deadline.getTime() <= System.currentTimeMillis()) {
+            // still approved, but no longer open to applications
+            return;
+        }
+
+        Contribution contribution = new Contribution(
+                job.category(),
+                job.location(),
+                salaryBand(job.salary()),
+                deadline == null ? null : deadline.getTime(),
+                deadline == null ? null : deadline.toInstant().atZone(ZoneId.systemDefault()).toLocalDate()
+        );
+        contributions.put(job.jobId(), contribution);
+        adjust(contribution, 1);
+        if (deadline != null) {
+            byDeadline.computeIfAbsent(deadline.getTime(), d -> new HashSet<>()).add(job.jobId());
+            nextDeadline = byDeadline.firstKey();
+        }
+    }
+
+    private void subtract(Long jobId) {
+        Contribution previous = contributions.remove(jobId);
+        if (previous == null) {
+            return;
+        }
+        adjust(previous, -1);
+        if (previous.deadlineMillis() != null) {
+            Set<Long> due = byDeadline.get(previous.deadlineMillis());
+            if (due != null && due.remove(jobId) && due.isEmpty()) {
+                byDeadline.remove(previous.deadlineMillis());
+            }
+            nextDeadline = byDeadline.isEmpty() ? Long.MAX_VALUE : byDeadline.firstKey();
+        }
+    }
+
+    private void adjust(Contribution c, long delta) {
+        if (c.category() != null) {
+            adjust(categoryCounts, c.category(), delta);
+        }
+        if (c.location() != null) {
+            adjust(locationCounts, c.location(), delta);
+        }
+        salaryBandCounts[c.salaryBand()] += delta;
+        if (c.deadline() == null) {
+            noDeadlineCount += delta;
+        } else {
+            adjust(deadlineCounts, c.deadline(), delta);
+        }
+    }
+
+    private static <K> void adjust(Map<K, Long> counts, K key, long delta) {
+        counts.merge(key, delta, (a, b) -> a + b == 0 ? null : a + b);
+    }
+
+    private void publish() {
+        published = new JobFacets(
+                sortedByCount(categoryCounts),
+                sortedByCount(locationCounts),
+                salaryBands(),
+                deadlineWindows(LocalDate.now())
+        );
+    }
+
+    private static List<FacetCount> sortedByCount(Map<String, Long> counts) {
+        List<FacetCount> facets = new ArrayList<>(counts.size());
+        counts.forEach((value, count) -> facets.add(new FacetCount(value, count)));
+        facets.sort(Comparator.comparingLong(FacetCount::count).reversed()
+                .thenComparing(FacetCount::value));
+        return List.copyOf(facets);
+    }
+
+    private List<FacetCount> salaryBands() {
+        List<FacetCount> bands = new ArrayList<>(SALARY_BAND_FLOORS.length);
+        for (int i = 0; i < SALARY_BAND_FLOORS.length; i++) {
+            String label = i == SALARY_BAND_FLOORS.length - 1
+                    ? SALARY_BAND_FLOORS[i] + "+"
+                    : SALARY_BAND_FLOORS[i] + "-" + (SALARY_BAND_FLOORS[i + 1] - 1);
+            bands.add(new FacetCount(label, salaryBandCounts[i]));
+        }
+        return List.copyOf(bands);
+    }
+
+    /** Sums per-day deadline counts into disjoint windows relative to {@code today}. */
+    private List<FacetCount> deadlineWindows(LocalDate today) {
+        return List.of(
+                new FacetCount("Next 7 days", sum(today, today.plusDays(7))),
+                new FacetCount("8-30 days", sum(today.plusDays(7), today.plusDays(30))),
+                new FacetCount("Later", sum(today.plusDays(30), null)),
+                new FacetCount(NO_DEADLINE, noDeadlineCount)
+        );
+    }
+
+    private long sum(LocalDate from, LocalDate to) {
+        Map<LocalDate, Long> range = to == null
+                ? deadlineCounts.tailMap(from, true)
+                : deadlineCounts.subMap(from, true, to, false);
+        long total = 0;
+        for (long count : range.values()) {
+            total += count;
+        }
+        return total;
+    }
+
+    private static int salaryBand(int salary) {
+        for (int i = SALARY_BAND_FLOORS.length - 1; i > 0; i--) {
+            if (salary >= SALARY_BAND_FLOORS[i]) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    /** Facet values a single job counts towards. */
+    private record Contribution(String category, String location, int salaryBand,
+                                Long deadlineMillis, LocalDate deadline) {}
+}
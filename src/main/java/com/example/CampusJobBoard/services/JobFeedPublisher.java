@@ -0,0 +1,330 @@
+package com.example.CampusJobBoard.services;
+
+import com.example.CampusJobBoard.dto.JobFeedEvent;
+import com.example.CampusJobBoard.entities.Job;
+import com.example.CampusJobBoard.events.JobChangedEvent;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Live feed of newly approved jobs, sent to students as Server-Sent Events.
+ *
+ * <p>Connections are async servlet requests held open by an {@link SseEmitter},
+ * so an idle subscriber costs no request thread. Approvals, subscriptions and
+ * heartbeats only append to per-subscriber outboxes under one lock, which keeps
+ * the replay buffer single-writer and guarantees a reconnecting client sees its
+ * missed events before any new one.</p>
+ *
+ * <p>Each outbox is drained by at most one task at a time on a small sender
+ * pool, so a client whose socket stops accepting data only ties up its own
+ * task. A client whose outbox fills up, or whose current write has been
+ * blocked for longer than the write timeout, has fallen behind and is
+ * dropped; its browser reconnects with Last-Event-ID and catches up from the
+ * replay buffer.</p>
+ *
+ * <p>Event ids are {@code <boot>-<sequence>}. A client reconnecting with a
+ * Last-Event-ID from this run is replayed everything after it from the recent
+ * events buffer. If the id is from an earlier run or has fallen out of the
+ * buffer, the client gets a {@code reset} event and should reload the list.</p>
+ */
+@Service
+public class JobFeedPublisher {
+
+    public static final String APPROVED_EVENT = "job-approved";
+    public static final String RESET_EVENT = "reset";
+
+    private static final String BOOT_ID = Long.toString(System.currentTimeMillis(), 36);
+
+    private record Entry(long sequence, JobFeedEvent payload) {}
+
+    /** One queued write; {@code last} completes the connection once it is sent. */
+    private record Outgoing(SseEmitter.SseEventBuilder event, boolean last) {}
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    // guarded by feedLock, together with every enqueue, so outboxes see events in sequence order
+    private final Object feedLock = new Object();
+    private final ArrayDeque<Entry> recent = new ArrayDeque<>();
+    private long sequence;
+
+    /** Holds at most one drain task per subscriber, so it is bounded by the subscriber count. */
+    private final ExecutorService senders;
+
+    private final int replaySize;
+    private final long timeoutMs;
+    private final int maxPending;
+    private final long writeTimeoutMs;
+
+    public JobFeedPublisher(@Value("${app.jobs.feed.replay-size:500}") int replaySize,
+                            @Value("${app.jobs.feed.timeout-ms:1800000}") long timeoutMs,
+                            @Value("${app.jobs.feed.max-pending:64}") int maxPending,
+                            @Value("${app.jobs.feed.write-timeout-ms:10000}") long writeTimeoutMs,
+                            @Value("${app.jobs.feed.sender-threads:4}") int senderThreads) {
+        this.replaySize = replaySize;
+        this.timeoutMs = timeoutMs;
+        this.maxPending = maxPending;
+        this.writeTimeoutMs = writeTimeoutMs;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.senders = new ThreadPoolExecutor(senderThreads, senderThreads, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "job-feed-sender-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Opens a feed connection.
+     *
+     * @param lastEventId the Last-Event-ID sent by a reconnecting client, or null
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        return subscribe(new SseEmitter(timeoutMs), lastEventId);
+    }
+
+    SseEmitter subscribe(SseEmitter emitter, String lastEventId) {
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> close(subscriber));
+        emitter.onTimeout(() -> close(subscriber));
+        emitter.onError(ex -> close(subscriber));
+
+        synchronized (feedLock) {
+            subscriber.capacity = maxPending;
+            // flushes the response headers so the client sees the stream open
+            subscriber.offer(new Outgoing(SseEmitter.event().comment("connected"), false));
+            if (lastEventId != null && !replay(subscriber, lastEventId)) {
+                schedule(subscriber);
+                return emitter;
+            }
+            subscribers.add(subscriber);
+        }
+        schedule(subscriber);
+        return emitter;
+    }
+
+    /** Queues a feed event when a job becomes visible to students. */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (!event.enteredStatus(Job.Status.APPROVED)) {
+            return;
+        }
+
+        JobFeedEvent payload = JobFeedEvent.from(event.listing());
+        synchronized (feedLock) {
+            Entry entry = new Entry(++sequence, payload);
+            recent.addLast(entry);
+            if (recent.size() > replaySize) {
+                recent.removeFirst();
+            }
+            for (Subscriber subscriber : subscribers) {
+                enqueue(subscriber, event(entry));
+            }
+        }
+    }
+
+    /**
+     * Comment line that keeps idle connections open through proxies and drops
+     * dead ones, including clients whose current write has stalled.
+     */
+    @Scheduled(fixedDelayString = "${app.jobs.feed.heartbeat-ms:15000}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        for (Subscriber subscriber : subscribers) {
+            long since = subscriber.sendingSince;
+            if (since != 0 && now - since > writeTimeoutMs) {
+                drop(subscriber, new IOException("Feed write blocked for " + (now - since) + " ms"));
+            }
+        }
+        synchronized (feedLock) {
+            for (Subscriber subscriber : subscribers) {
+                enqueue(subscriber, SseEmitter.event().comment("ping"));
+            }
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        senders.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.close()) {
+                subscriber.emitter.complete();
+            }
+        }
+        subscribers.clear();
+    }
+
+    // queues what the client missed; false if it was told to reset instead
+    private boolean replay(Subscriber subscriber, String lastEventId) {
+        long after = parseSequence(lastEventId);
+        long oldest = recent.isEmpty() ? sequence + 1 : recent.peekFirst().sequence();
+
+        if (after < 0 || after > sequence || after < oldest - 1) {
+            subscriber.offer(new Outgoing(SseEmitter.event().name(RESET_EVENT).id(id(sequence)).data(""), true));
+            return false;
+        }
+        for (Entry entry : recent) {
+            if (entry.sequence() > after) {
+                // the replay is bounded by replaySize; the limit applies to live events on top of it
+                subscriber.capacity++;
+                subscriber.offer(new Outgoing(event(entry), false));
+            }
+        }
+        return true;
+    }
+
+    // called under feedLock; a client whose outbox is full has fallen behind
+    private void enqueue(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (subscriber.pending() >= subscriber.capacity) {
+            drop(subscriber, new IOException("Feed client fell " + maxPending + " events behind"));
+            return;
+        }
+        if (subscriber.offer(new Outgoing(event, false))) {
+            schedule(subscriber);
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (!subscriber.startDrain()) {
+            return;
+        }
+        try {
+            senders.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException ex) {
+            drop(subscriber, ex);
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        Outgoing next;
+        while ((next = subscriber.next()) != null) {
+            subscriber.sendingSince = System.currentTimeMillis();
+            try {
+                subscriber.emitter.send(next.event());
+            } catch (IOException | IllegalStateException ex) {
+                drop(subscriber, ex);
+                return;
+            } finally {
+                subscriber.sendingSince = 0;
+            }
+            if (next.last() && subscriber.close()) {
+                subscriber.emitter.complete();
+                return;
+            }
+        }
+    }
+
+    private void drop(Subscriber subscriber, Exception ex) {
+        if (subscriber.close()) {
+            subscribers.remove(subscriber);
+            subscriber.emitter.completeWithError(ex);
+        }
+    }
+
+    private void close(Subscriber subscriber) {
+        subscriber.close();
+        subscribers.remove(subscriber);
+    }
+
+    private static SseEmitter.SseEventBuilder event(Entry entry) {
+        return SseEmitter.event()
+                .name(APPROVED_EVENT)
+                .id(id(entry.sequence()))
+                .data(entry.payload());
+    }
+
+    private static String id(long sequence) {
+        return BOOT_ID + "-" + sequence;
+    }
+
+    // -1 if the id is malformed or from another run
+    private static long parseSequence(String lastEventId) {
+        String prefix = BOOT_ID + "-";
+        if (!lastEventId.startsWith(prefix)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(prefix.length()));
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+
+    /** A connection and its outbox of writes not yet handed to the servlet container. */
+    private static final class Subscriber {
+
+        final SseEmitter emitter;
+        /** When the write in progress started, or 0 when none is. */
+        volatile long sendingSince;
+        /** Outbox size at which the client counts as fallen behind; guarded by feedLock. */
+        int capacity;
+
+        private final ArrayDeque<Outgoing> outbox = new ArrayDeque<>();
+        private boolean draining;
+        private boolean closed;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        synchronized int pending() {
+            return outbox.size();
+        }
+
+        /** Queues a write; true if no drain is running and one should be scheduled. */
+        synchronized boolean offer(Outgoing outgoing) {
+            if (closed) {
+                return false;
+            }
+            outbox.addLast(outgoing);
+            return !draining;
+        }
+
+        /** Claims the drain; false if one is already running or the connection is closed. */
+        synchronized boolean startDrain() {
+            if (draining || closed || outbox.isEmpty()) {
+                return false;
+            }
+            draining = true;
+            return true;
+        }
+
+        /** Next write, or null after releasing the drain when the outbox is empty. */
+        synchronized Outgoing next() {
+            Outgoing next = closed ? null : outbox.pollFirst();
+            if (next == null) {
+                draining = false;
+            }
+            return next;
+        }
+
+        /** Marks the connection closed; true only for the first caller. */
+        synchronized boolean close() {
+            if (closed) {
+                return false;
+            }
+            closed = true;
+            outbox.clear();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,378 @@
+package com.example.CampusJobBoard.services;
+
+import com.example.CampusJobBoard.dto.JobListing;
+import com.example.CampusJobBoard.dto.JobSearchHit;
+import com.example.CampusJobBoard.entities.Job;
+import com.example.CampusJobBoard.events.JobChangedEvent;
+import com.example.CampusJobBoard.repositories.JobRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory full-text index over approved jobs.
+ *
+ * <p>Title, description, category and location are tokenized into an inverted
+ * index (term → job → term frequency) and queries are ranked with BM25. The
+ * last query term is also matched as a prefix, so "soft" finds "software".</p>
+ *
+ * <p>The index is built once at startup from the catalog snapshot (plus the
+ * descriptions, which listings leave out) and then kept current from
+ * {@link JobChangedEvent}s: approved jobs are (re)indexed, anything else is
+ * removed. Searches take a shared read lock and never touch the database.</p>
+ */
+@Service
+public class JobSearchIndex {
+
+    // BM25 tuning constants (standard defaults)
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    /** Title terms count this many times, so title matches outrank body matches. */
+    private static final int TITLE_WEIGHT = 3;
+    /** Category and location are short, high-signal fields. */
+    private static final int FACET_WEIGHT = 2;
+
+    /** Prefix matches score slightly below an exact term match. */
+    private static final double PREFIX_FACTOR = 0.8;
+    /** Upper bound on dictionary terms a single prefix may expand to. */
+    private static final int MAX_PREFIX_EXPANSIONS = 50;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from",
+            "in", "is", "it", "of", "on", "or", "the", "to", "with"
+    );
+
+    private final JobCatalogCache catalogCache;
+    private final JobRepository jobRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /*
+     * Each indexed job gets a dense int ordinal so postings and score
+     * accumulators can be primitive arrays instead of boxed maps.
+     * Ordinals freed by removals are reused.
+     */
+    private final List<IndexedJob> slots = new ArrayList<>();
+    private final ArrayDeque<Integer> freeSlots = new ArrayDeque<>();
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    /** Document length per ordinal, kept flat for the scoring loop. */
+    private int[] lengths = new int[16];
+
+    /** term → postings, sorted so prefix lookups are a sub-map scan. */
+    private final NavigableMap<String, PostingList> postings = new TreeMap<>();
+    private long totalLength;
+
+    public JobSearchIndex(JobCatalogCache catalogCache, JobRepository jobRepository) {
+        this.catalogCache = catalogCache;
+        this.jobRepository = jobRepository;
+    }
+
+    /**
+     * Builds the index from the approved catalog once the application has
+     * started. Listings carry no description, so those come from one extra query.
+     * Holds the write lock throughout, so a job changed meanwhile is applied
+     * after the snapshot instead of being overwritten by it.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        lock.writeLock().lock();
+        try {
+            Map<Long, String> descriptions = new HashMap<>();
+            for (JobRepository.JobDescription row : jobRepository.findDescriptionsByStatus(Job.Status.APPROVED)) {
+                descriptions.put(row.getJobId(), row.getDescription());
+            }
+            for (JobListing job : catalogCache.approvedJobs()) {
+                index(job, descriptions.get(job.jobId()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Keeps the index in step with approvals, edits and rejections. */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        Job job = event.job();
+        if (job.getStatus() == Job.Status.APPROVED) {
+            index(event.listing(), job.getDescription());
+        } else {
+            remove(job.getJobId());
+        }
+    }
+
+    /**
+     * Adds or replaces a job in the index.
+     */
+    public void index(JobListing job, String description) {
+        Map<String, Integer> terms = new HashMap<>();
+        addTerms(terms, job.jobTitle(), TITLE_WEIGHT);
+        addTerms(terms, description, 1);
+        addTerms(terms, job.category(), FACET_WEIGHT);
+        addTerms(terms, job.location(), FACET_WEIGHT);
+
+        int length = terms.values().stream().mapToInt(Integer::intValue).sum();
+        IndexedJob doc = new IndexedJob(
+                job.jobId(), job.jobTitle(), job.category(), job.location(),
+                job.salary(), terms.keySet().toArray(new String[0]), length
+        );
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(job.jobId());
+
+            int ord;
+            if (freeSlots.isEmpty()) {
+                ord = slots.size();
+                slots.add(doc);
+            } else {
+                ord = freeSlots.pop();
+                slots.set(ord, doc);
+            }
+            if (ord >= lengths.length) {
+                lengths = Arrays.copyOf(lengths, Math.max(ord + 1, lengths.length * 2));
+            }
+            lengths[ord] = length;
+            ordinals.put(doc.jobId(), ord);
+            totalLength += length;
+
+            terms.forEach((term, tf) ->
+                    postings.computeIfAbsent(term, t -> new PostingList()).add(ord, tf));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a job from the index. Unknown ids are ignored.
+     */
+    public void remove(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(jobId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ranks approved jobs against a free-text query.
+     *
+     * @param query free text; the final term also matches as a prefix
+     * @param limit maximum number of hits to return
+     * @return hits ordered by descending score
+     */
+    public List<JobSearchHit> search(String query, int limit) {
+        List<String> queryTerms = tokenize(query);
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int docCount = ordinals.size();
+            if (docCount == 0) {
+                return List.of();
+            }
+
+            double avgLength = (double) totalLength / docCount;
+            double[] totals = new double[slots.size()];
+            double[] termBest = new double[slots.size()];
+
+            for (int i = 0; i < queryTerms.size(); i++) {
+                String term = queryTerms.get(i);
+
+                // best score per job for this query term across its exact/prefix expansions
+                Arrays.fill(termBest, 0);
+                scoreTerm(postings.get(term), 1.0, docCount, avgLength, termBest);
+
+                if (i == queryTerms.size() - 1) {
+                    int expansions = 0;
+                    for (PostingList expansion : postings.subMap(term, false, term + Character.MAX_VALUE, false).values()) {
+                        if (++expansions > MAX_PREFIX_EXPANSIONS) {
+                            break;
+                        }
+                        scoreTerm(expansion, PREFIX_FACTOR, docCount, avgLength, termBest);
+                    }
+                }
+
+                for (int ord = 0; ord < totals.length; ord++) {
+                    totals[ord] += termBest[ord];
+                }
+            }
+
+            return topHits(totals, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Number of jobs currently indexed. */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinals.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ----------------------------
+    // INTERNALS (callers hold the lock)
+    // ----------------------------
+
+    private void scoreTerm(PostingList postingList, double factor, int docCount,
+                           double avgLength, double[] termBest) {
+        if (postingList == null) {
+            return;
+        }
+
+        int df = postingList.size;
+        double idf = Math.log(1 + (docCount - df + 0.5) / (df + 0.5));
+
+        for (int i = 0; i < postingList.size; i++) {
+            int ord = postingList.ords[i];
+            int tf = postingList.tfs[i];
+            double norm = tf + K1 * (1 - B + B * lengths[ord] / avgLength);
+            double score = factor * idf * (tf * (K1 + 1)) / norm;
+            if (score > termBest[ord]) {
+                termBest[ord] = score;
+            }
+        }
+    }
+
+    private List<JobSearchHit> topHits(double[] totals, int limit) {
+        // min-heap of ordinals keyed by score, holding the best `limit` seen so far
+        PriorityQueue<Integer> heap =
+                new PriorityQueue<>(Comparator.comparingDouble(ord -> totals[ord]));
+
+        for (int ord = 0; ord < totals.length; ord++) {
+            if (totals[ord] <= 0) {
+                continue;
+            }
+            if (heap.size() < limit) {
+                heap.add(ord);
+            } else if (totals[ord] > totals[heap.peek()]) {
+                heap.poll();
+                heap.add(ord);
+            }
+        }
+
+        List<JobSearchHit> hits = new ArrayList<>(heap.size());
+        for (int ord : heap) {
+            IndexedJob doc = slots.get(ord);
+            hits.add(new JobSearchHit(doc.jobId(), doc.jobTitle(), doc.category(),
+                    doc.location(), doc.salary(), totals[ord]));
+        }
+        hits.sort(Comparator.comparingDouble(JobSearchHit::score).reversed());
+        return hits;
+    }
+
+    private void removeLocked(Long jobId) {
+        Integer ord = ordinals.remove(jobId);
+        if (ord == null) {
+            return;
+        }
+
+        IndexedJob existing = slots.set(ord, null);
+        freeSlots.push(ord);
+        totalLength -= existing.length();
+
+        for (String term : existing.terms()) {
+            PostingList postingList = postings.get(term);
+            if (postingList != null && postingList.remove(ord) && postingList.size == 0) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    private static void addTerms(Map<String, Integer> terms, String text, int weight) {
+        for (String token : tokenize(text)) {
+            terms.merge(token, weight, Integer::sum);
+        }
+    }
+
+    /**
+     * Lower-cases text and splits it on anything that is not a letter or digit,
+     * dropping common stop words.
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty() && !STOP_WORDS.contains(token)) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Parallel primitive arrays of (ordinal, weighted term frequency), sorted
+     * by ordinal so a removal finds its entry by binary search instead of
+     * scanning every job that contains the term.
+     */
+    private static final class PostingList {
+        private int[] ords = new int[4];
+        private int[] tfs = new int[4];
+        private int size;
+
+        void add(int ord, int tf) {
+            int i = Arrays.binarySearch(ords, 0, size, ord);
+            if (i >= 0) {
+                tfs[i] = tf;
+                return;
+            }
+            i = -i - 1;
+            if (size == ords.length) {
+                ords = Arrays.copyOf(ords, size * 2);
+                tfs = Arrays.copyOf(tfs, size * 2);
+            }
+            System.arraycopy(ords, i, ords, i + 1, size - i);
+            System.arraycopy(tfs, i, tfs, i + 1, size - i);
+            ords[i] = ord;
+            tfs[i] = tf;
+            size++;
+        }
+
+        boolean remove(int ord) {
+            int i = Arrays.binarySearch(ords, 0, size, ord);
+            if (i < 0) {
+                return false;
+            }
+            size--;
+            System.arraycopy(ords, i + 1, ords, i, size - i);
+            System.arraycopy(tfs, i + 1, tfs, i, size - i);
+            return true;
+        }
+    }
+
+    /** Per-job data kept for ranking, result rendering and removal. */
+    private record IndexedJob(
+            Long jobId,
+            String jobTitle,
+            String category,
+            String location,
+            int salary,
+            String[] terms,
+            int length
+    ) {}
+}
@@ -1,18 +1,39 @@
 package com.example.CampusJobBoard.services;
 
+import com.example.CampusJobBoard.dto.JobCursor;
+import com.example.CampusJobBoard.dto.JobDetail;
+import com.example.CampusJobBoard.dto.JobFilter;
+import com.example.CampusJobBoard.dto.JobListing;
+import com.example.CampusJobBoard.dto.JobPage;
 import com.example.CampusJobBoard.entities.Job;
+import com.example.CampusJobBoard.events.JobChangedEvent;
 import com.example.CampusJobBoard.repositories.JobRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
 
 @Service
 public class JobService {
 
+    /** Largest page a client may request from the listing endpoints. */
+    public static final int MAX_PAGE_SIZE = 100;
+
     @Autowired
     private final JobRepository jobRepository;
+    private final JobCatalogCache catalogCache;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public JobService(JobRepository jobRepository) {
+    public JobService(JobRepository jobRepository,
+                      JobCatalogCache catalogCache,
+                      ApplicationEventPublisher eventPublisher) {
         this.jobRepository = jobRepository;
+        this.catalogCache = catalogCache;
+        this.eventPublisher = eventPublisher;
     }
 
 
@@ -21,7 +42,93 @@ public class JobService {
                 .orElseThrow(() -> new RuntimeException("Job not found with id: " + id));
     }
 
-    public Object getApprovedJobs() {
-        return jobRepository.findByStatus(Job.Status.APPROVED);
+    /**
+     * Creates or edits a job. Status changes go through {@link #updateJobStatus}.
+     */
+    @Transactional
+    public Job saveJob(Job job) {
+        Job.Status previous = job.getJobId() == null ? null : job.getStatus();
+        Job saved = jobRepository.save(job);
+        eventPublisher.publishEvent(new JobChangedEvent(saved, previous));
+        return saved;
+    }
+
+    /**
+     * Moves a job to a new status (e.g. an admin approving or rejecting a posting).
+     *
+     * @throws IllegalArgumentException if the job does not exist
+     */
+    @Transactional
+    public Job updateJobStatus(Long jobId, Job.Status status) {
+        Job job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("Job not found with id: " + jobId));
+
+        Job.Status previous = job.getStatus();
+        job.setStatus(status);
+        Job saved = jobRepository.save(job);
+
+        eventPublisher.publishEvent(new JobChangedEvent(saved, previous));
+        return saved;
+    }
+
+    /**
+     * Moves a batch of approved jobs to EXPIRED with one UPDATE, then publishes
+     * a change event for each job that actually expired.
+     *
+     * @return number of jobs expired
+     */
+    @Transactional
+    public int expireJobs(List<Long> jobIds) {
+        if (jobIds.isEmpty()) {
+            return 0;
+        }
+
+        int updated = jobRepository.updateStatusForIds(
+                jobIds, Job.Status.APPROVED, Job.Status.EXPIRED, new Date());
+
+        if (updated > 0) {
+            for (Job job : jobRepository.findAllWithEmployerByIdIn(jobIds)) {
+                if (job.getStatus() == Job.Status.EXPIRED) {
+                    eventPublisher.publishEvent(new JobChangedEvent(job, Job.Status.APPROVED));
+                }
+            }
+        }
+        return updated;
+    }
+
+    // one approved job with its description; empty if it does not exist or is not approved
+    public Optional<JobDetail> getApprovedJobDetail(Long jobId) {
+        return jobRepository.findDetailByIdAndStatus(jobId, Job.Status.APPROVED);
+    }
+
+    // returns all approved jobs from the in-memory catalog snapshot
+    public List<JobListing> getApprovedJobs() {
+        return catalogCache.approvedJobs();
+    }
+
+    /**
+     * Returns one keyset page of approved jobs, newest first.
+     *
+     * <p>One extra row is fetched to detect whether another page exists, so
+     * the cost of a page does not depend on how deep the client has scrolled.</p>
+     *
+     * @param filter optional listing filters
+     * @param cursor token from the previous page, or null for the first page
+     * @param size   requested page size, clamped to 1..{@value #MAX_PAGE_SIZE}
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public JobPage<JobListing> getApprovedJobsPage(JobFilter filter, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        JobCursor after = (cursor == null || cursor.isBlank()) ? null : JobCursor.decode(cursor);
+
+        List<JobListing> rows = jobRepository.findPageByStatus(Job.Status.APPROVED, filter, after, pageSize + 1);
+
+        if (rows.size() <= pageSize) {
+            return new JobPage<>(rows, null);
+        }
+
+        List<JobListing> items = rows.subList(0, pageSize);
+        JobListing last = items.get(pageSize - 1);
+        return new JobPage<>(items, new JobCursor(last.createdAt(), last.jobId()).encode());
     }
 }
@@ -0,0 +1,423 @@
+package com.example.CampusJobBoard.services;
+
+import com.example.CampusJobBoard.dto.JobListing;
+import com.example.CampusJobBoard.dto.JobSuggestion;
+import com.example.CampusJobBoard.entities.Job;
+import com.example.CampusJobBoard.events.JobChangedEvent;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Typeahead completions over the titles, categories and locations of approved jobs.
+ *
+ * <p>Values are weighted by how many approved jobs carry them and stored in a
+ * character trie. Each value is inserted once per word start, so "eng" suggests
+ * "Software Engineer". Every node caches the best {@value #TOP_K} suggestions in
+ * its subtree, so a lookup is a walk down the prefix and costs O(prefix length)
+ * whatever the catalog size.</p>
+ *
+ * <p>To keep the footprint small, children are held in sorted parallel arrays
+ * rather than a map per node, keys are capped at {@value #MAX_KEY_LENGTH}
+ * characters, and nodes are pruned as values disappear. Counts are adjusted
+ * per job from {@link JobChangedEvent}s; only the nodes on the changed values'
+ * paths have their cached suggestions recomputed.</p>
+ */
+@Service
+public class JobSuggestIndex {
+
+    /** Suggestions cached per node, and the most a request can get back. */
+    public static final int TOP_K = 10;
+
+    private static final int MAX_KEY_LENGTH = 48;
+
+    private final JobCatalogCache catalogCache;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Node root = new Node();
+
+    /** Every suggestable value by (type, normalized text). */
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    /** Values each indexed job contributed, so they can be taken back out. */
+    private final Map<Long, Entry[]> contributions = new HashMap<>();
+
+    public JobSuggestIndex(JobCatalogCache catalogCache) {
+        this.catalogCache = catalogCache;
+    }
+
+    /** A suggestable value; its count is the number of approved jobs using it. */
+    private static final class Entry {
+        final String id;
+        final String text;
+        final String type;
+        final String[] keys;
+        int count;
+
+        Entry(String id, String text, String type, String[] keys) {
+            this.id = id;
+            this.text = text;
+            this.type = type;
+            this.keys = keys;
+        }
+
+        // higher count first, then alphabetical so results are stable
+        static int compare(Entry a, Entry b) {
+            int byCount = Integer.compare(b.count, a.count);
+            return byCount != 0 ? byCount : a.id.compareTo(b.id);
+        }
+    }
+
+    private static final class Node {
+        private static final char[] NO_LABELS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private static final Entry[] NO_ENTRIES = new Entry[0];
+
+        char[] labels = NO_LABELS;
+        Node[] children = NO_CHILDREN;
+        /** Values whose key ends here. */
+        Entry[] terminal = NO_ENTRIES;
+        /** Best entries in this subtree, best first. */
+        Entry[] top = NO_ENTRIES;
+
+        Node child(char c) {
+            int i = Arrays.binarySearch(labels, c);
+            return i >= 0 ? children[i] : null;
+        }
+
+        Node childOrCreate(char c) {
+            int i = Arrays.binarySearch(labels, c);
+            if (i >= 0) {
+                return children[i];
+            }
+            int at = -i - 1;
+            Node node = new Node();
+
+            char[] newLabels = new char[labels.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, at);
+            System.arraycopy(children, 0, newChildren, 0, at);
+            newLabels[at] = c;
+            newChildren[at] = node;
+            System.arraycopy(labels, at, newLabels, at + 1, labels.length - at);
+            System.arraycopy(children, at, newChildren, at + 1, children.length - at);
+
+            labels = newLabels;
+            children = newChildren;
+            return node;
+        }
+
+        void removeChild(char c) {
+            int i = Arrays.binarySearch(labels, c);
+            if (i < 0) {
+                return;
+            }
+            char[] newLabels = new char[labels.length - 1];
+            Node[] newChildren = new Node[children.length - 1];
+            System.arraycopy(labels, 0, newLabels, 0, i);
+            System.arraycopy(children, 0, newChildren, 0, i);
+            System.arraycopy(labels, i + 1, newLabels, i, labels.length - i - 1);
+            System.arraycopy(children, i + 1, newChildren, i, children.length - i - 1);
+            labels = newLabels.length == 0 ? NO_LABELS : newLabels;
+            children = newChildren.length == 0 ? NO_CHILDREN : newChildren;
+        }
+
+        boolean isEmpty() {
+            return terminal.length == 0 && children.length == 0;
+        }
+
+        // bounded merge of this node's own values and each child's cached best (all sorted)
+        void recomputeTop() {
+            Entry[][] lists = new Entry[children.length + 1][];
+            lists[0] = terminal.length > 1 ? sorted(terminal) : terminal;
+            for (int i = 0; i < children.length; i++) {
+                lists[i + 1] = children[i].top;
+            }
+            int[] heads = new int[lists.length];
+
+            Entry[] best = new Entry[TOP_K];
+            int size = 0;
+            while (size < TOP_K) {
+                int pick = -1;
+                for (int i = 0; i < lists.length; i++) {
+                    if (heads[i] < lists[i].length
+                            && (pick < 0 || Entry.compare(lists[i][heads[i]], lists[pick][heads[pick]]) < 0)) {
+                        pick = i;
+                    }
+                }
+                if (pick < 0) {
+                    break;
+                }
+                Entry entry = lists[pick][heads[pick]++];
+                // the same value reaches a node through several of its word starts
+                if (!contains(best, size, entry)) {
+                    best[size++] = entry;
+                }
+            }
+            top = size == 0 ? NO_ENTRIES : Arrays.copyOf(best, size);
+        }
+
+        private static Entry[] sorted(Entry[] entries) {
+            Entry[] copy = entries.clone();
+            Arrays.sort(copy, Entry::compare);
+            return copy;
+        }
+
+        private static boolean contains(Entry[] entries, int size, Entry entry) {
+            for (int i = 0; i < size; i++) {
+                if (entries[i] == entry) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /** Builds the trie from the approved catalog once the application has started. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        lock.writeLock().lock();
+        try {
+            for (JobListing job : catalogCache.approvedJobs()) {
+                apply(job.jobId(), job, new ArrayList<>());
+            }
+            // one bottom-up pass instead of refreshing paths per job
+            recomputeAll(root);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Keeps counts in step with approvals, edits, rejections and expiry. */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.job().getStatus() == Job.Status.APPROVED) {
+            index(event.listing());
+        } else {
+            remove(event.job().getJobId());
+        }
+    }
+
+    /** Adds or replaces a job's title, category and location. */
+    public void index(JobListing job) {
+        lock.writeLock().lock();
+        try {
+            List<String> touched = new ArrayList<>();
+            apply(job.jobId(), job, touched);
+            refresh(touched);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long jobId) {
+        lock.writeLock().lock();
+        try {
+            List<String> touched = new ArrayList<>();
+            apply(jobId, null, touched);
+            refresh(touched);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Most common values starting with the prefix (at any word), best first.
+     */
+    public List<JobSuggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.child(key.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+
+            int n = Math.min(limit, node.top.length);
+            List<JobSuggestion> results = new ArrayList<>(n);
+            for (int i = 0; i < n; i++) {
+                Entry entry = node.top[i];
+                results.add(new JobSuggestion(entry.text, entry.type, entry.count));
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Number of distinct values that can currently be suggested. */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // swaps the job's previous values for the new ones (none if job is null), collecting changed keys
+    private void apply(Long jobId, JobListing job, List<String> touched) {
+        Map<String, String> values = new LinkedHashMap<>();
+        Map<String, String> types = new HashMap<>();
+        if (job != null) {
+            putValue(values, types, "title", job.jobTitle());
+            putValue(values, types, "category", job.category());
+            putValue(values, types, "location", job.location());
+        }
+
+        // values the job no longer has lose a count; unchanged ones are left alone
+        Entry[] previous = contributions.getOrDefault(jobId, new Entry[0]);
+        Map<String, Entry> kept = new HashMap<>();
+        for (Entry entry : previous) {
+            if (values.containsKey(entry.id)) {
+                kept.put(entry.id, entry);
+                continue;
+            }
+            entry.count--;
+            if (entry.count == 0) {
+                entries.remove(entry.id);
+                for (String key : entry.keys) {
+                    delete(root, key, 0, entry);
+                }
+            }
+            touched.addAll(Arrays.asList(entry.keys));
+        }
+
+        if (values.isEmpty()) {
+            contributions.remove(jobId);
+            return;
+        }
+
+        List<Entry> current = new ArrayList<>(values.size());
+        values.forEach((id, text) -> {
+            Entry entry = kept.get(id);
+            if (entry == null) {
+                entry = entries.get(id);
+                if (entry == null) {
+                    entry = new Entry(id, text.trim(), types.get(id), wordStarts(normalize(text)));
+                    entries.put(id, entry);
+                    for (String key : entry.keys) {
+                        insert(key, entry);
+                    }
+                }
+                entry.count++;
+                touched.addAll(Arrays.asList(entry.keys));
+            }
+            current.add(entry);
+        });
+        contributions.put(jobId, current.toArray(new Entry[0]));
+    }
+
+    // keyed by (type, normalized text); blank values are skipped
+    private static void putValue(Map<String, String> values, Map<String, String> types,
+                                 String type, String text) {
+        String normalized = normalize(text);
+        if (!normalized.isEmpty()) {
+            String id = type + ':' + normalized;
+            values.put(id, text);
+            types.put(id, type);
+        }
+    }
+
+    private void insert(String key, Entry entry) {
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.childOrCreate(key.charAt(i));
+        }
+        Entry[] terminal = Arrays.copyOf(node.terminal, node.terminal.length + 1);
+        terminal[terminal.length - 1] = entry;
+        node.terminal = terminal;
+    }
+
+    // removes the entry at the end of key, pruning nodes that become empty
+    private static void delete(Node node, String key, int depth, Entry entry) {
+        if (depth == key.length()) {
+            node.terminal = Arrays.stream(node.terminal)
+                    .filter(e -> e != entry)
+                    .toArray(Entry[]::new);
+            return;
+        }
+        char c = key.charAt(depth);
+        Node child = node.child(c);
+        if (child == null) {
+            return;
+        }
+        delete(child, key, depth + 1, entry);
+        if (child.isEmpty()) {
+            node.removeChild(c);
+        }
+    }
+
+    // recomputes cached suggestions on every node along the keys' paths, deepest first, once each
+    private void refresh(List<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        Map<Node, Integer> depths = new IdentityHashMap<>();
+        for (String key : keys) {
+            Node node = root;
+            depths.put(node, 0);
+            for (int depth = 0; depth < key.length(); depth++) {
+                node = node.child(key.charAt(depth));
+                if (node == null) {
+                    break;
+                }
+                depths.put(node, depth + 1);
+            }
+        }
+
+        List<Map.Entry<Node, Integer>> nodes = new ArrayList<>(depths.entrySet());
+        nodes.sort(Map.Entry.<Node, Integer>comparingByValue().reversed());
+        for (Map.Entry<Node, Integer> node : nodes) {
+            node.getKey().recomputeTop();
+        }
+    }
+
+    private static void recomputeAll(Node node) {
+        for (Node child : node.children) {
+            recomputeAll(child);
+        }
+        node.recomputeTop();
+    }
+
+    // lower-case, single-spaced, and cut to the maximum key length
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String collapsed = text.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+        return collapsed.length() > MAX_KEY_LENGTH ? collapsed.substring(0, MAX_KEY_LENGTH) : collapsed;
+    }
+
+    // the value itself plus the remainder from each later word, e.g. "software engineer", "engineer"
+    private static String[] wordStarts(String normalized) {
+        List<String> keys = new ArrayList<>();
+        keys.add(normalized);
+        for (int i = 1; i < normalized.length(); i++) {
+            char before = normalized.charAt(i - 1);
+            if (!Character.isLetterOrDigit(before) && Character.isLetterOrDigit(normalized.charAt(i))) {
+                keys.add(normalized.substring(i));
+            }
+        }
+        return keys.toArray(new String[0]);
+    }
+}
@@ -0,0 +1,357 @@
+package com.example.CampusJobBoard.services;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * Counts failed logins per email and per client IP and locks either out once
+ * it fails too often, so password guessing is cut off before it reaches the
+ * user lookup or BCrypt.
+ *
+ * <p>Failures are counted over a sliding window, estimated from the current
+ * and previous fixed windows. Going over the limit locks the key for
+ * {@code lockout-ms}; each further lockout before the key goes quiet doubles
+ * the delay, up to {@code max-lockout-ms}. A successful login clears its
+ * email but not its IP.</p>
+ *
+ * <p>Every attempt is reserved with {@link #reserve} before the password is
+ * checked, and counts as in flight until its outcome is recorded. A key
+ * admits only as many attempts at once as it has failures left (one after a
+ * lockout ends), so parallel guesses cannot all pass the check before the
+ * first of them fails.</p>
+ *
+ * <p>An email that logged in successfully from an IP is not held back by
+ * that IP's lockout for {@code trusted-pair-ms}, so students behind a shared
+ * campus address are not locked out by someone else's guessing there. Their
+ * own email is still throttled as usual.</p>
+ *
+ * <p>Keys that have gone quiet are dropped by a periodic sweep. Tracking a
+ * key beyond {@code max-entries} drops quiet keys, then unlocked ones, then
+ * those whose lockout ends soonest, down to 90% of the limit, so the next
+ * eviction is at least a tenth of the limit of new keys away.</p>
+ */
+@Service
+public class LoginThrottle {
+
+    private static final class Window {
+        long start;
+        int previous;
+        int current;
+        int inFlight;
+        long lockedUntil;
+        int lockouts;
+
+        Window(long now) {
+            this.start = now;
+        }
+
+        // rolls the fixed windows forward to the one containing now
+        void advance(long now, long windowMs) {
+            long elapsed = now - start;
+            if (elapsed < windowMs) {
+                return;
+            }
+            previous = elapsed < 2 * windowMs ? current : 0;
+            current = 0;
+            start = now - elapsed % windowMs;
+        }
+
+        double estimate(long now, long windowMs) {
+            double previousWeight = 1.0 - (double) (now - start) / windowMs;
+            return previous * previousWeight + current;
+        }
+
+        boolean isQuiet(long now, long windowMs) {
+            return lockedUntil <= now && inFlight == 0
+                    && ((previous == 0 && current == 0) || now - start >= 2 * windowMs);
+        }
+    }
+
+    /** Retry-After for an attempt turned away only because others on its key are still running. */
+    static final long IN_FLIGHT_RETRY_MS = 1000;
+
+    private final long windowMs;
+    private final int maxFailuresPerEmail;
+    private final int maxFailuresPerIp;
+    private final long lockoutMs;
+    private final long maxLockoutMs;
+    private final long trustedPairMs;
+    private final int maxEntries;
+    private final LongSupplier clock;
+
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+    /** Last successful login per (email, IP). */
+    private final Map<String, Long> trustedPairs = new ConcurrentHashMap<>();
+    private final AtomicBoolean sweeping = new AtomicBoolean();
+
+    @Autowired
+    public LoginThrottle(@Value("${app.login.throttle.window-ms:900000}") long windowMs,
+                         @Value("${app.login.throttle.max-failures-per-email:5}") int maxFailuresPerEmail,
+                         @Value("${app.login.throttle.max-failures-per-ip:20}") int maxFailuresPerIp,
+                         @Value("${app.login.throttle.lockout-ms:30000}") long lockoutMs,
+                         @Value("${app.login.throttle.max-lockout-ms:900000}") long maxLockoutMs,
+                         @Value("${app.login.throttle.trusted-pair-ms:2592000000}") long trustedPairMs,
+                         @Value("${app.login.throttle.max-entries:100000}") int maxEntries) {
+        this(windowMs, maxFailuresPerEmail, maxFailuresPerIp, lockoutMs, maxLockoutMs, trustedPairMs, maxEntries,
+                System::currentTimeMillis);
+    }
+
+    LoginThrottle(long windowMs, int maxFailuresPerEmail, int maxFailuresPerIp, long lockoutMs, long maxLockoutMs,
+                  long trustedPairMs, int maxEntries, LongSupplier clock) {
+        this.windowMs = windowMs;
+        this.maxFailuresPerEmail = maxFailuresPerEmail;
+        this.maxFailuresPerIp = maxFailuresPerIp;
+        this.lockoutMs = lockoutMs;
+        this.maxLockoutMs = maxLockoutMs;
+        this.trustedPairMs = trustedPairMs;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    /**
+     * A login attempt passed to {@link #reserve}: the keys it holds in flight,
+     * so its outcome is recorded against exactly those even if the pair
+     * becomes trusted meanwhile.
+     *
+     * @param emailKey     email key reserved, or null
+     * @param ipKey        IP key reserved, or null if the IP is unknown or the pair was trusted
+     * @param pairKey      (email, IP) pair to trust on success, or null
+     * @param retryAfterMs 0 if the attempt was admitted, otherwise milliseconds
+     *                     until the email or IP will admit it
+     */
+    public record Attempt(String emailKey, String ipKey, String pairKey, long retryAfterMs) {
+
+        public boolean admitted() {
+            return retryAfterMs == 0;
+        }
+    }
+
+    /**
+     * Reserves one login attempt for this email from this IP. An admitted
+     * attempt must be followed by exactly one of {@link #recordFailure},
+     * {@link #recordSuccess} or {@link #release}.
+     */
+    public Attempt reserve(String email, String ip) {
+        long now = clock.getAsLong();
+        String emailKey = emailKey(email);
+        String pairKey = pairKey(email, ip);
+        String ipKey = isTrusted(pairKey, now) ? null : ipKey(ip);
+
+        Window emailWindow = window(emailKey, now);
+        Window ipWindow = window(ipKey, now);
+        // always email before IP, so two attempts never hold the locks in opposite order
+        synchronized (lockFor(emailWindow)) {
+            synchronized (lockFor(ipWindow)) {
+                long wait = Math.max(waitFor(emailWindow, maxFailuresPerEmail, now),
+                        waitFor(ipWindow, maxFailuresPerIp, now));
+                if (wait > 0) {
+                    return new Attempt(emailKey, ipKey, pairKey, wait);
+                }
+                if (emailWindow != null) {
+                    emailWindow.inFlight++;
+                }
+                if (ipWindow != null) {
+                    ipWindow.inFlight++;
+                }
+                return new Attempt(emailKey, ipKey, pairKey, 0);
+            }
+        }
+    }
+
+    /** Counts a reserved attempt as failed, locking its keys if they went over the limit. */
+    public void recordFailure(Attempt attempt) {
+        long now = clock.getAsLong();
+        fail(attempt.emailKey(), maxFailuresPerEmail, now);
+        fail(attempt.ipKey(), maxFailuresPerIp, now);
+    }
+
+    /** Clears the email's failures and trusts this (email, IP) pair for {@code trusted-pair-ms}. */
+    public void recordSuccess(Attempt attempt) {
+        long now = clock.getAsLong();
+        finish(attempt.ipKey());
+        if (attempt.emailKey() != null) {
+            windows.remove(attempt.emailKey());
+        }
+        String pairKey = attempt.pairKey();
+        if (pairKey != null) {
+            if (!trustedPairs.containsKey(pairKey) && trustedPairs.size() >= maxEntries) {
+                evictTrustedPairs(now);
+            }
+            trustedPairs.put(pairKey, now);
+        }
+    }
+
+    /** Gives back a reserved attempt that ended without checking the password. */
+    public void release(Attempt attempt) {
+        finish(attempt.emailKey());
+        finish(attempt.ipKey());
+    }
+
+    /** Drops keys that are not locked and have had no failures for a full window, and expired trust. */
+    @Scheduled(fixedDelayString = "${app.login.throttle.sweep-ms:60000}")
+    public void sweep() {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long now = clock.getAsLong();
+            windows.values().removeIf(window -> {
+                synchronized (window) {
+                    return window.isQuiet(now, windowMs);
+                }
+            });
+            trustedPairs.values().removeIf(since -> now - since >= trustedPairMs);
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private long waitFor(Window window, int maxFailures, long now) {
+        if (window == null) {
+            return 0;
+        }
+        window.advance(now, windowMs);
+        if (window.lockedUntil > now) {
+            return window.lockedUntil - now;
+        }
+        // attempts still running may all fail; admit only as many as there are failures left,
+        // and one at a time once a lockout has ended
+        boolean full = window.inFlight > 0 && window.estimate(now, windowMs) + window.inFlight >= maxFailures;
+        return full ? IN_FLIGHT_RETRY_MS : 0;
+    }
+
+    private void fail(String key, int maxFailures, long now) {
+        if (key == null) {
+            return;
+        }
+        Window window = window(key, now);
+        synchronized (window) {
+            window.inFlight = Math.max(0, window.inFlight - 1);
+            window.advance(now, windowMs);
+            window.current++;
+            if (window.estimate(now, windowMs) >= maxFailures) {
+                long delay = Math.min(maxLockoutMs, lockoutMs << Math.min(window.lockouts, 20));
+                window.lockedUntil = now + delay;
+                window.lockouts++;
+            }
+        }
+    }
+
+    private void finish(String key) {
+        Window window = key == null ? null : windows.get(key);
+        if (window != null) {
+            synchronized (window) {
+                window.inFlight = Math.max(0, window.inFlight - 1);
+            }
+        }
+    }
+
+    private Window window(String key, long now) {
+        if (key == null) {
+            return null;
+        }
+        Window window = windows.get(key);
+        if (window == null) {
+            // make room first, so the new key is not the one evicted
+            if (windows.size() >= maxEntries) {
+                evict(now);
+            }
+            window = windows.computeIfAbsent(key, k -> new Window(now));
+        }
+        return window;
+    }
+
+    // a null window still needs something to synchronize on
+    private Object lockFor(Window window) {
+        return window == null ? this : window;
+    }
+
+    /**
+     * Drops quiet keys, then unlocked ones, then those whose lockout ends
+     * soonest, until at most 90% of {@code max-entries} remain. An evicted
+     * key only loses its count; attempts already reserved on it finish
+     * harmlessly.
+     */
+    private void evict(long now) {
+        if (!sweeping.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int target = maxEntries - maxEntries / 10;
+            windows.values().removeIf(window -> {
+                synchronized (window) {
+                    return window.isQuiet(now, windowMs);
+                }
+            });
+            // still too many (e.g. a spray from many addresses): drop unlocked keys
+            Iterator<Window> it = windows.values().iterator();
+            while (windows.size() > target && it.hasNext()) {
+                Window window = it.next();
+                synchronized (window) {
+                    if (window.lockedUntil <= now) {
+                        it.remove();
+                    }
+                }
+            }
+            // every key is locked: give up the lockouts closest to ending
+            int excess = windows.size() - target;
+            if (excess > 0) {
+                long[] lockedUntil = windows.values().stream().mapToLong(window -> window.lockedUntil).toArray();
+                Arrays.sort(lockedUntil);
+                long cutoff = lockedUntil[Math.min(excess, lockedUntil.length) - 1];
+                windows.values().removeIf(window -> window.lockedUntil <= cutoff);
+            }
+        } finally {
+            sweeping.set(false);
+        }
+    }
+
+    private void evictTrustedPairs(long now) {
+        trustedPairs.values().removeIf(since -> now - since >= trustedPairMs);
+        int target = maxEntries - maxEntries / 10;
+        int excess = trustedPairs.size() - target;
+        if (excess > 0) {
+            long[] since = trustedPairs.values().stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(since);
+            long cutoff = since[Math.min(excess, since.length) - 1];
+            trustedPairs.values().removeIf(at -> at <= cutoff);
+        }
+    }
+
+    private boolean isTrusted(String pairKey, long now) {
+        Long since = pairKey == null ? null : trustedPairs.get(pairKey);
+        return since != null && now - since < trustedPairMs;
+    }
+
+    private static String emailKey(String email) {
+        return email == null ? null : "email:" + normalize(email);
+    }
+
+    private static String ipKey(String ip) {
+        return ip == null ? null : "ip:" + ip;
+    }
+
+    private static String pairKey(String email, String ip) {
+        return email == null || ip == null ? null : normalize(email) + " " + ip;
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /** Seconds for a Retry-After header, rounded up. */
+    public static long toRetryAfterSeconds(long retryAfterMs) {
+        return Math.max(1, TimeUnit.MILLISECONDS.toSeconds(retryAfterMs + 999));
+    }
+}
@@ -0,0 +1,444 @@
+package com.example.CampusJobBoard.services;
+
+import com.example.CampusJobBoard.dto.JobListing;
+import com.example.CampusJobBoard.dto.JobRecommendation;
+import com.example.CampusJobBoard.events.ApplicationSubmittedEvent;
+import com.example.CampusJobBoard.repositories.JobApplicationRepository;
+import com.example.CampusJobBoard.repositories.JobApplicationRepository.ApplicationHistory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * "Recommended for you" ranking of approved jobs, learned from application history.
+ *
+ * <p>Each student has an immutable {@link Profile}: how often they applied per
+ * category and location, their average applied salary, and the jobs they applied
+ * to. Across students the service keeps co-application counts (how many students
+ * applied to both of two jobs) and applicant counts per job. Everything is built
+ * once at startup and then updated incrementally on each submitted application,
+ * so a request never goes to the database.</p>
+ *
+ * <p>Ranking is a linear scan: each request scores every approved job in one
+ * pass over primitive arrays derived from the catalog snapshot (no hashing or
+ * allocation per job), adds co-application boosts from the top
+ * {@value #MAX_NEIGHBOURS} neighbours of each applied job and keeps the best
+ * results in a bounded heap. The cost is O(jobs + applied * neighbours +
+ * jobs log limit) per request, so a popular job does not drag in every job
+ * its applicants ever applied to, but it still grows with the catalog.</p>
+ */
+@Service
+public class RecommendationService {
+
+    private static final double CATEGORY_WEIGHT = 0.35;
+    private static final double LOCATION_WEIGHT = 0.15;
+    private static final double SALARY_WEIGHT = 0.15;
+    private static final double CO_APPLIED_WEIGHT = 0.30;
+    private static final double POPULARITY_WEIGHT = 0.05;
+
+    /** Only a student's most recent applications feed co-application counts. */
+    private static final int MAX_CO_APPLIED = 50;
+    /** Only a job's most co-applied neighbours boost recommendations. */
+    static final int MAX_NEIGHBOURS = 20;
+
+    private final JobApplicationRepository applicationRepository;
+    private final JobCatalogCache catalogCache;
+
+    private final Map<Long, Profile> profiles = new ConcurrentHashMap<>();
+    private final Map<Long, Neighbours> coApplied = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> applicants = new ConcurrentHashMap<>();
+    private volatile int maxApplicants;
+    private volatile Features features;
+
+    public RecommendationService(JobApplicationRepository applicationRepository,
+                                 JobCatalogCache catalogCache) {
+        this.applicationRepository = applicationRepository;
+        this.catalogCache = catalogCache;
+    }
+
+    /**
+     * What the recommender knows about one student. Replaced, never mutated.
+     *
+     * @param applied job ids applied to, oldest first
+     */
+    record Profile(Map<String, Integer> categories,
+                   Map<String, Integer> locations,
+                   long salarySum,
+                   int salaryCount,
+                   Set<Long> applied) {
+
+        static final Profile EMPTY = new Profile(Map.of(), Map.of(), 0, 0, Set.of());
+
+        /**
+         * Mutable form of a profile, so a student's history is accumulated in
+         * one pass instead of copying the profile for every application.
+         */
+        static final class Builder {
+            private final Map<String, Integer> categories;
+            private final Map<String, Integer> locations;
+            private long salarySum;
+            private int salaryCount;
+            private final LinkedHashSet<Long> applied;
+            private final List<Long> order;
+
+            Builder() {
+                this(EMPTY);
+            }
+
+            Builder(Profile profile) {
+                categories = new HashMap<>(profile.categories());
+                locations = new HashMap<>(profile.locations());
+                salarySum = profile.salarySum();
+                salaryCount = profile.salaryCount();
+                applied = new LinkedHashSet<>(profile.applied());
+                order = new ArrayList<>(profile.applied());
+            }
+
+            boolean hasApplied(Long jobId) {
+                return applied.contains(jobId);
+            }
+
+            /** The most recent applications, oldest first, that a new one is paired with. */
+            List<Long> recent() {
+                return order.subList(Math.max(0, order.size() - MAX_CO_APPLIED), order.size());
+            }
+
+            Builder add(Long jobId, String category, String location, Integer salary) {
+                if (!applied.add(jobId)) {
+                    return this;
+                }
+                order.add(jobId);
+                increment(categories, category);
+                increment(locations, location);
+                if (salary != null && salary > 0) {
+                    salarySum += salary;
+                    salaryCount++;
+                }
+                return this;
+            }
+
+            Profile build() {
+                return new Profile(Collections.unmodifiableMap(categories),
+                        Collections.unmodifiableMap(locations), salarySum, salaryCount,
+                        Collections.unmodifiableSet(applied));
+            }
+
+            private static void increment(Map<String, Integer> counts, String key) {
+                if (key != null && !key.isBlank()) {
+                    counts.merge(key, 1, Integer::sum);
+                }
+            }
+        }
+    }
+
+    /**
+     * Co-application counts of one job, with its {@value #MAX_NEIGHBOURS}
+     * strongest neighbours kept up to date as the counts grow, so a request
+     * reads those instead of every job the job was ever co-applied with.
+     * Counts only increase, so a neighbour can only enter the top when its own
+     * count changes, and checking it then keeps the top exact. Written only
+     * under the service's monitor; readers see the published top.
+     */
+    private static final class Neighbours {
+
+        private record Top(long[] jobIds, int[] counts) {}
+
+        private final Map<Long, Integer> counts = new HashMap<>();
+        private volatile Top top = new Top(new long[0], new int[0]);
+
+        void increment(Long jobId) {
+            int count = counts.merge(jobId, 1, Integer::sum);
+            Top current = top;
+            int n = current.jobIds().length;
+            int slot = -1;
+            for (int i = 0; i < n && slot < 0; i++) {
+                if (current.jobIds()[i] == jobId) {
+                    slot = i;
+                }
+            }
+            int size = n;
+            if (slot < 0 && n < MAX_NEIGHBOURS) {
+                slot = n;
+                size = n + 1;
+            } else if (slot < 0) {
+                // full: replace the weakest neighbour if this one now outranks it
+                int weakest = 0;
+                for (int i = 1; i < n; i++) {
+                    if (current.counts()[i] < current.counts()[weakest]) {
+                        weakest = i;
+                    }
+                }
+                if (count <= current.counts()[weakest]) {
+                    return;
+                }
+                slot = weakest;
+            }
+            long[] jobIds = Arrays.copyOf(current.jobIds(), size);
+            int[] topCounts = Arrays.copyOf(current.counts(), size);
+            jobIds[slot] = jobId;
+            topCounts[slot] = count;
+            top = new Top(jobIds, topCounts);
+        }
+
+        void addTo(Map<Long, Integer> scores) {
+            Top current = top;
+            for (int i = 0; i < current.jobIds().length; i++) {
+                scores.merge(current.jobIds()[i], current.counts()[i], Integer::sum);
+            }
+        }
+    }
+
+    /**
+     * Builds every profile from the application table once the application has
+     * started. Rows are streamed, and each student's profile is accumulated in
+     * a builder and frozen once at the end.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public synchronized void load() {
+        profiles.clear();
+        coApplied.clear();
+        applicants.clear();
+        maxApplicants = 0;
+        features = null;
+
+        Map<Long, Profile.Builder> building = new HashMap<>();
+        try (Stream<ApplicationHistory> rows = applicationRepository.streamAllHistory()) {
+            rows.forEach(row -> {
+                Profile.Builder profile = building.computeIfAbsent(row.getUserId(), id -> new Profile.Builder());
+                if (!profile.hasApplied(row.getJobId())) {
+                    learn(profile.recent(), row.getJobId());
+                    profile.add(row.getJobId(), row.getCategory(), row.getLocation(), row.getSalary());
+                }
+            });
+        }
+        building.forEach((userId, profile) -> profiles.put(userId, profile.build()));
+    }
+
+    /** Learns from a new application once it has been committed. */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationSubmitted(ApplicationSubmittedEvent event) {
+        JobListing job = catalogCache.snapshot().byId().get(event.jobId());
+        if (job == null) {
+            record(event.userId(), event.jobId(), null, null, null);
+        } else {
+            record(event.userId(), event.jobId(), job.category(), job.location(), job.salary());
+        }
+    }
+
+    /**
+     * Best approved jobs for the student, excluding ones already applied to.
+     * Students without history get the most applied-to jobs, newest first on ties.
+     */
+    public List<JobRecommendation> recommend(Long userId, int limit) {
+        Features features = features();
+        int n = features.jobs().size();
+        if (limit <= 0 || n == 0) {
+            return List.of();
+        }
+
+        Profile profile = profiles.getOrDefault(userId, Profile.EMPTY);
+        int total = profile.applied().size();
+        double[] categoryScores = termScores(features.categoryIds(), profile.categories(), CATEGORY_WEIGHT, total);
+        double[] locationScores = termScores(features.locationIds(), profile.locations(), LOCATION_WEIGHT, total);
+        double meanSalary = profile.salaryCount() == 0 ? 0 : (double) profile.salarySum() / profile.salaryCount();
+        double popularityScale = maxApplicants == 0 ? 0 : POPULARITY_WEIGHT / maxApplicants;
+
+        int[] category = features.category();
+        int[] location = features.location();
+        int[] salary = features.salary();
+        int[] applicantCounts = features.applicants();
+
+        double[] scores = new double[n];
+        for (int i = 0; i < n; i++) {
+            double score = categoryScores[category[i]] + locationScores[location[i]]
+                    + applicantCounts[i] * popularityScale;
+            if (meanSalary > 0 && salary[i] > 0) {
+                score += SALARY_WEIGHT / (1 + Math.abs(salary[i] - meanSalary) / meanSalary);
+            }
+            scores[i] = score;
+        }
+
+        Map<Long, Integer> coScores = coAppliedScores(profile);
+        int maxCo = coScores.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+        coScores.forEach((jobId, count) -> {
+            Integer position = features.positions().get(jobId);
+            if (position != null) {
+                scores[position] += CO_APPLIED_WEIGHT * count / maxCo;
+            }
+        });
+        for (Long applied : profile.applied()) {
+            Integer position = features.positions().get(applied);
+            if (position != null) {
+                scores[position] = Double.NEGATIVE_INFINITY;
+            }
+        }
+
+        return top(features, scores, limit);
+    }
+
+    /**
+     * Catalog attributes in arrays indexed by catalog position, rebuilt when the
+     * catalog version changes. Category and location are dense ids, with 0 for
+     * "none", so ranking needs no hashing per job. Applicant counts are updated
+     * in place as applications arrive.
+     */
+    private record Features(long version,
+                            List<JobListing> jobs,
+                            Map<Long, Integer> positions,
+                            Map<String, Integer> categoryIds,
+                            Map<String, Integer> locationIds,
+                            int[] category,
+                            int[] location,
+                            int[] salary,
+                            int[] applicants) {}
+
+    private Features features() {
+        JobCatalogCache.Snapshot snapshot = catalogCache.snapshot();
+        Features current = features;
+        if (current != null && current.version() == snapshot.version()) {
+            return current;
+        }
+        return rebuildFeatures(snapshot);
+    }
+
+    private synchronized Features rebuildFeatures(JobCatalogCache.Snapshot snapshot) {
+        Features current = features;
+        if (current != null && current.version() >= snapshot.version()) {
+            return current;
+        }
+
+        List<JobListing> jobs = snapshot.jobs();
+        int n = jobs.size();
+        Map<Long, Integer> positions = new HashMap<>(n * 2);
+        Map<String, Integer> categoryIds = new HashMap<>();
+        Map<String, Integer> locationIds = new HashMap<>();
+        int[] category = new int[n];
+        int[] location = new int[n];
+        int[] salary = new int[n];
+        int[] applicantCounts = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            JobListing job = jobs.get(i);
+            positions.put(job.jobId(), i);
+            category[i] = termId(categoryIds, job.category());
+            location[i] = termId(locationIds, job.location());
+            salary[i] = job.salary();
+            applicantCounts[i] = applicants.getOrDefault(job.jobId(), 0);
+        }
+
+        Features rebuilt = new Features(snapshot.version(), jobs, positions,
+                categoryIds, locationIds, category, location, salary, applicantCounts);
+        features = rebuilt;
+        return rebuilt;
+    }
+
+    private static int termId(Map<String, Integer> ids, String term) {
+        if (term == null || term.isBlank()) {
+            return 0;
+        }
+        return ids.computeIfAbsent(term, t -> ids.size() + 1);
+    }
+
+    // weight * share of the student's applications, per dense term id
+    private static double[] termScores(Map<String, Integer> ids, Map<String, Integer> counts,
+                                       double weight, int total) {
+        double[] scores = new double[ids.size() + 1];
+        if (total > 0) {
+            counts.forEach((term, count) -> {
+                Integer id = ids.get(term);
+                if (id != null) {
+                    scores[id] = weight * count / total;
+                }
+            });
+        }
+        return scores;
+    }
+
+    // bounded min-heap of positions; on equal scores the earlier (newer) job wins
+    private static List<JobRecommendation> top(Features features, double[] scores, int limit) {
+        PriorityQueue<Integer> best = new PriorityQueue<>(limit + 1, (a, b) -> {
+            int byScore = Double.compare(scores[a], scores[b]);
+            return byScore != 0 ? byScore : Integer.compare(b, a);
+        });
+
+        for (int i = 0; i < scores.length; i++) {
+            if (scores[i] == Double.NEGATIVE_INFINITY) {
+                continue;
+            }
+            if (best.size() < limit) {
+                best.add(i);
+            } else if (scores[i] > scores[best.peek()]) {
+                best.poll();
+                best.add(i);
+            }
+        }
+
+        List<JobRecommendation> results = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            int position = best.poll();
+            JobListing job = features.jobs().get(position);
+            results.add(new JobRecommendation(job.jobId(), job.jobTitle(), job.category(),
+                    job.location(), job.salary(), job.deadline(), job.employerName(), scores[position]));
+        }
+        Collections.reverse(results);
+        return results;
+    }
+
+    // for each job, how many co-applications it shares with the student's own jobs, from their top neighbours
+    private Map<Long, Integer> coAppliedScores(Profile profile) {
+        if (profile.applied().isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Integer> scores = new HashMap<>();
+        for (Long applied : profile.applied()) {
+            Neighbours neighbours = coApplied.get(applied);
+            if (neighbours != null) {
+                neighbours.addTo(scores);
+            }
+        }
+        return scores;
+    }
+
+    private synchronized void record(Long userId, Long jobId, String category, String location, Integer salary) {
+        Profile profile = profiles.getOrDefault(userId, Profile.EMPTY);
+        if (profile.applied().contains(jobId)) {
+            return;
+        }
+        Profile.Builder updated = new Profile.Builder(profile);
+        learn(updated.recent(), jobId);
+        profiles.put(userId, updated.add(jobId, category, location, salary).build());
+    }
+
+    // pairs the new job with the student's recent applications and counts its applicant
+    private void learn(List<Long> recent, Long jobId) {
+        for (Long other : recent) {
+            coApplied.computeIfAbsent(other, id -> new Neighbours()).increment(jobId);
+            coApplied.computeIfAbsent(jobId, id -> new Neighbours()).increment(other);
+        }
+
+        int count = applicants.merge(jobId, 1, Integer::sum);
+        if (count > maxApplicants) {
+            maxApplicants = count;
+        }
+        Features current = features;
+        Integer position = current == null ? null : current.positions().get(jobId);
+        if (position != null) {
+            current.applicants()[position] = count;
+        }
+    }
+}
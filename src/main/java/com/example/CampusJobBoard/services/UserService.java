@@ -4,6 +4,7 @@ import com.example.CampusJobBoard.dto.CreateAdminRequest;
 import com.example.CampusJobBoard.dto.AdminSummaryResponse;
 import com.example.CampusJobBoard.dto.SuperAdminProfileResponse;
 import com.example.CampusJobBoard.dto.UpdateSuperAdminRequest;
+import com.example.CampusJobBoard.dto.UserSnapshot;
 import com.example.CampusJobBoard.entities.User;
 import com.example.CampusJobBoard.repositories.UserRepository;
 import com.example.CampusJobBoard.exceptions.ValidationException;
@@ -21,11 +22,14 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserSnapshotCache userSnapshots;
 
     public UserService(UserRepository userRepository,
-                       PasswordEncoder passwordEncoder) {
+                       PasswordEncoder passwordEncoder,
+                       UserSnapshotCache userSnapshots) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.userSnapshots = userSnapshots;
     }
 
     /**
@@ -48,6 +52,7 @@ public class UserService {
         admin.setRole(User.Role.ADMIN);
 
         userRepository.save(admin);
+        userSnapshots.evict(admin.getEmail());
     }
 
     /**
@@ -83,6 +88,7 @@ public class UserService {
         }
 
         userRepository.deleteById(userId);
+        userSnapshots.evict(userId);
     }
 
     /**
@@ -179,15 +185,21 @@ public class UserService {
         superAdmin.setMustUpdateProfile(false);
 
         userRepository.save(superAdmin);
+        userSnapshots.evict(currentEmail);
+        userSnapshots.evict(email);
     }
 
-    public User findUserById(Long id) {
-        return userRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("User not found with id: " + id));
+    // id only, for write paths that just need the foreign key; served from the snapshot cache
+    public Long findIdByEmail(String email) {
+        return findSnapshotByEmail(email).userId();
     }
 
-    public User findByEmail(String email) {
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("User not found with id: " + email));
+    /**
+     * The signed-in user's id, name and role, usually without a query
+     * (see {@link UserSnapshotCache}).
+     */
+    public UserSnapshot findSnapshotByEmail(String email) {
+        return userSnapshots.get(email)
+                .orElseThrow(() -> new RuntimeException("User not found with email: " + email));
     }
 }
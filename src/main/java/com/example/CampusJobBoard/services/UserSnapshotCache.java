@@ -0,0 +1,83 @@
+package com.example.CampusJobBoard.services;
+
+import com.example.CampusJobBoard.dto.UserSnapshot;
+import com.example.CampusJobBoard.repositories.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link UserSnapshot}s by email, so resolving the caller of a request
+ * (dashboards, submits, every "who am I" lookup) is a map read rather than a
+ * query.
+ *
+ * <p>There is no expiry: the code paths that change a user's snapshot fields
+ * or remove a user evict it exactly (registration, admin creation and
+ * deletion, super admin profile updates). A load that races with an eviction
+ * is not stored, so a snapshot read before a change can never be cached after
+ * it. Unknown emails are not cached.</p>
+ *
+ * <p>At most {@code max-entries} snapshots are kept; past that, arbitrary
+ * ones are dropped down to 90% and reloaded on their next use.</p>
+ */
+@Service
+public class UserSnapshotCache {
+
+    private final UserRepository userRepository;
+    private final int maxEntries;
+
+    private final Map<String, UserSnapshot> snapshots = new ConcurrentHashMap<>();
+    /** Bumped by every eviction; a load only stores its result if no eviction happened meanwhile. */
+    private final AtomicLong evictions = new AtomicLong();
+
+    public UserSnapshotCache(UserRepository userRepository,
+                             @Value("${app.users.snapshot-cache.max-entries:50000}") int maxEntries) {
+        this.userRepository = userRepository;
+        this.maxEntries = maxEntries;
+    }
+
+    public Optional<UserSnapshot> get(String email) {
+        UserSnapshot cached = snapshots.get(email);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long evictionsBefore = evictions.get();
+        Optional<UserSnapshot> loaded = userRepository.findSnapshotByEmail(email);
+        loaded.ifPresent(snapshot -> {
+            if (snapshots.size() >= maxEntries) {
+                trim();
+            }
+            snapshots.putIfAbsent(email, snapshot);
+            // an eviction during the load may have been for this user; drop what we stored
+            if (evictions.get() != evictionsBefore) {
+                snapshots.remove(email, snapshot);
+            }
+        });
+        return loaded;
+    }
+
+    public void evict(String email) {
+        evictions.incrementAndGet();
+        snapshots.remove(email);
+    }
+
+    public void evict(Long userId) {
+        evictions.incrementAndGet();
+        snapshots.values().removeIf(snapshot -> snapshot.userId().equals(userId));
+    }
+
+    private void trim() {
+        int target = maxEntries - maxEntries / 10;
+        Iterator<UserSnapshot> it = snapshots.values().iterator();
+        while (snapshots.size() > target && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.CampusJobBoard.controllers;
+
+import com.example.CampusJobBoard.dto.EmployerPosting;
+import com.example.CampusJobBoard.dto.JobApplicant;
+import com.example.CampusJobBoard.dto.UserSnapshot;
+import com.example.CampusJobBoard.entities.Job;
+import com.example.CampusJobBoard.entities.JobApplication;
+import com.example.CampusJobBoard.entities.User;
+import com.example.CampusJobBoard.repositories.JobApplicationCountRepository;
+import com.example.CampusJobBoard.repositories.JobApplicationRepository;
+import com.example.CampusJobBoard.repositories.JobRepository;
+import com.example.CampusJobBoard.repositories.UserRepository;
+import com.example.CampusJobBoard.services.ApplicationService;
+import com.example.CampusJobBoard.services.EmployerPipelineService;
+import com.example.CampusJobBoard.services.JobApplicationCounters;
+import com.example.CampusJobBoard.services.UserService;
+import com.example.CampusJobBoard.services.UserSnapshotCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies the employer pipeline endpoints: pages are scoped to the signed-in
+ * employer, another employer's job answers 404 without reading its applicants,
+ * and a malformed cursor answers 400.
+ */
+class EmployerControllerTests {
+
+    private static final UserSnapshot EMPLOYER = new UserSnapshot(
+            2L, "Campus Library", "library@campus.edu", User.Role.EMPLOYER, User.Status.ACTIVE, false);
+
+    private JobRepository jobRepository;
+    private JobApplicationRepository applicationRepository;
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository = mock(JobRepository.class);
+        applicationRepository = mock(JobApplicationRepository.class);
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findSnapshotByEmail(EMPLOYER.email())).thenReturn(Optional.of(EMPLOYER));
+
+        EmployerController controller = new EmployerController(
+                mock(ApplicationService.class),
+                new UserService(userRepository, mock(PasswordEncoder.class), new UserSnapshotCache(userRepository, 1000)),
+                new EmployerPipelineService(jobRepository, applicationRepository,
+                        new JobApplicationCounters(mock(JobApplicationCountRepository.class))));
+        mvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void postingsAreTheSignedInEmployers() throws Exception {
+        when(jobRepository.findPageByEmployer(2L, null, null, Limit.of(21))).thenReturn(List.of(
+                new EmployerPosting(12L, "Library Assistant", "Library", "Campus",
+                        15, null, Job.Status.APPROVED, new Date())));
+
+        mvc.perform(get("/api/employer/jobs").principal(employer()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].jobId").value(12))
+                .andExpect(jsonPath("$.items[0].applicants.total").value(0))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void applicantsOfAnotherEmployersJobAre404() throws Exception {
+        when(jobRepository.isPostedBy(30L, 2L)).thenReturn(false);
+
+        mvc.perform(get("/api/employer/jobs/30/applicants").principal(employer()))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.error").exists());
+
+        verify(applicationRepository, never()).findApplicantsPage(anyLong(), any(), any());
+    }
+
+    @Test
+    void applicantsOfOwnJobAreListed() throws Exception {
+        when(jobRepository.isPostedBy(12L, 2L)).thenReturn(true);
+        when(applicationRepository.findApplicantsPageInStatus(12L, JobApplication.Status.SUBMITTED, null, Limit.of(21)))
+                .thenReturn(List.of(applicant(5L, 12L)));
+
+        mvc.perform(get("/api/employer/jobs/12/applicants")
+                        .param("status", "SUBMITTED")
+                        .principal(employer()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].applicationId").value(5))
+                .andExpect(jsonPath("$.items[0].studentEmail").value("student@campus.edu"));
+    }
+
+    @Test
+    void allApplicantsAreReadByTheSignedInEmployer() throws Exception {
+        when(applicationRepository.findEmployerApplicantsPage(2L, null, Limit.of(21)))
+                .thenReturn(List.of(applicant(5L, 12L), applicant(4L, 11L)));
+
+        mvc.perform(get("/api/employer/applicants").principal(employer()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[1].jobId").value(11));
+    }
+
+    @Test
+    void malformedCursorIs400() throws Exception {
+        mvc.perform(get("/api/employer/jobs").param("cursor", "not-a-cursor").principal(employer()))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid cursor."));
+        mvc.perform(get("/api/employer/applicants").param("cursor", "not-a-cursor").principal(employer()))
+                .andExpect(status().isBadRequest());
+    }
+
+    private static JobApplicant applicant(Long applicationId, Long jobId) {
+        Date submitted = new Date();
+        return new JobApplicant(applicationId, jobId, "Job " + jobId, 7L, "Student",
+                "student@campus.edu", JobApplication.Status.SUBMITTED, submitted, submitted);
+    }
+
+    private static UsernamePasswordAuthenticationToken employer() {
+        return new UsernamePasswordAuthenticationToken(EMPLOYER.email(), null, List.of());
+    }
+}
@@ -0,0 +1,350 @@
+package com.example.CampusJobBoard.controllers;
+
+import com.example.CampusJobBoard.dto.ApplicationCursor;
+import com.example.CampusJobBoard.dto.JobDetail;
+import com.example.CampusJobBoard.dto.JobListing;
+import com.example.CampusJobBoard.dto.StudentApplication;
+import com.example.CampusJobBoard.dto.UserSnapshot;
+import com.example.CampusJobBoard.entities.Job;
+import com.example.CampusJobBoard.entities.JobApplication;
+import com.example.CampusJobBoard.entities.User;
+import com.example.CampusJobBoard.events.ApplicationSubmittedEvent;
+import com.example.CampusJobBoard.repositories.JobApplicationBatchRepository.NewApplication;
+import com.example.CampusJobBoard.repositories.JobApplicationRepository;
+import com.example.CampusJobBoard.repositories.JobRepository;
+import com.example.CampusJobBoard.repositories.UserRepository;
+import com.example.CampusJobBoard.services.ApplicationService;
+import com.example.CampusJobBoard.services.ApplicationVersionTracker;
+import com.example.CampusJobBoard.services.AppliedJobsIndex;
+import com.example.CampusJobBoard.services.ApplicationWriteBehindQueue;
+import com.example.CampusJobBoard.services.JobCatalogCache;
+import com.example.CampusJobBoard.services.JobFacetIndex;
+import com.example.CampusJobBoard.services.JobFeedPublisher;
+import com.example.CampusJobBoard.services.JobSearchIndex;
+import com.example.CampusJobBoard.services.JobService;
+import com.example.CampusJobBoard.services.JobSuggestIndex;
+import com.example.CampusJobBoard.services.RecommendationService;
+import com.example.CampusJobBoard.services.UserService;
+import com.example.CampusJobBoard.services.UserSnapshotCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies which repository methods the student endpoints call: unchanged
+ * resources are answered with 304 before any repository is touched, and
+ * application submits call only the user id lookup and one insertAll. These
+ * are mocked repositories, so the tests check calls, not SQL statements.
+ */
+class StudentControllerTests {
+
+    // variant of the applications ETag for a request without query parameters
+    private static final String FIRST_PAGE = ConditionalGet.queryVariant(null);
+
+    private static final UserSnapshot STUDENT = new UserSnapshot(
+            7L, "Student", "student@campus.edu", User.Role.STUDENT, User.Status.ACTIVE, false);
+
+    private JobRepository jobRepository;
+    private JobApplicationRepository applicationRepository;
+    private UserRepository userRepository;
+    private JobCatalogCache catalogCache;
+    private ApplicationVersionTracker applicationVersions;
+    private AppliedJobsIndex appliedJobs;
+    private ApplicationEventPublisher events;
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository = mock(JobRepository.class);
+        applicationRepository = mock(JobApplicationRepository.class);
+        userRepository = mock(UserRepository.class);
+        events = mock(ApplicationEventPublisher.class);
+
+        when(jobRepository.findListingsByStatus(Job.Status.APPROVED)).thenReturn(List.of(
+                new JobListing(1L, "Library Assistant", "Library", "Campus",
+                        15, null, new Date(), "Campus Library")
+        ));
+
+        catalogCache = new JobCatalogCache(jobRepository);
+        applicationVersions = new ApplicationVersionTracker();
+        appliedJobs = new AppliedJobsIndex(applicationRepository);
+        mvc = buildMvc(writeBehind(false));
+    }
+
+    private MockMvc buildMvc(ApplicationWriteBehindQueue writeBehind) {
+        StudentController controller = new StudentController(
+                new ApplicationService(applicationRepository, catalogCache, appliedJobs, writeBehind, events),
+                new UserService(userRepository, mock(PasswordEncoder.class), new UserSnapshotCache(userRepository, 1000)),
+                new JobService(jobRepository, catalogCache, events),
+                new JobSearchIndex(catalogCache, jobRepository),
+                new JobFacetIndex(catalogCache),
+                catalogCache,
+                applicationVersions,
+                new JobFeedPublisher(500, 1_800_000, 64, 10_000, 1),
+                new RecommendationService(applicationRepository, catalogCache),
+                new JobSuggestIndex(catalogCache),
+                writeBehind
+        );
+        return MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    private ApplicationWriteBehindQueue writeBehind(boolean enabled) {
+        ApplicationWriteBehindQueue queue = new ApplicationWriteBehindQueue(
+                applicationRepository, appliedJobs, events, enabled, 100, 500, 5, 100, 600_000);
+        queue.start();
+        return queue;
+    }
+
+    @Test
+    void unchangedCatalogReturns304WithoutRepositoryCalls() throws Exception {
+        String etag = mvc.perform(get("/api/student"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        clearInvocations(jobRepository);
+
+        mvc.perform(get("/api/student").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verifyNoInteractions(jobRepository);
+    }
+
+    @Test
+    void queriesWithTheSameStringHashGetDifferentEtags() throws Exception {
+        when(userRepository.findSnapshotByEmail("student@campus.edu")).thenReturn(Optional.of(STUDENT));
+        assertThat("category=Aa".hashCode()).isEqualTo("category=BB".hashCode());
+
+        String etag = mvc.perform(get("/api/student/jobs?category=Aa").principal(student()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mvc.perform(get("/api/student/jobs?category=BB").principal(student())
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void unchangedApplicationsReturn304AfterOnlyTheUserIdLookup() throws Exception {
+        when(userRepository.findSnapshotByEmail("student@campus.edu")).thenReturn(Optional.of(STUDENT));
+        String etag = applicationVersions.etag(7L, FIRST_PAGE);
+
+        mvc.perform(get("/api/student/applications").principal(student())
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(userRepository).findSnapshotByEmail("student@campus.edu");
+        verifyNoMoreInteractions(userRepository);
+        verifyNoInteractions(applicationRepository);
+    }
+
+    @Test
+    void repeatRequestsResolveTheCallerFromTheSnapshotCache() throws Exception {
+        when(userRepository.findSnapshotByEmail("student@campus.edu")).thenReturn(Optional.of(STUDENT));
+        String etag = applicationVersions.etag(7L, FIRST_PAGE);
+
+        for (int i = 0; i < 3; i++) {
+            mvc.perform(get("/api/student/applications").principal(student())
+                            .header(HttpHeaders.IF_NONE_MATCH, etag))
+                    .andExpect(status().isNotModified());
+        }
+
+        verify(userRepository).findSnapshotByEmail("student@campus.edu");
+        verifyNoMoreInteractions(userRepository);
+    }
+
+    @Test
+    void newApplicationChangesTheApplicationsEtag() throws Exception {
+        when(userRepository.findSnapshotByEmail("student@campus.edu")).thenReturn(Optional.of(STUDENT));
+        String before = applicationVersions.etag(7L, FIRST_PAGE);
+        applicationVersions.onApplicationSubmitted(new ApplicationSubmittedEvent(7L, 1L));
+
+        mvc.perform(get("/api/student/applications").principal(student())
+                        .header(HttpHeaders.IF_NONE_MATCH, before))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, applicationVersions.etag(7L, FIRST_PAGE)));
+    }
+
+    @Test
+    void applicationsPageIsOneRepositoryCallWithCursor() throws Exception {
+        when(userRepository.findSnapshotByEmail("student@campus.edu")).thenReturn(Optional.of(STUDENT));
+        when(applicationRepository.findStudentApplicationsPage(eq(7L), isNull(), any())).thenReturn(List.of(
+                new StudentApplication(9L, 1L, "Library Assistant", "Campus Library",
+                        JobApplication.Status.SUBMITTED, new Date(), new Date()),
+                new StudentApplication(5L, 2L, "Tutor", "Learning Centre",
+                        JobApplication.Status.ACCEPTED, new Date(), new Date())
+        ));
+
+        mvc.perform(get("/api/student/applications").param("size", "1").principal(student()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].jobTitle").value("Library Assistant"))
+                .andExpect(jsonPath("$.nextCursor").value(new ApplicationCursor(9L).encode()));
+
+        verify(applicationRepository).findStudentApplicationsPage(7L, null, Limit.of(2));
+        verifyNoMoreInteractions(applicationRepository);
+    }
+
+    @Test
+    void catalogChangeInvalidatesEtag() throws Exception {
+        String etag = mvc.perform(get("/api/student"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        catalogCache.rebuild();
+
+        mvc.perform(get("/api/student").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void submitCallsOnlyTheUserIdLookupAndOneInsertAll() throws Exception {
+        catalogCache.warmUp();
+        clearInvocations(jobRepository);
+        when(userRepository.findSnapshotByEmail("student@campus.edu")).thenReturn(Optional.of(STUDENT));
+
+        mvc.perform(post("/api/student/submit").param("JobId", "1").principal(student()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.outcome").value("APPLIED"));
+
+        verify(userRepository).findSnapshotByEmail("student@campus.edu");
+        verify(applicationRepository).insertAll(7L, List.of(1L));
+        verifyNoMoreInteractions(userRepository, applicationRepository);
+        verifyNoInteractions(jobRepository);
+    }
+
+    @Test
+    void batchSubmitCallsInsertAllOnceAndReportsEachJob() throws Exception {
+        catalogCache.warmUp();
+        clearInvocations(jobRepository);
+        when(userRepository.findSnapshotByEmail("student@campus.edu")).thenReturn(Optional.of(STUDENT));
+
+        mvc.perform(post("/api/student/submit/batch").principal(student())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"jobIds\": [1, 1, 42]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].jobId").value(1))
+                .andExpect(jsonPath("$[0].outcome").value("APPLIED"))
+                .andExpect(jsonPath("$[1].jobId").value(42))
+                .andExpect(jsonPath("$[1].outcome").value("JOB_NOT_AVAILABLE"));
+
+        verify(userRepository).findSnapshotByEmail("student@campus.edu");
+        verify(applicationRepository).insertAll(7L, List.of(1L));
+        verifyNoMoreInteractions(userRepository, applicationRepository);
+        verifyNoInteractions(jobRepository);
+    }
+
+    @Test
+    void secondSubmitToSameJobIsRejectedWithoutInsert() throws Exception {
+        catalogCache.warmUp();
+        when(userRepository.findSnapshotByEmail("student@campus.edu")).thenReturn(Optional.of(STUDENT));
+
+        mvc.perform(post("/api/student/submit").param("JobId", "1").principal(student()))
+                .andExpect(status().isOk());
+        mvc.perform(post("/api/student/submit").param("JobId", "1").principal(student()))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.outcome").value("ALREADY_APPLIED"));
+
+        verify(applicationRepository).insertAll(7L, List.of(1L));
+        verifyNoMoreInteractions(applicationRepository);
+    }
+
+    @Test
+    void writeBehindAcknowledgesSubmitAndReportsPersistence() throws Exception {
+        catalogCache.warmUp();
+        when(userRepository.findSnapshotByEmail("student@campus.edu")).thenReturn(Optional.of(STUDENT));
+        ApplicationWriteBehindQueue writeBehind = writeBehind(true);
+        MockMvc queued = buildMvc(writeBehind);
+
+        String body = queued.perform(post("/api/student/submit").param("JobId", "1").principal(student()))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.outcome").value("QUEUED"))
+                .andReturn().getResponse().getContentAsString();
+        String ackId = body.replaceAll(".*\"ackId\":\"([^\"]+)\".*", "$1");
+
+        writeBehind.shutdown();
+        verify(applicationRepository).insertAll(List.of(new NewApplication(7L, 1L)));
+        verify(events).publishEvent(new ApplicationSubmittedEvent(7L, 1L));
+
+        queued.perform(get("/api/student/submit/status/" + ackId).principal(student()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("PERSISTED"));
+        queued.perform(get("/api/student/submit/status/unknown").principal(student()))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void browserFormSubmitRedirectsToTheDashboardWithTheOutcome() throws Exception {
+        when(userRepository.findSnapshotByEmail("student@campus.edu")).thenReturn(Optional.of(STUDENT));
+
+        mvc.perform(post("/api/student/submit").principal(student())
+                        .contentType(MediaType.APPLICATION_FORM_URLENCODED)
+                        .header(HttpHeaders.ACCEPT, "text/html,application/xhtml+xml,*/*;q=0.8")
+                        .param("JobId", "42"))
+                .andExpect(status().isSeeOther())
+                .andExpect(header().string(HttpHeaders.LOCATION,
+                        "http://localhost/student/dashboard?applied=JOB_NOT_AVAILABLE"));
+
+        verifyNoInteractions(applicationRepository);
+    }
+
+    @Test
+    void submitToUnavailableJobIsRejectedWithoutInsert() throws Exception {
+        when(userRepository.findSnapshotByEmail("student@campus.edu")).thenReturn(Optional.of(STUDENT));
+
+        mvc.perform(post("/api/student/submit").param("JobId", "42").principal(student()))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.outcome").value("JOB_NOT_AVAILABLE"));
+
+        verifyNoInteractions(applicationRepository);
+    }
+
+    @Test
+    void jobDetailCarriesTheDescriptionThatListingsLeaveOut() throws Exception {
+        when(jobRepository.findDetailByIdAndStatus(1L, Job.Status.APPROVED)).thenReturn(Optional.of(
+                new JobDetail(1L, "Library Assistant", "Shelving", "Library", "Campus",
+                        15, null, new Date(), "Campus Library")));
+
+        mvc.perform(get("/api/student/jobs/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.description").value("Shelving"));
+        mvc.perform(get("/api/student"))
+                .andExpect(jsonPath("$[0].description").doesNotExist());
+        mvc.perform(get("/api/student/jobs/2"))
+                .andExpect(status().isNotFound());
+    }
+
+    private static UsernamePasswordAuthenticationToken student() {
+        return new UsernamePasswordAuthenticationToken("student@campus.edu", null, List.of());
+    }
+}
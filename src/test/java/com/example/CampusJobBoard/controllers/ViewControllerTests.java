@@ -0,0 +1,122 @@
+package com.example.CampusJobBoard.controllers;
+
+import com.example.CampusJobBoard.dto.UserSnapshot;
+import com.example.CampusJobBoard.entities.Job;
+import com.example.CampusJobBoard.entities.User;
+import com.example.CampusJobBoard.events.ApplicationSubmittedEvent;
+import com.example.CampusJobBoard.repositories.JobApplicationCountRepository;
+import com.example.CampusJobBoard.repositories.JobApplicationRepository;
+import com.example.CampusJobBoard.repositories.JobRepository;
+import com.example.CampusJobBoard.repositories.UserRepository;
+import com.example.CampusJobBoard.services.ApplicationService;
+import com.example.CampusJobBoard.services.ApplicationVersionTracker;
+import com.example.CampusJobBoard.services.AppliedJobsIndex;
+import com.example.CampusJobBoard.services.ApplicationWriteBehindQueue;
+import com.example.CampusJobBoard.services.AuthService;
+import com.example.CampusJobBoard.services.EmployerPipelineService;
+import com.example.CampusJobBoard.services.JobApplicationCounters;
+import com.example.CampusJobBoard.services.JobCatalogCache;
+import com.example.CampusJobBoard.services.JobService;
+import com.example.CampusJobBoard.services.UserService;
+import com.example.CampusJobBoard.services.UserSnapshotCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Verifies that the student dashboard answers an unchanged If-None-Match with
+ * 304 after only the cached user lookup, and that its tag follows the
+ * student's own applications rather than everyone's.
+ */
+class ViewControllerTests {
+
+    private static final UserSnapshot STUDENT = new UserSnapshot(
+            7L, "Student", "student@campus.edu", User.Role.STUDENT, User.Status.ACTIVE, false);
+
+    private UserRepository userRepository;
+    private JobApplicationRepository applicationRepository;
+    private JobCatalogCache catalogCache;
+    private ApplicationVersionTracker applicationVersions;
+    private MockMvc mvc;
+
+    @BeforeEach
+    void setUp() {
+        JobRepository jobRepository = mock(JobRepository.class);
+        userRepository = mock(UserRepository.class);
+        applicationRepository = mock(JobApplicationRepository.class);
+        ApplicationEventPublisher events = mock(ApplicationEventPublisher.class);
+        when(jobRepository.findListingsByStatus(Job.Status.APPROVED)).thenReturn(List.of());
+        when(userRepository.findSnapshotByEmail("student@campus.edu")).thenReturn(Optional.of(STUDENT));
+
+        catalogCache = new JobCatalogCache(jobRepository);
+        catalogCache.warmUp();
+        applicationVersions = new ApplicationVersionTracker();
+        AppliedJobsIndex appliedJobs = new AppliedJobsIndex(applicationRepository);
+
+        ViewController controller = new ViewController(
+                new ApplicationService(applicationRepository, catalogCache, appliedJobs,
+                        new ApplicationWriteBehindQueue(applicationRepository, appliedJobs, events,
+                                false, 100, 500, 20, 100, 600_000),
+                        events),
+                new UserService(userRepository, mock(PasswordEncoder.class), new UserSnapshotCache(userRepository, 1000)),
+                new JobService(jobRepository, catalogCache, events),
+                mock(AuthService.class),
+                catalogCache,
+                applicationVersions,
+                new EmployerPipelineService(jobRepository, applicationRepository,
+                        new JobApplicationCounters(mock(JobApplicationCountRepository.class)))
+        );
+        mvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    void unchangedDashboardReturns304AfterOnlyTheUserLookup() throws Exception {
+        String etag = catalogCache.etag(applicationVersions.version(7L));
+
+        mvc.perform(get("/student/dashboard").principal(student())
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        verify(userRepository).findSnapshotByEmail("student@campus.edu");
+        verifyNoMoreInteractions(userRepository);
+        verifyNoInteractions(applicationRepository);
+    }
+
+    @Test
+    void otherStudentsApplicationsKeepTheDashboardTag() throws Exception {
+        String etag = catalogCache.etag(applicationVersions.version(7L));
+        applicationVersions.onApplicationSubmitted(new ApplicationSubmittedEvent(8L, 1L));
+
+        mvc.perform(get("/student/dashboard").principal(student())
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        applicationVersions.onApplicationSubmitted(new ApplicationSubmittedEvent(7L, 1L));
+
+        mvc.perform(get("/student/dashboard").principal(student())
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    private static UsernamePasswordAuthenticationToken student() {
+        return new UsernamePasswordAuthenticationToken(
+                "student@campus.edu", null, List.of(new SimpleGrantedAuthority("ROLE_STUDENT")));
+    }
+}
@@ -0,0 +1,257 @@
+package com.example.CampusJobBoard.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that a repeated key replays the stored response without running
+ * the request again, that a different request under the same key is refused
+ * with 422, that a repeat arriving mid-request waits for the original, that
+ * server errors are not stored, that entries leave after their TTL or once
+ * max-entries is exceeded, and that login never takes part.
+ */
+class IdempotencyFilterTests {
+
+    private static final String SUBMIT = "/api/student/submit";
+
+    private AtomicLong clock;
+    private AtomicInteger runs;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(1_000_000);
+        runs = new AtomicInteger();
+    }
+
+    @Test
+    void repeatReplaysTheStoredResponse() throws Exception {
+        IdempotencyFilter filter = filter(60_000, 100, 1_000);
+
+        MockHttpServletResponse first = perform(filter, post(SUBMIT, "k1", "{\"jobId\":1}"), created());
+        MockHttpServletResponse repeat = perform(filter, post(SUBMIT, "k1", "{\"jobId\":1}"), created());
+
+        assertThat(runs).hasValue(1);
+        assertThat(first.getStatus()).isEqualTo(201);
+        assertThat(first.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+        assertThat(repeat.getStatus()).isEqualTo(201);
+        assertThat(repeat.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(repeat.getHeader(HttpHeaders.LOCATION)).isEqualTo("/api/student/applications/1");
+        assertThat(repeat.getContentAsString()).isEqualTo(first.getContentAsString()).contains("\"run\":1");
+    }
+
+    @Test
+    void sameKeyForADifferentBodyIs422() throws Exception {
+        IdempotencyFilter filter = filter(60_000, 100, 1_000);
+
+        perform(filter, post(SUBMIT, "k1", "{\"jobId\":1}"), created());
+        MockHttpServletResponse other = perform(filter, post(SUBMIT, "k1", "{\"jobId\":2}"), created());
+
+        assertThat(other.getStatus()).isEqualTo(422);
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void concurrentRepeatWaitsForTheOriginal() throws Exception {
+        IdempotencyFilter filter = filter(60_000, 100, 5_000);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain slow = (request, response) -> {
+            running.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            created().doFilter(request, response);
+        };
+
+        CompletableFuture<MockHttpServletResponse> original = CompletableFuture.supplyAsync(
+                () -> performUnchecked(filter, post(SUBMIT, "k1", "{}"), slow));
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<MockHttpServletResponse> repeat = CompletableFuture.supplyAsync(
+                () -> performUnchecked(filter, post(SUBMIT, "k1", "{}"), slow));
+        Thread.sleep(100);
+        assertThat(repeat).isNotDone();
+        release.countDown();
+
+        assertThat(original.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(201);
+        MockHttpServletResponse replayed = repeat.get(5, TimeUnit.SECONDS);
+        assertThat(replayed.getStatus()).isEqualTo(201);
+        assertThat(replayed.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void repeatThatOutwaitsTheOriginalIs409() throws Exception {
+        IdempotencyFilter filter = filter(60_000, 100, 50);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<MockHttpServletResponse> original = CompletableFuture.supplyAsync(
+                () -> performUnchecked(filter, post(SUBMIT, "k1", "{}"), (request, response) -> {
+                    running.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                }));
+        assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+        MockHttpServletResponse repeat = perform(filter, post(SUBMIT, "k1", "{}"), created());
+        release.countDown();
+
+        assertThat(repeat.getStatus()).isEqualTo(409);
+        assertThat(original.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void serverErrorIsNotStored() throws Exception {
+        IdempotencyFilter filter = filter(60_000, 100, 1_000);
+
+        MockHttpServletResponse failed = perform(filter, post(SUBMIT, "k1", "{}"), (request, response) -> {
+            runs.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(503);
+        });
+        MockHttpServletResponse retried = perform(filter, post(SUBMIT, "k1", "{}"), created());
+
+        assertThat(failed.getStatus()).isEqualTo(503);
+        assertThat(retried.getStatus()).isEqualTo(201);
+        assertThat(retried.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+        assertThat(runs).hasValue(2);
+    }
+
+    @Test
+    void entriesExpireAfterTheirTtl() throws Exception {
+        IdempotencyFilter filter = filter(60_000, 100, 1_000);
+
+        perform(filter, post(SUBMIT, "k1", "{}"), created());
+        clock.addAndGet(60_001);
+        MockHttpServletResponse later = perform(filter, post(SUBMIT, "k1", "{}"), created());
+
+        assertThat(later.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+        assertThat(runs).hasValue(2);
+    }
+
+    @Test
+    void oldestFinishedEntriesLeaveBeyondMaxEntries() throws Exception {
+        IdempotencyFilter filter = filter(60_000, 2, 1_000);
+
+        for (String key : List.of("k1", "k2", "k3")) {
+            perform(filter, post(SUBMIT, key, "{}"), created());
+            clock.incrementAndGet();
+        }
+        List<String> replayed = new ArrayList<>();
+        for (String key : List.of("k3", "k2", "k1")) {
+            replayed.add(perform(filter, post(SUBMIT, key, "{}"), created())
+                    .getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        }
+
+        // k1 was evicted when k3 arrived, so it ran again
+        assertThat(replayed).containsExactly("true", "true", null);
+        assertThat(runs).hasValue(4);
+    }
+
+    @Test
+    void loginAndOtherEndpointsIgnoreTheHeader() throws Exception {
+        IdempotencyFilter filter = filter(60_000, 100, 1_000);
+
+        for (int i = 0; i < 2; i++) {
+            MockHttpServletResponse login = perform(filter, post("/api/auth/login", "k1", "{}"), created());
+            assertThat(login.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isNull();
+            perform(filter, post("/api/employer/applications/status", "k1", "{}"), created());
+        }
+
+        assertThat(runs).hasValue(4);
+    }
+
+    @Test
+    void bufferedBodySupportsNonBlockingReads() throws Exception {
+        IdempotencyFilter filter = filter(60_000, 100, 1_000);
+        List<String> events = new ArrayList<>();
+        StringBuilder read = new StringBuilder();
+
+        perform(filter, post(SUBMIT, "k1", "{\"jobId\":1}"), (request, response) -> {
+            ServletInputStream in = request.getInputStream();
+            in.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    events.add("data");
+                    read.append(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    events.add("done");
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    events.add("error");
+                }
+            });
+        });
+
+        assertThat(events).containsExactly("data", "done");
+        assertThat(read).hasToString("{\"jobId\":1}");
+    }
+
+    private IdempotencyFilter filter(long ttlMs, int maxEntries, long waitMs) {
+        return new IdempotencyFilter(ttlMs, maxEntries, waitMs, 65_536, clock::get);
+    }
+
+    private FilterChain created() {
+        return (request, response) -> {
+            int run = runs.incrementAndGet();
+            HttpServletResponse http = (HttpServletResponse) response;
+            http.setStatus(201);
+            http.setHeader(HttpHeaders.LOCATION, "/api/student/applications/1");
+            http.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            http.getWriter().write("{\"run\":" + run + "}");
+        };
+    }
+
+    private static MockHttpServletRequest post(String path, String key, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setServletPath(path);
+        request.addHeader(IdempotencyFilter.HEADER, key);
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private static MockHttpServletResponse perform(IdempotencyFilter filter, MockHttpServletRequest request,
+                                                   FilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private static MockHttpServletResponse performUnchecked(IdempotencyFilter filter, MockHttpServletRequest request,
+                                                            FilterChain chain) {
+        try {
+            return perform(filter, request, chain);
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
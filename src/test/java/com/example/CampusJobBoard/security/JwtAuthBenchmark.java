@@ -0,0 +1,96 @@
+package com.example.CampusJobBoard.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Per-request cost of authenticating a bearer token in {@link JwtAuthFilter}.
+ *
+ * <p>{@code fourParses} repeats what the filter used to do: build the key and
+ * parser and verify the token once each for the subject, the role, the subject
+ * again and the expiry. {@code singleParse} is {@link JwtService#verify}, and
+ * {@code cachedVerify} is {@link VerifiedTokenCache#verify} for a token seen before.</p>
+ *
+ * <p>Run with: {@code mvn -B test-compile} and then this class's main method
+ * on the test classpath.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-of-at-least-32-bytes";
+
+    private JwtService jwtService;
+    private VerifiedTokenCache tokenCache;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtService = new JwtService(SECRET);
+        token = jwtService.generateToken(User.withUsername("student@campus.edu")
+                .password("")
+                .roles("STUDENT")
+                .build());
+        tokenCache = new VerifiedTokenCache(jwtService, true, 10_000);
+    }
+
+    @Benchmark
+    public Object fourParses() {
+        String username = legacyClaim(Claims::getSubject);
+        String role = legacyClaim(claims -> claims.get("role", String.class));
+        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role));
+        boolean valid = legacyClaim(Claims::getSubject).equals(username)
+                && !legacyClaim(Claims::getExpiration).before(new Date());
+        return valid ? authorities : null;
+    }
+
+    @Benchmark
+    public Object singleParse() {
+        return jwtService.verify(token).map(JwtPrincipal::authorities).orElse(null);
+    }
+
+    @Benchmark
+    public Object cachedVerify() {
+        return tokenCache.verify(token).map(JwtPrincipal::authorities).orElse(null);
+    }
+
+    private <T> T legacyClaim(Function<Claims, T> resolver) {
+        Claims claims = Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes()))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+        return resolver.apply(claims);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtAuthBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.CampusJobBoard.security;
+
+import com.example.CampusJobBoard.entities.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifies that a verified caller over their quota is answered 429 with a
+ * Retry-After in whole seconds and never reaches the controllers, while
+ * callers within quota pass through authenticated.
+ */
+class JwtAuthFilterTests {
+
+    private JwtAuthFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        VerifiedTokenCache tokenCache = mock(VerifiedTokenCache.class);
+        when(tokenCache.verify("student-token")).thenReturn(Optional.of(
+                new JwtPrincipal("student@campus.edu", User.Role.STUDENT, Long.MAX_VALUE)));
+
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.rate-limit.student.submit", "2/60");
+        filter = new JwtAuthFilter(tokenCache, new RequestRateLimiter(environment, true, 100));
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void callerOverQuotaGets429WithRetryAfter() throws Exception {
+        assertThat(submit().getStatus()).isEqualTo(200);
+        assertThat(submit().getStatus()).isEqualTo(200);
+
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = submit(chain);
+
+        assertThat(response.getStatus()).isEqualTo(429);
+        // one token per 30 seconds, so the wait rounds up to at most 30
+        assertThat(Long.parseLong(response.getHeader(HttpHeaders.RETRY_AFTER))).isBetween(1L, 30L);
+        assertThat(response.getContentAsString()).contains("Too many requests");
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    void callerWithinQuotaIsAuthenticated() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+
+        MockHttpServletResponse response = submit(chain);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo("student@campus.edu");
+    }
+
+    private MockHttpServletResponse submit() throws Exception {
+        return submit(new MockFilterChain());
+    }
+
+    private MockHttpServletResponse submit(MockFilterChain chain) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/student/submit");
+        request.setServletPath("/api/student/submit");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer student-token");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
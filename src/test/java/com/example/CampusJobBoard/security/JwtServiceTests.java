@@ -0,0 +1,102 @@
+package com.example.CampusJobBoard.security;
+
+import com.example.CampusJobBoard.entities.User;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that {@link JwtService#verify} accepts the tokens it issues and
+ * rejects, without throwing, tokens that are expired, tampered with, signed
+ * with another key, malformed, or carry a missing or unknown role.
+ */
+class JwtServiceTests {
+
+    private static final String SECRET = "test-secret-key-of-at-least-32-bytes!";
+
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService(SECRET);
+    }
+
+    @Test
+    void issuedTokenVerifiesWithSubjectRoleAndExpiry() {
+        long before = System.currentTimeMillis();
+        String token = jwtService.generateToken(org.springframework.security.core.userdetails.User
+                .withUsername("employer@campus.edu").password("").roles("EMPLOYER").build());
+
+        JwtPrincipal principal = jwtService.verify(token).orElseThrow();
+
+        assertThat(principal.username()).isEqualTo("employer@campus.edu");
+        assertThat(principal.role()).isEqualTo(User.Role.EMPLOYER);
+        assertThat(principal.expiresAtMillis()).isGreaterThan(before);
+        assertThat(principal.authorities()).extracting(Object::toString).containsExactly("ROLE_EMPLOYER");
+    }
+
+    @Test
+    void expiredTokenIsRejected() {
+        String token = token(SECRET, Map.of("role", "STUDENT"), new Date(System.currentTimeMillis() - 1_000));
+
+        assertThat(jwtService.verify(token)).isEmpty();
+    }
+
+    @Test
+    void tamperedTokenIsRejected() {
+        String token = token(SECRET, Map.of("role", "STUDENT"), inOneHour());
+        String[] parts = token.split("\\.");
+        // same signature over a payload that now claims the admin role
+        String forged = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8)
+                        .replace("STUDENT", "ADMIN").getBytes(StandardCharsets.UTF_8));
+
+        // original payload under an altered signature
+        String signature = (parts[2].charAt(0) == 'A' ? "B" : "A") + parts[2].substring(1);
+
+        assertThat(jwtService.verify(parts[0] + "." + forged + "." + parts[2])).isEmpty();
+        assertThat(jwtService.verify(parts[0] + "." + parts[1] + "." + signature)).isEmpty();
+    }
+
+    @Test
+    void tokenSignedWithAnotherKeyIsRejected() {
+        String token = token("another-secret-key-of-at-least-32-bytes", Map.of("role", "STUDENT"), inOneHour());
+
+        assertThat(jwtService.verify(token)).isEmpty();
+    }
+
+    @Test
+    void unknownOrMissingRoleIsRejected() {
+        assertThat(jwtService.verify(token(SECRET, Map.of("role", "JANITOR"), inOneHour()))).isEmpty();
+        assertThat(jwtService.verify(token(SECRET, Map.of(), inOneHour()))).isEmpty();
+    }
+
+    @Test
+    void malformedTokenIsRejected() {
+        assertThat(jwtService.verify("not-a-token")).isEmpty();
+        assertThat(jwtService.verify("")).isEmpty();
+    }
+
+    private static String token(String secret, Map<String, Object> claims, Date expiresAt) {
+        return Jwts.builder()
+                .setClaims(claims)
+                .setSubject("student@campus.edu")
+                .setIssuedAt(new Date(expiresAt.getTime() - 3_600_000))
+                .setExpiration(expiresAt)
+                .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    private static Date inOneHour() {
+        return new Date(System.currentTimeMillis() + 3_600_000);
+    }
+}
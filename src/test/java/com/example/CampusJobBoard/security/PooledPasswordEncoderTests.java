@@ -0,0 +1,92 @@
+package com.example.CampusJobBoard.security;
+
+import com.example.CampusJobBoard.exceptions.GlobalExceptionHandler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifies that hashes are made and checked at the configured cost, that
+ * {@link PooledPasswordEncoder#upgradeEncoding} reads the cost from the hash
+ * and ignores anything it cannot parse, and that a saturated pool fails fast
+ * with {@link PasswordHashingBusyException}, answered as 503.
+ */
+class PooledPasswordEncoderTests {
+
+    private PooledPasswordEncoder encoder;
+
+    @AfterEach
+    void shutdown() {
+        if (encoder != null) {
+            encoder.shutdown();
+        }
+    }
+
+    @Test
+    void hashesAtTheConfiguredCost() {
+        encoder = new PooledPasswordEncoder(4, 1, 4);
+
+        String hash = encoder.encode("secret");
+
+        assertThat(hash).startsWith("$2a$04$");
+        assertThat(encoder.matches("secret", hash)).isTrue();
+        assertThat(encoder.matches("wrong", hash)).isFalse();
+        assertThat(encoder.stats().completed()).isEqualTo(3);
+    }
+
+    @Test
+    void upgradeEncodingComparesTheStoredCost() {
+        encoder = new PooledPasswordEncoder(10, 1, 4);
+        String salt = "abcdefghijklmnopqrstuvwxyz0123456789ABCDEFGHIJKLMNOPQRS";
+
+        assertThat(encoder.upgradeEncoding("$2a$10$" + salt)).isFalse();
+        assertThat(encoder.upgradeEncoding("$2b$10$" + salt)).isFalse();
+        // raised and lowered costs both get redone
+        assertThat(encoder.upgradeEncoding("$2a$08$" + salt)).isTrue();
+        assertThat(encoder.upgradeEncoding("$2y$12$" + salt)).isTrue();
+        assertThat(encoder.upgradeEncoding(null)).isFalse();
+        assertThat(encoder.upgradeEncoding("")).isFalse();
+        assertThat(encoder.upgradeEncoding("plaintext")).isFalse();
+        assertThat(encoder.upgradeEncoding("$2a$1x$" + salt)).isFalse();
+        assertThat(encoder.upgradeEncoding("$2a$100" + salt)).isFalse();
+    }
+
+    @Test
+    void saturatedPoolFailsFastWith503() throws Exception {
+        // one thread and one queue slot; a cost of 13 keeps both busy long enough
+        encoder = new PooledPasswordEncoder(13, 1, 1);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        waitFor(() -> encoder.stats().active() == 1);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+        waitFor(() -> encoder.stats().queued() == 1);
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> encoder.matches("third", "$2a$13$abcdefghijklmnopqrstuv"))
+                .isInstanceOf(PasswordHashingBusyException.class);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt)).isLessThan(500);
+        assertThat(encoder.stats().rejected()).isEqualTo(1);
+
+        ResponseEntity<?> response = new GlobalExceptionHandler().handleHashingBusy(new PasswordHashingBusyException());
+        assertThat(response.getStatusCode().value()).isEqualTo(503);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+
+        running.cancel(true);
+        queued.cancel(true);
+    }
+
+    private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.CampusJobBoard.security;
+
+import com.example.CampusJobBoard.entities.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies the GCRA arithmetic (a full burst, then one token per interval
+ * with the exact wait reported), that quotas resolve per role with the
+ * default as fallback, and that buckets beyond max-buckets are evicted least
+ * recently used first, in one pass rather than on every request.
+ */
+class RequestRateLimiterTests {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private MockEnvironment environment;
+    private AtomicLong clock;
+
+    @BeforeEach
+    void setUp() {
+        environment = new MockEnvironment();
+        clock = new AtomicLong(1_000 * SECOND);
+    }
+
+    @Test
+    void fullBurstThenOneTokenPerInterval() {
+        environment.setProperty("app.rate-limit.default.read", "3/3");
+        RequestRateLimiter limiter = limiter(100);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(read(limiter, "a@campus.edu", User.Role.STUDENT)).isZero();
+        }
+        assertThat(read(limiter, "a@campus.edu", User.Role.STUDENT)).isEqualTo(SECOND);
+
+        clock.addAndGet(SECOND / 2);
+        assertThat(read(limiter, "a@campus.edu", User.Role.STUDENT)).isEqualTo(SECOND / 2);
+
+        clock.addAndGet(SECOND / 2);
+        assertThat(read(limiter, "a@campus.edu", User.Role.STUDENT)).isZero();
+        assertThat(read(limiter, "a@campus.edu", User.Role.STUDENT)).isEqualTo(SECOND);
+
+        // idle time refills up to the burst, never beyond it
+        clock.addAndGet(60 * SECOND);
+        for (int i = 0; i < 3; i++) {
+            assertThat(read(limiter, "a@campus.edu", User.Role.STUDENT)).isZero();
+        }
+        assertThat(read(limiter, "a@campus.edu", User.Role.STUDENT)).isPositive();
+        assertThat(limiter.stats().allowed()).isEqualTo(7);
+        assertThat(limiter.stats().rejected()).isEqualTo(4);
+    }
+
+    @Test
+    void quotasResolvePerRoleAndGroupWithDefaultFallback() {
+        environment.setProperty("app.rate-limit.default.submit", "5/60");
+        environment.setProperty("app.rate-limit.student.submit", "2/60");
+        environment.setProperty("app.rate-limit.super-admin.read", "1/60");
+        RequestRateLimiter limiter = limiter(100);
+
+        assertThat(allowedInARow(limiter, "s@campus.edu", User.Role.STUDENT, "POST", "/api/student/submit")).isEqualTo(2);
+        assertThat(allowedInARow(limiter, "e@campus.edu", User.Role.EMPLOYER, "POST", "/api/student/submit")).isEqualTo(5);
+        assertThat(allowedInARow(limiter, "root@campus.edu", User.Role.SUPER_ADMIN, "GET", "/api/admin/users")).isEqualTo(1);
+        // a student's reads have their own bucket on the built-in default
+        assertThat(allowedInARow(limiter, "s@campus.edu", User.Role.STUDENT, "GET", "/api/student")).isEqualTo(300);
+
+        assertThat(limiter.stats().rejectedByQuota())
+                .containsEntry("STUDENT.SUBMIT", 1L)
+                .containsEntry("EMPLOYER.SUBMIT", 1L)
+                .containsEntry("SUPER_ADMIN.READ", 1L);
+    }
+
+    @Test
+    void sweepDropsOnlyRefilledBuckets() {
+        environment.setProperty("app.rate-limit.default.read", "2/2");
+        RequestRateLimiter limiter = limiter(100);
+
+        read(limiter, "idle@campus.edu", User.Role.STUDENT);
+        clock.addAndGet(SECOND);
+        read(limiter, "busy@campus.edu", User.Role.STUDENT);
+        read(limiter, "busy@campus.edu", User.Role.STUDENT);
+
+        limiter.sweep();
+
+        assertThat(limiter.stats().activeBuckets()).isEqualTo(1);
+        assertThat(read(limiter, "busy@campus.edu", User.Role.STUDENT)).isPositive();
+    }
+
+    @Test
+    void bucketsBeyondTheLimitAreEvictedLeastRecentlyUsedFirst() {
+        // one request drains a bucket for an hour, so nothing refills during the test
+        environment.setProperty("app.rate-limit.default.read", "1/3600");
+        RequestRateLimiter limiter = limiter(10);
+
+        for (int i = 0; i < 10; i++) {
+            read(limiter, "user" + i + "@campus.edu", User.Role.STUDENT);
+            clock.addAndGet(SECOND);
+        }
+        // user0 is the oldest bucket but was just used again
+        assertThat(read(limiter, "user0@campus.edu", User.Role.STUDENT)).isPositive();
+        clock.addAndGet(SECOND);
+
+        read(limiter, "user10@campus.edu", User.Role.STUDENT);
+
+        // 11 buckets trimmed to 90% of 10: the two least recently used go
+        assertThat(limiter.stats().activeBuckets()).isEqualTo(9);
+        assertThat(limiter.stats().evictedBuckets()).isEqualTo(2);
+        assertThat(read(limiter, "user0@campus.edu", User.Role.STUDENT)).isPositive();
+        assertThat(read(limiter, "user3@campus.edu", User.Role.STUDENT)).isPositive();
+        assertThat(read(limiter, "user1@campus.edu", User.Role.STUDENT)).isZero();
+
+        // back at the limit but not over it: no further eviction
+        assertThat(limiter.stats().activeBuckets()).isEqualTo(10);
+        assertThat(limiter.stats().evictedBuckets()).isEqualTo(2);
+    }
+
+    @Test
+    void disabledLimiterAllowsEverythingWithoutBuckets() {
+        environment.setProperty("app.rate-limit.default.read", "1/3600");
+        RequestRateLimiter limiter = new RequestRateLimiter(environment, false, 100, clock::get);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(read(limiter, "a@campus.edu", User.Role.STUDENT)).isZero();
+        }
+        assertThat(limiter.stats().activeBuckets()).isZero();
+    }
+
+    private RequestRateLimiter limiter(int maxBuckets) {
+        return new RequestRateLimiter(environment, true, maxBuckets, clock::get);
+    }
+
+    private static long read(RequestRateLimiter limiter, String username, User.Role role) {
+        return limiter.tryAcquire(username, role, "GET", "/api/student");
+    }
+
+    private static int allowedInARow(RequestRateLimiter limiter, String username, User.Role role,
+                                     String method, String path) {
+        int allowed = 0;
+        while (limiter.tryAcquire(username, role, method, path) == 0) {
+            allowed++;
+        }
+        return allowed;
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.CampusJobBoard.security;
+
+import com.example.CampusJobBoard.entities.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifies that a repeated token is answered from the cache, that an entry
+ * past its token's expiry is verified again rather than served, that
+ * rejected tokens are not cached, that the cache stays within max-entries,
+ * and that tokens differing only in non-ASCII characters never share an
+ * entry.
+ */
+class VerifiedTokenCacheTests {
+
+    private JwtService jwtService;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = mock(JwtService.class);
+    }
+
+    @Test
+    void repeatedTokenIsVerifiedOnce() {
+        JwtPrincipal principal = principal("a@campus.edu", System.currentTimeMillis() + 3_600_000);
+        when(jwtService.verify("token")).thenReturn(Optional.of(principal));
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtService, true, 100);
+
+        assertThat(cache.verify("token")).contains(principal);
+        assertThat(cache.verify("token")).contains(principal);
+
+        verify(jwtService, times(1)).verify("token");
+        assertThat(cache.stats().hits()).isEqualTo(1);
+        assertThat(cache.stats().misses()).isEqualTo(1);
+    }
+
+    @Test
+    void expiredEntryIsVerifiedAgain() {
+        when(jwtService.verify("token"))
+                .thenReturn(Optional.of(principal("a@campus.edu", System.currentTimeMillis() - 1)))
+                .thenReturn(Optional.empty());
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtService, true, 100);
+
+        cache.verify("token");
+
+        assertThat(cache.verify("token")).isEmpty();
+        verify(jwtService, times(2)).verify("token");
+        assertThat(cache.stats().size()).isZero();
+    }
+
+    @Test
+    void rejectedTokensAreNotCached() {
+        when(jwtService.verify("junk")).thenReturn(Optional.empty());
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtService, true, 100);
+
+        cache.verify("junk");
+        cache.verify("junk");
+
+        verify(jwtService, times(2)).verify("junk");
+        assertThat(cache.stats().size()).isZero();
+    }
+
+    @Test
+    void fullCacheDropsExpiredEntriesFirstThenTrimsToNinetyPercent() {
+        long now = System.currentTimeMillis();
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtService, true, 10);
+        for (int i = 0; i < 10; i++) {
+            // the first three have already expired
+            JwtPrincipal principal = principal("user" + i + "@campus.edu", i < 3 ? now - 1 : now + 3_600_000);
+            when(jwtService.verify("token" + i)).thenReturn(Optional.of(principal));
+            cache.verify("token" + i);
+        }
+        assertThat(cache.stats().size()).isEqualTo(10);
+
+        when(jwtService.verify("token10")).thenReturn(Optional.of(principal("user10@campus.edu", now + 3_600_000)));
+        cache.verify("token10");
+
+        // expired ones were enough to get under the limit
+        assertThat(cache.stats().size()).isEqualTo(8);
+        assertThat(cache.stats().evictions()).isEqualTo(3);
+
+        for (int i = 11; i < 14; i++) {
+            when(jwtService.verify("token" + i)).thenReturn(Optional.of(principal("user" + i + "@campus.edu", now + 3_600_000)));
+            cache.verify("token" + i);
+        }
+
+        assertThat(cache.stats().size()).isLessThanOrEqualTo(10);
+        assertThat(cache.stats().evictions()).isEqualTo(4);
+    }
+
+    @Test
+    void tokensDifferingOnlyInNonAsciiCharactersAreKeptApart() {
+        JwtPrincipal principal = principal("a@campus.edu", System.currentTimeMillis() + 3_600_000);
+        when(jwtService.verify("token\u00e9")).thenReturn(Optional.of(principal));
+        when(jwtService.verify("token\u00e8")).thenReturn(Optional.empty());
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtService, true, 100);
+
+        cache.verify("token\u00e9");
+
+        assertThat(cache.verify("token\u00e8")).isEmpty();
+    }
+
+    @Test
+    void disabledCacheVerifiesEveryTime() {
+        JwtPrincipal principal = principal("a@campus.edu", System.currentTimeMillis() + 3_600_000);
+        when(jwtService.verify("token")).thenReturn(Optional.of(principal));
+        VerifiedTokenCache cache = new VerifiedTokenCache(jwtService, false, 100);
+
+        cache.verify("token");
+        cache.verify("token");
+
+        verify(jwtService, times(2)).verify("token");
+        assertThat(cache.stats().size()).isZero();
+    }
+
+    private static JwtPrincipal principal(String username, long expiresAtMillis) {
+        return new JwtPrincipal(username, User.Role.STUDENT, expiresAtMillis);
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.CampusJobBoard.services;
+
+import com.example.CampusJobBoard.dto.ApplicationAck;
+import com.example.CampusJobBoard.events.ApplicationSubmittedEvent;
+import com.example.CampusJobBoard.repositories.JobApplicationBatchRepository.NewApplication;
+import com.example.CampusJobBoard.repositories.JobApplicationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Verifies that shutdown stops new submits but writes everything already
+ * queued, that a unique-key clash only drops the clashing row, and that rows
+ * which cannot be written are marked FAILED with their reservation released.
+ */
+class ApplicationWriteBehindQueueTests {
+
+    private JobApplicationRepository applicationRepository;
+    private AppliedJobsIndex appliedJobs;
+    private ApplicationEventPublisher events;
+    private List<NewApplication> inserted;
+
+    @BeforeEach
+    void setUp() {
+        applicationRepository = mock(JobApplicationRepository.class);
+        appliedJobs = mock(AppliedJobsIndex.class);
+        events = mock(ApplicationEventPublisher.class);
+        inserted = new CopyOnWriteArrayList<>();
+    }
+
+    @Test
+    void shutdownWritesEverythingStillQueued() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(call -> {
+            writing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            List<NewApplication> rows = call.getArgument(0);
+            inserted.addAll(rows);
+            return rows.size();
+        }).when(applicationRepository).insertAll(anyList());
+        ApplicationWriteBehindQueue queue = queue(1_000);
+
+        // the first row holds the writer inside an insert while the rest queue up behind it
+        List<String> acks = new ArrayList<>();
+        acks.add(queue.enqueue(7L, 1L));
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        for (long jobId = 2; jobId <= 5; jobId++) {
+            acks.add(queue.enqueue(7L, jobId));
+        }
+
+        CompletableFuture<Void> shutdown = CompletableFuture.runAsync(() -> {
+            try {
+                queue.shutdown();
+            } catch (InterruptedException ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+        // submits are accepted until shutdown starts, then turned away
+        List<String> lateAcks = new ArrayList<>();
+        String late;
+        for (long jobId = 100; (late = queue.enqueue(8L, jobId)) != null; jobId++) {
+            lateAcks.add(late);
+            Thread.sleep(1);
+        }
+        release.countDown();
+        shutdown.get(5, TimeUnit.SECONDS);
+
+        assertThat(inserted).hasSize(acks.size() + lateAcks.size());
+        for (String ackId : acks) {
+            assertThat(queue.status(ackId, 7L)).get()
+                    .extracting(ApplicationAck::state).isEqualTo(ApplicationAck.State.PERSISTED);
+        }
+        for (String ackId : lateAcks) {
+            assertThat(queue.status(ackId, 8L)).get()
+                    .extracting(ApplicationAck::state).isEqualTo(ApplicationAck.State.PERSISTED);
+        }
+        assertThat(queue.enqueue(7L, 6L)).isNull();
+        verify(events).publishEvent(new ApplicationSubmittedEvent(7L, 5L));
+    }
+
+    @Test
+    void clashingRowIsDroppedAndTheRestOfTheBatchWritten() throws Exception {
+        doAnswer(call -> {
+            List<NewApplication> rows = call.getArgument(0);
+            if (rows.size() > 1 || rows.get(0).jobId() == 2L) {
+                throw new DuplicateKeyException("uk_application_user_job");
+            }
+            inserted.addAll(rows);
+            return 1;
+        }).when(applicationRepository).insertAll(anyList());
+        ApplicationWriteBehindQueue queue = queue(10);
+
+        String first = queue.enqueue(7L, 1L);
+        String clash = queue.enqueue(7L, 2L);
+        queue.shutdown();
+
+        assertThat(inserted).extracting(NewApplication::jobId).containsExactly(1L);
+        assertThat(queue.status(first, 7L)).get()
+                .extracting(ApplicationAck::state).isEqualTo(ApplicationAck.State.PERSISTED);
+        assertThat(queue.status(clash, 7L)).get()
+                .extracting(ApplicationAck::state).isEqualTo(ApplicationAck.State.ALREADY_APPLIED);
+    }
+
+    @Test
+    void rowsThatKeepFailingAreMarkedFailedAndReleased() throws Exception {
+        doThrow(new DataAccessResourceFailureException("down")).when(applicationRepository).insertAll(anyList());
+        ApplicationWriteBehindQueue queue = queue(10);
+
+        String ackId = queue.enqueue(7L, 1L);
+        queue.shutdown();
+
+        assertThat(queue.status(ackId, 7L)).get()
+                .extracting(ApplicationAck::state).isEqualTo(ApplicationAck.State.FAILED);
+        assertThat(queue.status(ackId, 8L)).isEmpty();
+        verify(appliedJobs).release(7L, List.of(1L));
+    }
+
+    private ApplicationWriteBehindQueue queue(int capacity) {
+        ApplicationWriteBehindQueue queue = new ApplicationWriteBehindQueue(
+                applicationRepository, appliedJobs, events, true, capacity, 500, 5, 100, 600_000);
+        queue.start();
+        return queue;
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.CampusJobBoard.services;
+
+import com.example.CampusJobBoard.dto.AuthResponse;
+import com.example.CampusJobBoard.dto.LoginRequest;
+import com.example.CampusJobBoard.entities.User;
+import com.example.CampusJobBoard.repositories.UserRepository;
+import com.example.CampusJobBoard.security.JwtService;
+import com.example.CampusJobBoard.security.PasswordHashingBusyException;
+import com.example.CampusJobBoard.security.PooledPasswordEncoder;
+import com.example.CampusJobBoard.security.SecurityConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifies that a login whose stored hash has an outdated cost replaces
+ * exactly the hash it checked, and that a full hashing pool only defers that
+ * rehash rather than failing a login whose password was already checked,
+ * through the API and the form login alike.
+ */
+class AuthServiceTests {
+
+    private static final String EMAIL = "student@campus.edu";
+
+    private static final LoginThrottle.Attempt ADMITTED = new LoginThrottle.Attempt("email:" + EMAIL, null, null, 0);
+
+    private UserRepository userRepository;
+    private LoginThrottle loginThrottle;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        loginThrottle = mock(LoginThrottle.class);
+        when(loginThrottle.reserve(EMAIL, null)).thenReturn(ADMITTED);
+        user = new User();
+        user.setEmail(EMAIL);
+        user.setRole(User.Role.STUDENT);
+        user.setPassword(new BCryptPasswordEncoder(4).encode("secret"));
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+    }
+
+    @Test
+    void outdatedHashIsReplacedOnlyWhereItIsStillTheCheckedOne() {
+        PooledPasswordEncoder encoder = new PooledPasswordEncoder(5, 1, 4);
+        String checked = user.getPassword();
+        try {
+            service(encoder).login(login("secret"));
+        } finally {
+            encoder.shutdown();
+        }
+
+        ArgumentCaptor<String> rehashed = ArgumentCaptor.forClass(String.class);
+        verify(userRepository).replacePassword(eq(EMAIL),
+                eq(checked), rehashed.capture());
+        assertThat(rehashed.getValue()).startsWith("$2a$05$");
+        assertThat(new BCryptPasswordEncoder().matches("secret", rehashed.getValue())).isTrue();
+    }
+
+    @Test
+    void currentHashIsLeftAlone() {
+        PooledPasswordEncoder encoder = new PooledPasswordEncoder(4, 1, 4);
+        try {
+            service(encoder).login(login("secret"));
+        } finally {
+            encoder.shutdown();
+        }
+
+        verify(userRepository, never()).replacePassword(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void busyPoolDefersTheRehashInsteadOfFailingTheLogin() {
+        PasswordEncoder encoder = mock(PasswordEncoder.class);
+        when(encoder.matches("secret", user.getPassword())).thenReturn(true);
+        when(encoder.upgradeEncoding(user.getPassword())).thenReturn(true);
+        when(encoder.encode(any())).thenThrow(new PasswordHashingBusyException());
+
+        AuthResponse response = service(encoder).login(login("secret"));
+
+        assertThat(response.getToken()).isNotBlank();
+        assertThat(response.getRole()).isEqualTo("STUDENT");
+        verify(loginThrottle).recordSuccess(ADMITTED);
+        verify(userRepository, never()).replacePassword(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void busyPoolDefersTheRehashOnFormLoginToo() {
+        PasswordEncoder encoder = mock(PasswordEncoder.class);
+        when(encoder.matches("secret", user.getPassword())).thenReturn(true);
+        when(encoder.upgradeEncoding(user.getPassword())).thenReturn(true);
+        // the provider hashes a dummy password once for timing protection; only the rehash is refused
+        when(encoder.encode(any())).thenReturn("dummy");
+        when(encoder.encode("secret")).thenThrow(new PasswordHashingBusyException());
+        SecurityConfig config = new SecurityConfig(null, null);
+        DaoAuthenticationProvider provider = config.authenticationProvider(
+                config.userDetailsService(userRepository), encoder, config.userDetailsPasswordService(userRepository));
+
+        Authentication result = provider.authenticate(
+                UsernamePasswordAuthenticationToken.unauthenticated(EMAIL, "secret"));
+
+        assertThat(result.isAuthenticated()).isTrue();
+        assertThat(result.getAuthorities()).extracting(Object::toString).containsExactly("ROLE_STUDENT");
+        verify(userRepository, never()).replacePassword(anyString(), anyString(), anyString());
+    }
+
+    private AuthService service(PasswordEncoder encoder) {
+        return new AuthService(userRepository, encoder, new JwtService("test-secret-key-of-at-least-32-bytes!"),
+                loginThrottle, mock(UserSnapshotCache.class));
+    }
+
+    private static LoginRequest login(String password) {
+        LoginRequest request = new LoginRequest();
+        request.setEmail(EMAIL);
+        request.setPassword(password);
+        return request;
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.CampusJobBoard.services;
+
+import com.example.CampusJobBoard.dto.ApplicationCounts;
+import com.example.CampusJobBoard.dto.ApplicationCursor;
+import com.example.CampusJobBoard.dto.EmployerPosting;
+import com.example.CampusJobBoard.dto.JobApplicant;
+import com.example.CampusJobBoard.dto.JobCursor;
+import com.example.CampusJobBoard.dto.JobPage;
+import com.example.CampusJobBoard.entities.Job;
+import com.example.CampusJobBoard.entities.JobApplication;
+import com.example.CampusJobBoard.events.ApplicationSubmittedEvent;
+import com.example.CampusJobBoard.repositories.JobApplicationCountRepository;
+import com.example.CampusJobBoard.repositories.JobApplicationRepository;
+import com.example.CampusJobBoard.repositories.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifies that postings pages carry the live applicant counts and a cursor
+ * from their last row, that applicants of a job another employer posted are
+ * never read, and that the all-applicants page is keyed by the employer.
+ */
+class EmployerPipelineServiceTests {
+
+    private static final Long EMPLOYER = 2L;
+
+    private JobRepository jobRepository;
+    private JobApplicationRepository applicationRepository;
+    private JobApplicationCounters counters;
+    private EmployerPipelineService pipeline;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository = mock(JobRepository.class);
+        applicationRepository = mock(JobApplicationRepository.class);
+        counters = new JobApplicationCounters(mock(JobApplicationCountRepository.class));
+        pipeline = new EmployerPipelineService(jobRepository, applicationRepository, counters);
+    }
+
+    @Test
+    void postingsPageAttachesCountsAndResumesFromItsLastRow() {
+        Date newer = new Date(2_000);
+        Date older = new Date(1_000);
+        when(jobRepository.findPageByEmployer(EMPLOYER, null, null, Limit.of(3))).thenReturn(List.of(
+                posting(12L, newer), posting(11L, older), posting(10L, older)));
+        counters.onApplicationSubmitted(new ApplicationSubmittedEvent(7L, 12L));
+        counters.onApplicationSubmitted(new ApplicationSubmittedEvent(8L, 12L));
+
+        JobPage<EmployerPosting> page = pipeline.getPostingsPage(EMPLOYER, null, 2);
+
+        assertThat(page.items()).extracting(EmployerPosting::jobId).containsExactly(12L, 11L);
+        assertThat(page.items().get(0).applicants()).isEqualTo(new ApplicationCounts(2, 2, 0, 0));
+        assertThat(page.items().get(1).applicants()).isEqualTo(ApplicationCounts.NONE);
+        assertThat(JobCursor.decode(page.nextCursor())).isEqualTo(new JobCursor(older, 11L));
+
+        when(jobRepository.findPageByEmployer(EMPLOYER, older, 11L, Limit.of(3))).thenReturn(List.of(
+                posting(10L, older)));
+
+        JobPage<EmployerPosting> next = pipeline.getPostingsPage(EMPLOYER, page.nextCursor(), 2);
+
+        assertThat(next.items()).extracting(EmployerPosting::jobId).containsExactly(10L);
+        assertThat(next.nextCursor()).isNull();
+    }
+
+    @Test
+    void applicantsOfAnotherEmployersJobAreNotRead() {
+        when(jobRepository.isPostedBy(30L, EMPLOYER)).thenReturn(false);
+
+        assertThat(pipeline.getApplicantsPage(EMPLOYER, 30L, null, null, 20)).isEmpty();
+        verifyNoInteractions(applicationRepository);
+    }
+
+    @Test
+    void applicantsPageOfOwnJobFiltersByStatusAndResumesFromTheCursor() {
+        when(jobRepository.isPostedBy(12L, EMPLOYER)).thenReturn(true);
+        when(applicationRepository.findApplicantsPageInStatus(12L, JobApplication.Status.SUBMITTED, 50L, Limit.of(2)))
+                .thenReturn(List.of(applicant(49L, 12L), applicant(47L, 12L)));
+
+        JobPage<JobApplicant> page = pipeline.getApplicantsPage(EMPLOYER, 12L,
+                JobApplication.Status.SUBMITTED, new ApplicationCursor(50L).encode(), 1).orElseThrow();
+
+        assertThat(page.items()).extracting(JobApplicant::applicationId).containsExactly(49L);
+        assertThat(ApplicationCursor.decode(page.nextCursor())).isEqualTo(new ApplicationCursor(49L));
+    }
+
+    @Test
+    void allApplicantsPageIsReadByEmployer() {
+        when(applicationRepository.findEmployerApplicantsPage(EMPLOYER, null, Limit.of(21)))
+                .thenReturn(List.of(applicant(5L, 12L), applicant(4L, 11L)));
+
+        JobPage<JobApplicant> page = pipeline.getAllApplicantsPage(EMPLOYER, null, null, 20);
+
+        assertThat(page.items()).extracting(JobApplicant::applicationId).containsExactly(5L, 4L);
+        assertThat(page.nextCursor()).isNull();
+        verify(applicationRepository).findEmployerApplicantsPage(EMPLOYER, null, Limit.of(21));
+        verifyNoInteractions(jobRepository);
+    }
+
+    @Test
+    void statusFilterPicksTheQueryForItsIndex() {
+        when(jobRepository.isPostedBy(12L, EMPLOYER)).thenReturn(true);
+
+        pipeline.getApplicantsPage(EMPLOYER, 12L, null, null, 20);
+        pipeline.getAllApplicantsPage(EMPLOYER, JobApplication.Status.ACCEPTED, null, 20);
+
+        verify(applicationRepository).findApplicantsPage(12L, null, Limit.of(21));
+        verify(applicationRepository).findEmployerApplicantsPageInStatus(
+                EMPLOYER, JobApplication.Status.ACCEPTED, null, Limit.of(21));
+        verifyNoMoreInteractions(applicationRepository);
+    }
+
+    @Test
+    void malformedCursorIsRejectedBeforeAnyQuery() {
+        assertThatThrownBy(() -> pipeline.getPostingsPage(EMPLOYER, "not-a-cursor", 20))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> pipeline.getApplicantsPage(EMPLOYER, 12L, null, "not-a-cursor", 20))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> pipeline.getAllApplicantsPage(EMPLOYER, null, "not-a-cursor", 20))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(jobRepository, applicationRepository);
+    }
+
+    @Test
+    void pageSizeIsClamped() {
+        pipeline.getAllApplicantsPage(EMPLOYER, null, null, 0);
+        pipeline.getAllApplicantsPage(EMPLOYER, null, null, 10_000);
+
+        verify(applicationRepository).findEmployerApplicantsPage(EMPLOYER, null, Limit.of(2));
+        verify(applicationRepository).findEmployerApplicantsPage(
+                EMPLOYER, null, Limit.of(JobService.MAX_PAGE_SIZE + 1));
+    }
+
+    private static EmployerPosting posting(Long jobId, Date createdAt) {
+        return new EmployerPosting(jobId, "Job " + jobId, "Library", "Campus",
+                15, null, Job.Status.APPROVED, createdAt);
+    }
+
+    private static JobApplicant applicant(Long applicationId, Long jobId) {
+        Date submitted = new Date(applicationId);
+        return new JobApplicant(applicationId, jobId, "Job " + jobId, 7L, "Student",
+                "student@campus.edu", JobApplication.Status.SUBMITTED, submitted, submitted);
+    }
+}
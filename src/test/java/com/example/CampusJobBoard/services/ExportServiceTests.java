@@ -0,0 +1,102 @@
+package com.example.CampusJobBoard.services;
+
+import com.example.CampusJobBoard.dto.ApplicationExportRow;
+import com.example.CampusJobBoard.dto.JobExportRow;
+import com.example.CampusJobBoard.entities.Job;
+import com.example.CampusJobBoard.repositories.JobApplicationRepository;
+import com.example.CampusJobBoard.repositories.JobRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifies the NDJSON and CSV export formats, CSV quoting and formula
+ * escaping, and that the row stream is closed and the persistence context
+ * cleared while exporting.
+ */
+class ExportServiceTests {
+
+    private JobRepository jobRepository;
+    private JobApplicationRepository applicationRepository;
+    private EntityManager entityManager;
+    private ExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository = mock(JobRepository.class);
+        applicationRepository = mock(JobApplicationRepository.class);
+        entityManager = mock(EntityManager.class);
+        exportService = new ExportService(jobRepository, applicationRepository, entityManager,
+                Jackson2ObjectMapperBuilder.json().build());
+    }
+
+    @Test
+    void ndjsonWritesOneObjectPerLine() throws Exception {
+        when(applicationRepository.streamAllForExport()).thenReturn(Stream.of(
+                new ApplicationExportRow(1L, 10L, "Tutor", 7L, "Ada", "ada@campus.edu"),
+                new ApplicationExportRow(2L, 11L, "Barista", 8L, "Lin", "lin@campus.edu")));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = exportService.writeApplications(ExportService.Format.NDJSON, out);
+
+        assertThat(rows).isEqualTo(2);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "{\"applicationId\":1,\"jobId\":10,\"jobTitle\":\"Tutor\",\"studentId\":7,"
+                        + "\"studentName\":\"Ada\",\"studentEmail\":\"ada@campus.edu\"}\n"
+                        + "{\"applicationId\":2,\"jobId\":11,\"jobTitle\":\"Barista\",\"studentId\":8,"
+                        + "\"studentName\":\"Lin\",\"studentEmail\":\"lin@campus.edu\"}\n");
+    }
+
+    @Test
+    void csvWritesHeaderAndQuotedRows() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(jobRepository.streamAllForExport()).thenReturn(Stream.of(
+                new JobExportRow(1L, "Tutor, Maths", "Teaching", "Main \"A\" Hall", 15, new Date(0),
+                        Job.Status.APPROVED, new Date(0), null, 3L, "=HYPERLINK(\"x\")", "e@campus.edu")
+        ).onClose(() -> closed.set(true)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exportService.writeJobs(ExportService.Format.CSV, out);
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "jobId,jobTitle,category,location,salary,deadline,status,createdAt,updatedAt,"
+                        + "employerId,employerName,employerEmail\r\n"
+                        + "1,\"Tutor, Maths\",Teaching,\"Main \"\"A\"\" Hall\",15,1970-01-01T00:00:00Z,APPROVED,"
+                        + "1970-01-01T00:00:00Z,,3,\"'=HYPERLINK(\"\"x\"\")\",e@campus.edu\r\n");
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void csvFieldsEscapeFormulasAndLineBreaks() {
+        assertThat(ExportService.csvField("+1 555")).isEqualTo("'+1 555");
+        assertThat(ExportService.csvField("@SUM(A1)")).isEqualTo("'@SUM(A1)");
+        assertThat(ExportService.csvField("two\nlines")).isEqualTo("\"two\nlines\"");
+        assertThat(ExportService.csvField(-5)).isEqualTo("-5");
+        assertThat(ExportService.csvField(null)).isEmpty();
+    }
+
+    @Test
+    void persistenceContextIsClearedEveryThousandRows() throws Exception {
+        when(applicationRepository.streamAllForExport()).thenReturn(IntStream.range(0, 2_500)
+                .mapToObj(i -> new ApplicationExportRow((long) i, 1L, "Tutor", 7L, "Ada", "ada@campus.edu")));
+
+        long rows = exportService.writeApplications(ExportService.Format.CSV, new ByteArrayOutputStream());
+
+        assertThat(rows).isEqualTo(2_500);
+        verify(entityManager, times(2)).clear();
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.CampusJobBoard.services;
+
+import com.example.CampusJobBoard.dto.ApplicationCounts;
+import com.example.CampusJobBoard.entities.JobApplication;
+import com.example.CampusJobBoard.entities.JobApplicationCount;
+import com.example.CampusJobBoard.events.ApplicationStatusChangedEvent;
+import com.example.CampusJobBoard.events.ApplicationSubmittedEvent;
+import com.example.CampusJobBoard.repositories.JobApplicationCountBatchRepository.CountDelta;
+import com.example.CampusJobBoard.repositories.JobApplicationCountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifies that a flush writes only what changed since the previous one, that
+ * a failed flush is retried in full, and that the startup recount keeps
+ * applications counted while it runs without counting those before it twice.
+ */
+class JobApplicationCountersTests {
+
+    private JobApplicationCountRepository countRepository;
+    private JobApplicationCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        countRepository = mock(JobApplicationCountRepository.class);
+        counters = new JobApplicationCounters(countRepository);
+    }
+
+    @Test
+    void flushSendsTheDifferenceSinceTheLastFlush() {
+        submit(1L);
+        submit(1L);
+        counters.onApplicationStatusChanged(changed(Map.of(1L, 1), JobApplication.Status.ACCEPTED));
+
+        counters.flush();
+        verify(countRepository).addAll(List.of(new CountDelta(1L, 2, 1, 1, 0)));
+
+        submit(1L);
+        counters.onApplicationStatusChanged(changed(Map.of(1L, 1), JobApplication.Status.REJECTED));
+        counters.flush();
+        verify(countRepository).addAll(List.of(new CountDelta(1L, 1, 0, 0, 1)));
+
+        counters.flush();
+        verify(countRepository).addAll(List.of());
+        assertThat(counters.countsFor(1L)).isEqualTo(new ApplicationCounts(3, 1, 1, 1));
+    }
+
+    @Test
+    void changesThatCancelOutAreNotWritten() {
+        counters.onApplicationStatusChanged(changed(Map.of(2L, 1), JobApplication.Status.ACCEPTED));
+        counters.onApplicationStatusChanged(new ApplicationStatusChangedEvent(List.of(7L), Map.of(2L, 1),
+                JobApplication.Status.ACCEPTED, JobApplication.Status.SUBMITTED));
+
+        counters.flush();
+
+        verify(countRepository).addAll(List.of());
+    }
+
+    @Test
+    void failedFlushIsRetriedInFull() {
+        submit(1L);
+        doThrow(new IllegalStateException("down")).doNothing().when(countRepository).addAll(List.of(
+                new CountDelta(1L, 1, 1, 0, 0)));
+
+        assertThatThrownBy(counters::flush).isInstanceOf(IllegalStateException.class);
+        counters.flush();
+
+        verify(countRepository, times(2)).addAll(List.of(new CountDelta(1L, 1, 1, 0, 0)));
+    }
+
+    @Test
+    void loadRecountsFirstAndKeepsApplicationsCountedMeanwhile() {
+        doAnswer(call -> {
+            // committed and counted while the recount runs
+            submit(1L);
+            return null;
+        }).when(countRepository).recountAll();
+        when(countRepository.findAll()).thenReturn(List.of(row(1L, 5, 3, 1, 1), row(2L, 2, 2, 0, 0)));
+
+        counters.load();
+
+        InOrder order = inOrder(countRepository);
+        order.verify(countRepository).recountAll();
+        order.verify(countRepository).findAll();
+        assertThat(counters.countsFor(1L)).isEqualTo(new ApplicationCounts(6, 4, 1, 1));
+        assertThat(counters.countsFor(2L)).isEqualTo(new ApplicationCounts(2, 2, 0, 0));
+        assertThat(counters.countsFor(List.of(3L))).containsEntry(3L, ApplicationCounts.NONE);
+
+        counters.flush();
+        verify(countRepository).addAll(List.of(new CountDelta(1L, 1, 1, 0, 0)));
+    }
+
+    @Test
+    void applicationsCountedBeforeLoadAreNotCountedTwice() {
+        // served before the application is ready; the recount below already includes them
+        submit(1L);
+        counters.onApplicationStatusChanged(changed(Map.of(1L, 1), JobApplication.Status.ACCEPTED));
+        counters.flush();
+        submit(1L);
+        when(countRepository.findAll()).thenReturn(List.of(row(1L, 2, 1, 1, 0)));
+
+        counters.load();
+
+        assertThat(counters.countsFor(1L)).isEqualTo(new ApplicationCounts(2, 1, 1, 0));
+
+        counters.flush();
+        verify(countRepository).addAll(List.of());
+    }
+
+    private void submit(Long jobId) {
+        counters.onApplicationSubmitted(new ApplicationSubmittedEvent(7L, jobId));
+    }
+
+    private static ApplicationStatusChangedEvent changed(Map<Long, Integer> perJob, JobApplication.Status to) {
+        return new ApplicationStatusChangedEvent(List.of(7L), perJob, JobApplication.Status.SUBMITTED, to);
+    }
+
+    private static JobApplicationCount row(Long jobId, long total, long submitted, long accepted, long rejected) {
+        JobApplicationCount row = new JobApplicationCount();
+        row.setJobId(jobId);
+        row.setTotal(total);
+        row.setSubmitted(submitted);
+        row.setAccepted(accepted);
+        row.setRejected(rejected);
+        return row;
+    }
+}
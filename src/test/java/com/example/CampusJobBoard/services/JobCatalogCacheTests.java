@@ -0,0 +1,121 @@
+package com.example.CampusJobBoard.services;
+
+import com.example.CampusJobBoard.dto.JobListing;
+import com.example.CampusJobBoard.entities.Job;
+import com.example.CampusJobBoard.events.JobChangedEvent;
+import com.example.CampusJobBoard.repositories.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifies that job changes patch the catalog snapshot in place of a reload,
+ * keep it newest first, and leave snapshots already handed out untouched.
+ */
+class JobCatalogCacheTests {
+
+    private JobRepository jobRepository;
+    private JobCatalogCache cache;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository = mock(JobRepository.class);
+        when(jobRepository.findListingsByStatus(Job.Status.APPROVED)).thenReturn(List.of(
+                listing(1L, "Tutor", 1_000),
+                listing(3L, "Library Assistant", 3_000),
+                listing(2L, "Lab Technician", 2_000)
+        ));
+        cache = new JobCatalogCache(jobRepository);
+    }
+
+    @Test
+    void firstReadLoadsOnceAndSortsNewestFirst() {
+        assertThat(ids(cache.approvedJobs())).containsExactly(3L, 2L, 1L);
+        assertThat(ids(cache.approvedJobs())).containsExactly(3L, 2L, 1L);
+
+        verify(jobRepository, times(1)).findListingsByStatus(Job.Status.APPROVED);
+        assertThat(cache.stats().misses()).isEqualTo(1);
+        assertThat(cache.stats().hits()).isEqualTo(1);
+    }
+
+    @Test
+    void approvalIsInsertedInListingOrder() {
+        long version = cache.snapshot().version();
+
+        cache.onJobChanged(changed(job(4L, "Barista", 2_500, Job.Status.APPROVED), Job.Status.PENDING));
+
+        assertThat(ids(cache.approvedJobs())).containsExactly(3L, 4L, 2L, 1L);
+        assertThat(cache.version()).isGreaterThan(version);
+        assertThat(cache.stats().patches()).isEqualTo(1);
+        verify(jobRepository, times(1)).findListingsByStatus(Job.Status.APPROVED);
+    }
+
+    @Test
+    void editReplacesTheListing() {
+        cache.snapshot();
+
+        cache.onJobChanged(changed(job(2L, "Senior Lab Technician", 2_000, Job.Status.APPROVED), Job.Status.APPROVED));
+
+        assertThat(ids(cache.approvedJobs())).containsExactly(3L, 2L, 1L);
+        assertThat(cache.snapshot().byId().get(2L).jobTitle()).isEqualTo("Senior Lab Technician");
+    }
+
+    @Test
+    void leavingApprovedRemovesTheListingButKeepsEarlierSnapshots() {
+        JobCatalogCache.Snapshot before = cache.snapshot();
+
+        cache.onJobChanged(changed(job(3L, "Library Assistant", 3_000, Job.Status.EXPIRED), Job.Status.APPROVED));
+
+        assertThat(ids(cache.approvedJobs())).containsExactly(2L, 1L);
+        assertThat(cache.snapshot().byId()).doesNotContainKey(3L);
+        assertThat(ids(before.jobs())).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    void unrelatedChangesKeepTheVersion() {
+        long version = cache.snapshot().version();
+
+        cache.onJobChanged(changed(job(9L, "Pending Post", 9_000, Job.Status.PENDING), null));
+
+        assertThat(cache.version()).isEqualTo(version);
+        assertThat(cache.stats().patches()).isZero();
+    }
+
+    @Test
+    void changesBeforeTheFirstLoadAreLeftToTheLoad() {
+        cache.onJobChanged(changed(job(4L, "Barista", 2_500, Job.Status.APPROVED), Job.Status.PENDING));
+
+        verifyNoInteractions(jobRepository);
+        assertThat(cache.version()).isZero();
+    }
+
+    private static JobChangedEvent changed(Job job, Job.Status previous) {
+        return new JobChangedEvent(job, previous);
+    }
+
+    private static Job job(Long id, String title, long createdAt, Job.Status status) {
+        Job job = new Job();
+        job.setJobId(id);
+        job.setJobTitle(title);
+        job.setCreatedAt(new Date(createdAt));
+        job.setStatus(status);
+        return job;
+    }
+
+    private static JobListing listing(Long id, String title, long createdAt) {
+        return JobListing.from(job(id, title, createdAt, Job.Status.APPROVED));
+    }
+
+    private static List<Long> ids(List<JobListing> jobs) {
+        return jobs.stream().map(JobListing::jobId).toList();
+    }
+}
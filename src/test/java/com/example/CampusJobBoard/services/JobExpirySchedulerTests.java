@@ -0,0 +1,112 @@
+package com.example.CampusJobBoard.services;
+
+import com.example.CampusJobBoard.entities.Job;
+import com.example.CampusJobBoard.events.JobChangedEvent;
+import com.example.CampusJobBoard.repositories.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifies that no deadline falls between the startup catch-up and the
+ * in-memory horizon, and that job changes racing a refill are neither lost
+ * nor overwritten by the refill's stale rows.
+ */
+class JobExpirySchedulerTests {
+
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+
+    private JobRepository jobRepository;
+    private JobService jobService;
+    private JobExpiryScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository = mock(JobRepository.class);
+        jobService = mock(JobService.class);
+        when(jobRepository.findIdsPastDeadline(eq(Job.Status.APPROVED), any(), any())).thenReturn(List.of());
+        scheduler = new JobExpiryScheduler(jobRepository, jobService, 100, 24);
+    }
+
+    @Test
+    void horizonStartsExactlyWhereTheCatchUpEnded() {
+        when(jobRepository.findDeadlinesBetween(eq(Job.Status.APPROVED), any(), any())).thenReturn(List.of());
+
+        scheduler.start();
+
+        ArgumentCaptor<Date> catchUpUntil = ArgumentCaptor.forClass(Date.class);
+        ArgumentCaptor<Date> horizonFrom = ArgumentCaptor.forClass(Date.class);
+        verify(jobRepository).findIdsPastDeadline(eq(Job.Status.APPROVED), catchUpUntil.capture(), any());
+        verify(jobRepository).findDeadlinesBetween(eq(Job.Status.APPROVED), horizonFrom.capture(), any());
+        assertThat(horizonFrom.getValue()).isEqualTo(catchUpUntil.getValue());
+    }
+
+    @Test
+    void approvalCommittedDuringTheRefillQueryIsScheduled() {
+        when(jobRepository.findDeadlinesBetween(eq(Job.Status.APPROVED), any(), any())).thenAnswer(call -> {
+            scheduler.onJobChanged(approved(1L, System.currentTimeMillis() + HOUR));
+            return List.of();
+        });
+
+        scheduler.start();
+
+        assertThat(scheduler.scheduledCount()).isEqualTo(1);
+    }
+
+    @Test
+    void staleRowForAJobChangedDuringTheRefillIsSkipped() {
+        long oldDeadline = System.currentTimeMillis() - 1;
+        when(jobRepository.findDeadlinesBetween(eq(Job.Status.APPROVED), any(), any())).thenAnswer(call -> {
+            // deadline pushed out of the horizon after the query read the old one
+            scheduler.onJobChanged(approved(2L, System.currentTimeMillis() + 48 * HOUR));
+            return List.of(deadline(2L, oldDeadline));
+        });
+
+        scheduler.start();
+        scheduler.tick();
+
+        assertThat(scheduler.scheduledCount()).isZero();
+        verify(jobService, never()).expireJobs(List.of(2L));
+    }
+
+    @Test
+    void dueJobsAreExpiredOnTheNextTick() {
+        when(jobRepository.findDeadlinesBetween(eq(Job.Status.APPROVED), any(), any())).thenReturn(List.of());
+        scheduler.start();
+
+        scheduler.onJobChanged(approved(3L, System.currentTimeMillis() - 1));
+        scheduler.onJobChanged(approved(4L, System.currentTimeMillis() + HOUR));
+        scheduler.tick();
+
+        verify(jobService).expireJobs(List.of(3L));
+        assertThat(scheduler.scheduledCount()).isEqualTo(1);
+        verify(jobService, never()).expireJobs(List.of(4L));
+    }
+
+    private static JobChangedEvent approved(Long id, long deadline) {
+        Job job = new Job();
+        job.setJobId(id);
+        job.setStatus(Job.Status.APPROVED);
+        job.setDeadline(new Date(deadline));
+        return new JobChangedEvent(job, Job.Status.APPROVED);
+    }
+
+    private static JobRepository.JobDeadline deadline(Long id, long deadline) {
+        JobRepository.JobDeadline row = mock(JobRepository.JobDeadline.class);
+        when(row.getJobId()).thenReturn(id);
+        when(row.getDeadline()).thenReturn(new Date(deadline));
+        return row;
+    }
+}
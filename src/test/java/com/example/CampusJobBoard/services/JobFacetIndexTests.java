@@ -0,0 +1,119 @@
+package com.example.CampusJobBoard.services;
+
+import com.example.CampusJobBoard.dto.FacetCount;
+import com.example.CampusJobBoard.dto.JobFacets;
+import com.example.CampusJobBoard.dto.JobListing;
+import com.example.CampusJobBoard.entities.Job;
+import com.example.CampusJobBoard.events.JobChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifies that facet counts follow jobs entering and leaving the approved
+ * set, that deadline windows do not overlap, and that jobs past their
+ * deadline are not counted.
+ */
+class JobFacetIndexTests {
+
+    private JobCatalogCache catalogCache;
+    private JobFacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        catalogCache = mock(JobCatalogCache.class);
+        when(catalogCache.approvedJobs()).thenReturn(List.of(
+                listing(1L, "IT", "Main Campus", 25_000, inDays(3)),
+                listing(2L, "IT", "North Campus", 45_000, inDays(20)),
+                listing(3L, "Library", "Main Campus", 10_000, inDays(90)),
+                listing(4L, "Research", "Main Campus", 85_000, null)
+        ));
+        index = new JobFacetIndex(catalogCache);
+        index.load();
+    }
+
+    @Test
+    void countsEachFacetValue() {
+        JobFacets facets = index.facets();
+
+        assertThat(facets.categories()).containsExactly(
+                new FacetCount("IT", 2), new FacetCount("Library", 1), new FacetCount("Research", 1));
+        assertThat(facets.locations()).containsExactly(
+                new FacetCount("Main Campus", 3), new FacetCount("North Campus", 1));
+        assertThat(facets.salaryBands()).containsExactly(
+                new FacetCount("0-19999", 1), new FacetCount("20000-39999", 1), new FacetCount("40000-59999", 1),
+                new FacetCount("60000-79999", 0), new FacetCount("80000+", 1));
+    }
+
+    @Test
+    void deadlineWindowsCountEachJobOnce() {
+        assertThat(index.facets().deadlines()).containsExactly(
+                new FacetCount("Next 7 days", 1), new FacetCount("8-30 days", 1),
+                new FacetCount("Later", 1), new FacetCount("No deadline", 1));
+    }
+
+    @Test
+    void changesMoveCountsBetweenValues() {
+        index.onJobChanged(changed(job(2L, "Library", "North Campus", 45_000, Job.Status.APPROVED)));
+        index.onJobChanged(changed(job(3L, "Library", "Main Campus", 10_000, Job.Status.REJECTED)));
+        index.onJobChanged(changed(job(5L, "Art", "West Campus", 5_000, Job.Status.APPROVED)));
+
+        JobFacets facets = index.facets();
+        assertThat(facets.categories()).containsExactly(
+                new FacetCount("Art", 1), new FacetCount("IT", 1),
+                new FacetCount("Library", 1), new FacetCount("Research", 1));
+        assertThat(facets.locations()).containsExactly(
+                new FacetCount("Main Campus", 2), new FacetCount("North Campus", 1), new FacetCount("West Campus", 1));
+    }
+
+    @Test
+    void jobsPastTheirDeadlineAreNotCounted() throws Exception {
+        Job closed = job(6L, "Art", "West Campus", 5_000, Job.Status.APPROVED);
+        closed.setDeadline(new Date(System.currentTimeMillis() - 1_000));
+        index.onJobChanged(changed(closed));
+
+        Job closing = job(7L, "Art", "West Campus", 5_000, Job.Status.APPROVED);
+        closing.setDeadline(new Date(System.currentTimeMillis() + 50));
+        index.onJobChanged(changed(closing));
+        assertThat(index.facets().categories()).contains(new FacetCount("Art", 1));
+
+        Thread.sleep(100);
+
+        JobFacets facets = index.facets();
+        assertThat(facets.categories()).extracting(FacetCount::value).doesNotContain("Art");
+        assertThat(facets.locations()).extracting(FacetCount::value).doesNotContain("West Campus");
+        assertThat(facets.salaryBands().get(0)).isEqualTo(new FacetCount("0-19999", 1));
+    }
+
+    private static JobChangedEvent changed(Job job) {
+        return new JobChangedEvent(job, Job.Status.APPROVED);
+    }
+
+    private static Job job(Long id, String category, String location, int salary, Job.Status status) {
+        Job job = new Job();
+        job.setJobId(id);
+        job.setJobTitle("Job " + id);
+        job.setCategory(category);
+        job.setLocation(location);
+        job.setSalary(salary);
+        job.setStatus(status);
+        return job;
+    }
+
+    private static JobListing listing(Long id, String category, String location, int salary, Date deadline) {
+        Job job = job(id, category, location, salary, Job.Status.APPROVED);
+        job.setDeadline(deadline);
+        return JobListing.from(job);
+    }
+
+    private static Date inDays(int days) {
+        return new Date(System.currentTimeMillis() + Duration.ofDays(days).toMillis());
+    }
+}
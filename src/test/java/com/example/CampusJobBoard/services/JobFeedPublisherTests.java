@@ -0,0 +1,169 @@
+package com.example.CampusJobBoard.services;
+
+import com.example.CampusJobBoard.entities.Job;
+import com.example.CampusJobBoard.events.JobChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that a stalled client neither delays events for the others nor
+ * grows without bound, and that a reconnecting client is replayed what it
+ * missed.
+ */
+class JobFeedPublisherTests {
+
+    private JobFeedPublisher publisher;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        publisher = new JobFeedPublisher(500, 60_000, 4, 50, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        publisher.shutdown();
+    }
+
+    @Test
+    void stalledClientDoesNotDelayOthers() throws Exception {
+        RecordingEmitter stalled = new RecordingEmitter(release);
+        RecordingEmitter healthy = new RecordingEmitter(null);
+        publisher.subscribe(stalled, null);
+        publisher.subscribe(healthy, null);
+
+        publisher.onJobChanged(approved(1L));
+
+        await(() -> healthy.sent.size() == 2);
+        assertThat(healthy.sent.get(1)).contains("event:" + JobFeedPublisher.APPROVED_EVENT);
+        assertThat(stalled.sent).isEmpty();
+    }
+
+    @Test
+    void clientThatFallsBehindIsDropped() throws Exception {
+        RecordingEmitter stalled = new RecordingEmitter(release);
+        RecordingEmitter healthy = new RecordingEmitter(null);
+        publisher.subscribe(stalled, null);
+        publisher.subscribe(healthy, null);
+
+        for (int id = 1; id <= 5; id++) {
+            publisher.onJobChanged(approved((long) id));
+            int expected = id + 1;
+            await(() -> healthy.sent.size() == expected);
+            assertThat(publisher.subscriberCount()).isEqualTo(id < 5 ? 2 : 1);
+        }
+        assertThat(publisher.subscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    void blockedWriteIsDroppedOnTheNextHeartbeat() throws Exception {
+        RecordingEmitter stalled = new RecordingEmitter(release);
+        publisher.subscribe(stalled, null);
+        await(stalled::isBlocked);
+
+        Thread.sleep(100);
+        publisher.heartbeat();
+
+        assertThat(publisher.subscriberCount()).isZero();
+    }
+
+    @Test
+    void reconnectingClientIsReplayedWhatItMissed() throws Exception {
+        RecordingEmitter first = new RecordingEmitter(null);
+        publisher.subscribe(first, null);
+        publisher.onJobChanged(approved(1L));
+        await(() -> first.sent.size() == 2);
+        String lastEventId = first.sent.get(1).lines()
+                .filter(line -> line.startsWith("id:")).findFirst().orElseThrow().substring(3);
+
+        publisher.onJobChanged(approved(2L));
+        publisher.onJobChanged(approved(3L));
+        RecordingEmitter reconnected = new RecordingEmitter(null);
+        publisher.subscribe(reconnected, lastEventId);
+
+        await(() -> reconnected.sent.size() == 3);
+        assertThat(reconnected.sent.get(1)).contains("\"jobId\":2");
+        assertThat(reconnected.sent.get(2)).contains("\"jobId\":3");
+    }
+
+    @Test
+    void unknownEventIdGetsAResetAndIsClosed() throws Exception {
+        RecordingEmitter emitter = new RecordingEmitter(null);
+        publisher.subscribe(emitter, "earlier-run-7");
+
+        await(() -> emitter.sent.size() == 2);
+        assertThat(emitter.sent.get(1)).contains("event:" + JobFeedPublisher.RESET_EVENT);
+        assertThat(publisher.subscriberCount()).isZero();
+    }
+
+    private static JobChangedEvent approved(Long id) {
+        Job job = new Job();
+        job.setJobId(id);
+        job.setJobTitle("Job " + id);
+        job.setStatus(Job.Status.APPROVED);
+        return new JobChangedEvent(job, Job.Status.PENDING);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("condition not met in time").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    /** Records each event as text; with a latch, blocks every write until it opens, like a full socket. */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private static final ObjectMapper JSON = new ObjectMapper();
+
+        final List<String> sent = new CopyOnWriteArrayList<>();
+        private final CountDownLatch release;
+        private volatile boolean blocked;
+
+        RecordingEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        boolean isBlocked() {
+            return blocked;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            if (release != null) {
+                blocked = true;
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                return;
+            }
+            sent.add(builder.build().stream()
+                    .map(part -> part.getData() instanceof String text ? text : json(part.getData()))
+                    .collect(Collectors.joining()));
+        }
+
+        private static String json(Object data) {
+            try {
+                return JSON.writeValueAsString(data);
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+}
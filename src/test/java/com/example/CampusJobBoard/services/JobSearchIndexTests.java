@@ -0,0 +1,142 @@
+package com.example.CampusJobBoard.services;
+
+import com.example.CampusJobBoard.dto.JobListing;
+import com.example.CampusJobBoard.dto.JobSearchHit;
+import com.example.CampusJobBoard.entities.Job;
+import com.example.CampusJobBoard.events.JobChangedEvent;
+import com.example.CampusJobBoard.repositories.JobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifies BM25 ranking, prefix matching, that removing or re-indexing a
+ * job leaves no stale postings behind, and that the startup load does not
+ * overwrite a change made while it runs.
+ */
+class JobSearchIndexTests {
+
+    private JobSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new JobSearchIndex(mock(JobCatalogCache.class), mock(JobRepository.class));
+        index(1L, "Software Developer", "Build internal tools in Java", "IT", "Main Campus");
+        index(2L, "Library Assistant", "Shelve books and help students", "Library", "Main Campus");
+        index(3L, "Research Assistant", "Data analysis software for the lab", "Research", "North Campus");
+    }
+
+    @Test
+    void titleMatchesOutrankBodyMatches() {
+        assertThat(ids(index.search("software", 10))).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void lastTermAlsoMatchesAsPrefix() {
+        assertThat(ids(index.search("soft", 10))).containsExactly(1L, 3L);
+        assertThat(ids(index.search("assist", 10))).containsExactlyInAnyOrder(2L, 3L);
+    }
+
+    @Test
+    void limitKeepsTheBestHits() {
+        assertThat(ids(index.search("campus", 1))).hasSize(1);
+        assertThat(index.search("campus", 0)).isEmpty();
+        assertThat(index.search("the of and", 10)).isEmpty();
+    }
+
+    @Test
+    void removedJobsAreNoLongerFound() {
+        index.remove(1L);
+
+        assertThat(ids(index.search("software", 10))).containsExactly(3L);
+        assertThat(index.search("java", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void reindexingReplacesTheOldTerms() {
+        index(1L, "Graphic Designer", "Posters for events", "Design", "Main Campus");
+
+        assertThat(index.search("java", 10)).isEmpty();
+        assertThat(ids(index.search("software", 10))).containsExactly(3L);
+        assertThat(ids(index.search("designer", 10))).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void freedSlotsAreReusedWithoutMixingPostings() {
+        index.remove(2L);
+        index.remove(1L);
+        index(4L, "Lab Technician", "Prepare lab equipment", "Research", "North Campus");
+        index(5L, "Java Tutor", "Tutor students in Java", "Tutoring", "Main Campus");
+
+        assertThat(ids(index.search("java", 10))).containsExactly(5L);
+        assertThat(ids(index.search("lab", 10))).containsExactly(4L, 3L);
+        assertThat(ids(index.search("books", 10))).isEmpty();
+    }
+
+    @Test
+    void jobLeavingApprovedStatusIsRemoved() {
+        Job job = new Job();
+        job.setJobId(2L);
+        job.setJobTitle("Library Assistant");
+        job.setStatus(Job.Status.EXPIRED);
+
+        index.onJobChanged(new JobChangedEvent(job, Job.Status.APPROVED));
+
+        assertThat(index.search("library", 10)).isEmpty();
+    }
+
+    @Test
+    void loadIndexesDescriptionsFromTheirOwnQuery() {
+        JobCatalogCache catalogCache = mock(JobCatalogCache.class);
+        JobRepository jobRepository = mock(JobRepository.class);
+        JobRepository.JobDescription description = mock(JobRepository.JobDescription.class);
+        when(description.getJobId()).thenReturn(8L);
+        when(description.getDescription()).thenReturn("Calibrate telescopes");
+        when(jobRepository.findDescriptionsByStatus(Job.Status.APPROVED)).thenReturn(List.of(description));
+        when(catalogCache.approvedJobs()).thenReturn(List.of(
+                new JobListing(8L, "Observatory Aide", "Observatory", "Science", 15, null, new Date(), "Physics")));
+
+        JobSearchIndex loaded = new JobSearchIndex(catalogCache, jobRepository);
+        loaded.load();
+
+        assertThat(ids(loaded.search("telescopes", 10))).containsExactly(8L);
+    }
+
+    @Test
+    void jobChangedDuringLoadIsAppliedAfterTheSnapshot() throws Exception {
+        JobCatalogCache catalogCache = mock(JobCatalogCache.class);
+        JobSearchIndex loading = new JobSearchIndex(catalogCache, mock(JobRepository.class));
+        Job rejected = new Job();
+        rejected.setJobId(8L);
+        rejected.setStatus(Job.Status.REJECTED);
+        Thread change = new Thread(() -> loading.onJobChanged(new JobChangedEvent(rejected, Job.Status.APPROVED)));
+        when(catalogCache.approvedJobs()).thenAnswer(call -> {
+            // the snapshot still lists the job the concurrent change removes
+            change.start();
+            change.join(200);
+            return List.of(new JobListing(8L, "Observatory Aide", "Observatory", "Science", 15, null,
+                    new Date(), "Physics"));
+        });
+
+        loading.load();
+        change.join();
+
+        assertThat(loading.search("observatory", 10)).isEmpty();
+    }
+
+    private void index(Long id, String title, String description, String category, String location) {
+        index.index(new JobListing(id, title, location, category, 15, null, new Date(), "Employer"), description);
+    }
+
+    private static List<Long> ids(List<JobSearchHit> hits) {
+        return hits.stream().map(JobSearchHit::jobId).toList();
+    }
+}
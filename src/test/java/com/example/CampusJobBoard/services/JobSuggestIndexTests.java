@@ -0,0 +1,138 @@
+package com.example.CampusJobBoard.services;
+
+import com.example.CampusJobBoard.dto.JobListing;
+import com.example.CampusJobBoard.dto.JobSuggestion;
+import com.example.CampusJobBoard.entities.Job;
+import com.example.CampusJobBoard.events.JobChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifies that suggestions are the top values by job count, capped at
+ * {@link JobSuggestIndex#TOP_K}, that a value reached through several word
+ * starts is suggested once, and that counts and cached results follow job
+ * changes.
+ */
+class JobSuggestIndexTests {
+
+    private JobSuggestIndex index;
+    private long nextId;
+
+    @BeforeEach
+    void setUp() {
+        index = new JobSuggestIndex(mock(JobCatalogCache.class));
+        nextId = 1;
+    }
+
+    @Test
+    void bestValuesComeFirstWithTiesAlphabetical() {
+        add("Library Assistant", "Library", "Main Campus");
+        add("Library Assistant", "Library", "North Campus");
+        add("Lab Technician", "Research", "Main Campus");
+
+        assertThat(index.suggest("l", 10)).containsExactly(
+                new JobSuggestion("Library", "category", 2),
+                new JobSuggestion("Library Assistant", "title", 2),
+                new JobSuggestion("Lab Technician", "title", 1));
+        assertThat(index.suggest("LIB", 1)).containsExactly(new JobSuggestion("Library", "category", 2));
+    }
+
+    @Test
+    void resultsAreCappedAtTopK() {
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < JobSuggestIndex.TOP_K + 5; i++) {
+            String title = "Tutor " + (char) ('a' + i);
+            // earlier letters get more jobs, so they rank first
+            for (int copies = JobSuggestIndex.TOP_K + 5 - i; copies > 0; copies--) {
+                add(title, null, null);
+            }
+            if (i < JobSuggestIndex.TOP_K) {
+                expected.add(title);
+            }
+        }
+
+        List<JobSuggestion> suggestions = index.suggest("tutor", 100);
+
+        assertThat(suggestions).extracting(JobSuggestion::text).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void valueMatchedThroughSeveralWordStartsIsSuggestedOnce() {
+        add("Data Database Admin", null, null);
+        add("Data Entry", null, null);
+
+        assertThat(index.suggest("data", 10)).containsExactly(
+                new JobSuggestion("Data Database Admin", "title", 1),
+                new JobSuggestion("Data Entry", "title", 1));
+        assertThat(index.suggest("admin", 10)).containsExactly(
+                new JobSuggestion("Data Database Admin", "title", 1));
+    }
+
+    @Test
+    void topKStaysFullWhenDuplicatesAreSkipped() {
+        // "lab lab ..." reaches the "lab" node twice per value
+        for (int i = 0; i < JobSuggestIndex.TOP_K; i++) {
+            add("Lab Lab " + (char) ('a' + i), null, null);
+        }
+        add("Lab Zeta", null, null);
+
+        assertThat(index.suggest("lab", 100)).hasSize(JobSuggestIndex.TOP_K)
+                .extracting(JobSuggestion::text).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void editsAndRemovalsUpdateCountsAndPrune() {
+        Long first = add("Barista", "Hospitality", "Cafe");
+        Long second = add("Barista", "Hospitality", "Cafe");
+
+        index.index(listing(second, "Bartender", "Hospitality", "Cafe"));
+        assertThat(index.suggest("bar", 10)).containsExactly(
+                new JobSuggestion("Barista", "title", 1),
+                new JobSuggestion("Bartender", "title", 1));
+
+        Job expired = new Job();
+        expired.setJobId(first);
+        expired.setStatus(Job.Status.EXPIRED);
+        index.onJobChanged(new JobChangedEvent(expired, Job.Status.APPROVED));
+
+        assertThat(index.suggest("bar", 10)).containsExactly(new JobSuggestion("Bartender", "title", 1));
+        assertThat(index.suggest("barista", 10)).isEmpty();
+        assertThat(index.suggest("hosp", 10)).containsExactly(new JobSuggestion("Hospitality", "category", 1));
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void loadBuildsTheSameResultsAsIncrementalIndexing() {
+        JobCatalogCache catalogCache = mock(JobCatalogCache.class);
+        when(catalogCache.approvedJobs()).thenReturn(List.of(
+                listing(1L, "Software Engineer", "IT", "Main Campus"),
+                listing(2L, "Support Engineer", "IT", "Main Campus")));
+        JobSuggestIndex loaded = new JobSuggestIndex(catalogCache);
+        loaded.load();
+
+        assertThat(loaded.suggest("eng", 10)).containsExactly(
+                new JobSuggestion("Software Engineer", "title", 1),
+                new JobSuggestion("Support Engineer", "title", 1));
+        assertThat(loaded.suggest("main", 10)).containsExactly(
+                new JobSuggestion("Main Campus", "location", 2));
+        assertThat(loaded.suggest(" ", 10)).isEmpty();
+    }
+
+    private Long add(String title, String category, String location) {
+        Long id = nextId++;
+        index.index(listing(id, title, category, location));
+        return id;
+    }
+
+    private static JobListing listing(Long id, String title, String category, String location) {
+        return new JobListing(id, title, location, category, 15, null, new Date(), "Employer");
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.CampusJobBoard.services;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies the sliding failure window, lockout escalation and its cap, that
+ * concurrent attempts are limited to the failures a key has left and settle
+ * exactly the keys they reserved, that an IP lockout spares emails that
+ * recently logged in from that IP, and that
+ * keys beyond max-entries are evicted, locked ones included, once in a while
+ * rather than on every failure.
+ */
+class LoginThrottleTests {
+
+    private static final long WINDOW = 60_000;
+    private static final String IP = "10.0.0.1";
+
+    private AtomicLong clock;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(1_000_000);
+    }
+
+    @Test
+    void lockoutDoublesForEachRepeatUpToTheCap() {
+        LoginThrottle throttle = throttle(3, 100, 100);
+
+        for (int i = 0; i < 3; i++) {
+            fail(throttle, "a@campus.edu", IP);
+        }
+        assertThat(throttle.reserve("a@campus.edu", IP).retryAfterMs()).isEqualTo(1_000);
+
+        long[] expected = {2_000, 4_000, 4_000};
+        long lockout = 1_000;
+        for (long next : expected) {
+            clock.addAndGet(lockout);
+            fail(throttle, "a@campus.edu", IP);
+            assertThat(throttle.reserve("a@campus.edu", IP).retryAfterMs()).isEqualTo(next);
+            lockout = next;
+        }
+        // another email from the same address is unaffected
+        assertThat(throttle.reserve("b@campus.edu", IP).retryAfterMs()).isZero();
+    }
+
+    @Test
+    void failuresFadeOutOfTheSlidingWindow() {
+        LoginThrottle throttle = throttle(3, 100, 100);
+        fail(throttle, "a@campus.edu", IP);
+        fail(throttle, "a@campus.edu", IP);
+
+        // halfway through the next window the two old failures weigh as one
+        clock.addAndGet(WINDOW + WINDOW / 2);
+        fail(throttle, "a@campus.edu", IP);
+        fail(throttle, "a@campus.edu", IP);
+        assertThat(throttle.reserve("a@campus.edu", IP).retryAfterMs()).isPositive();
+
+        // two full windows later nothing is left
+        clock.addAndGet(2 * WINDOW + 1_000);
+        for (int i = 0; i < 2; i++) {
+            fail(throttle, "a@campus.edu", IP);
+        }
+        assertThat(throttle.reserve("a@campus.edu", IP).retryAfterMs()).isZero();
+    }
+
+    @Test
+    void successClearsTheEmailButNotTheIp() {
+        LoginThrottle throttle = throttle(3, 4, 100);
+        fail(throttle, "a@campus.edu", IP);
+        fail(throttle, "a@campus.edu", IP);
+        fail(throttle, "b@campus.edu", IP);
+        succeed(throttle, "a@campus.edu", IP);
+
+        for (int i = 0; i < 2; i++) {
+            fail(throttle, "a@campus.edu", "10.0.0.2");
+        }
+        throttle.release(admit(throttle, "a@campus.edu", "10.0.0.2"));
+        fail(throttle, "c@campus.edu", IP);
+        assertThat(throttle.reserve("d@campus.edu", IP).retryAfterMs()).isPositive();
+    }
+
+    @Test
+    void concurrentAttemptsAreLimitedToTheFailuresLeft() {
+        LoginThrottle throttle = throttle(3, 100, 100);
+        fail(throttle, "a@campus.edu", IP);
+
+        LoginThrottle.Attempt first = admit(throttle, "a@campus.edu", IP);
+        LoginThrottle.Attempt second = admit(throttle, "a@campus.edu", IP);
+        // two in flight plus one failure could already reach the limit
+        assertThat(throttle.reserve("a@campus.edu", IP).retryAfterMs()).isEqualTo(LoginThrottle.IN_FLIGHT_RETRY_MS);
+
+        throttle.release(first);
+        LoginThrottle.Attempt third = admit(throttle, "a@campus.edu", IP);
+        throttle.recordFailure(second);
+        throttle.recordFailure(third);
+        assertThat(throttle.reserve("a@campus.edu", IP).retryAfterMs()).isEqualTo(1_000);
+    }
+
+    @Test
+    void ipLockoutSparesEmailsThatLoggedInFromThere() {
+        LoginThrottle throttle = throttle(100, 3, 100);
+        succeed(throttle, "alice@campus.edu", IP);
+
+        for (int i = 0; i < 3; i++) {
+            fail(throttle, "guess" + i + "@campus.edu", IP);
+        }
+
+        assertThat(throttle.reserve("bob@campus.edu", IP).retryAfterMs()).isPositive();
+        // alice's own mistakes still count against her email, not the shared address
+        throttle.recordFailure(admit(throttle, "ALICE@campus.edu ", IP));
+        assertThat(throttle.reserve("alice@campus.edu", "10.0.0.2").retryAfterMs()).isZero();
+    }
+
+    @Test
+    void attemptReservedBeforeThePairWasTrustedReleasesTheIp() {
+        LoginThrottle throttle = throttle(100, 2, 100);
+        LoginThrottle.Attempt mistyped = admit(throttle, "alice@campus.edu", IP);
+        // a parallel login from the same pair succeeds and trusts it meanwhile
+        succeed(throttle, "alice@campus.edu", IP);
+        throttle.recordFailure(mistyped);
+
+        // nothing is left in flight on the address once its failure has faded
+        clock.addAndGet(2 * WINDOW);
+        admit(throttle, "bob@campus.edu", IP);
+        admit(throttle, "carol@campus.edu", IP);
+    }
+
+    @Test
+    void trustExpires() {
+        LoginThrottle throttle = throttle(100, 3, 100);
+        succeed(throttle, "alice@campus.edu", IP);
+
+        clock.addAndGet(TRUST + 1);
+        for (int i = 0; i < 3; i++) {
+            fail(throttle, "guess" + i + "@campus.edu", IP);
+        }
+
+        assertThat(throttle.reserve("alice@campus.edu", IP).retryAfterMs()).isPositive();
+    }
+
+    @Test
+    void fullTableDropsTheLockoutsEndingSoonestInOnePass() {
+        // one failure locks an email; no IPs, so each email is one key
+        LoginThrottle throttle = throttle(1, 100, 20);
+        for (int i = 0; i < 20; i++) {
+            fail(throttle, "user" + i + "@campus.edu", null);
+            clock.incrementAndGet();
+        }
+
+        fail(throttle, "user20@campus.edu", null);
+
+        // 20 locked keys trimmed to 18 before the new one: the two oldest lockouts went
+        assertThat(throttle.reserve("user2@campus.edu", null).retryAfterMs()).isPositive();
+        assertThat(throttle.reserve("user20@campus.edu", null).retryAfterMs()).isPositive();
+        assertThat(throttle.reserve("user0@campus.edu", null).retryAfterMs()).isZero();
+        // back at 20 keys, so the next new key makes room again; user1 is gone as well
+        assertThat(throttle.reserve("user1@campus.edu", null).retryAfterMs()).isZero();
+        assertThat(throttle.reserve("user3@campus.edu", null).retryAfterMs()).isPositive();
+    }
+
+    @Test
+    void sweepDropsQuietKeysOnly() {
+        LoginThrottle throttle = throttle(1, 100, 100);
+        fail(throttle, "locked@campus.edu", null);
+        clock.addAndGet(2 * WINDOW);
+        throttle.sweep();
+
+        // the lockout outlived two windows, so the key was dropped and starts over
+        assertThat(throttle.reserve("locked@campus.edu", null).retryAfterMs()).isZero();
+    }
+
+    @Test
+    void retryAfterSecondsRoundUp() {
+        assertThat(LoginThrottle.toRetryAfterSeconds(1)).isEqualTo(1);
+        assertThat(LoginThrottle.toRetryAfterSeconds(1_000)).isEqualTo(1);
+        assertThat(LoginThrottle.toRetryAfterSeconds(1_001)).isEqualTo(2);
+    }
+
+    private static final long TRUST = 30L * 24 * 60 * 60 * 1000;
+
+    private LoginThrottle throttle(int maxPerEmail, int maxPerIp, int maxEntries) {
+        return new LoginThrottle(WINDOW, maxPerEmail, maxPerIp, 1_000, 4_000, TRUST, maxEntries, clock::get);
+    }
+
+    private static LoginThrottle.Attempt admit(LoginThrottle throttle, String email, String ip) {
+        LoginThrottle.Attempt attempt = throttle.reserve(email, ip);
+        assertThat(attempt.admitted()).isTrue();
+        return attempt;
+    }
+
+    private static void fail(LoginThrottle throttle, String email, String ip) {
+        throttle.recordFailure(admit(throttle, email, ip));
+    }
+
+    private static void succeed(LoginThrottle throttle, String email, String ip) {
+        throttle.recordSuccess(admit(throttle, email, ip));
+    }
+}
@@ -0,0 +1,184 @@
+package com.example.CampusJobBoard.services;
+
+import com.example.CampusJobBoard.dto.JobListing;
+import com.example.CampusJobBoard.dto.JobRecommendation;
+import com.example.CampusJobBoard.events.ApplicationSubmittedEvent;
+import com.example.CampusJobBoard.repositories.JobApplicationRepository;
+import com.example.CampusJobBoard.repositories.JobApplicationRepository.ApplicationHistory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Verifies the recommendation score terms, that applied jobs are left out,
+ * that only a job's strongest co-applied neighbours boost, the popularity
+ * fallback for students without history, and that the startup
+ * load streams the history and learns the same as live applications.
+ */
+class RecommendationServiceTests {
+
+    private JobApplicationRepository applicationRepository;
+    private JobCatalogCache catalogCache;
+    private RecommendationService service;
+
+    @BeforeEach
+    void setUp() {
+        applicationRepository = mock(JobApplicationRepository.class);
+        catalogCache = mock(JobCatalogCache.class);
+        // newest first, as the catalog keeps them
+        catalog(job(1L, "IT", "Main Campus", 20_000),
+                job(2L, "IT", "North Campus", 40_000),
+                job(3L, "Library", "Main Campus", 20_000),
+                job(4L, "Research", "West Campus", 0));
+        when(applicationRepository.streamAllHistory()).thenReturn(Stream.empty());
+        service = new RecommendationService(applicationRepository, catalogCache);
+        service.load();
+    }
+
+    @Test
+    void scoreAddsCategoryLocationSalaryAndPopularity() {
+        // student 7: one IT job at Main Campus paying 20000
+        apply(7L, 1L);
+
+        List<JobRecommendation> results = service.recommend(7L, 10);
+
+        assertThat(results).extracting(JobRecommendation::jobId).containsExactly(2L, 3L, 4L);
+        // IT share 1/1 * 0.35, salary 0.15 / (1 + 20000/20000)
+        assertThat(results.get(0).score()).isCloseTo(0.35 + 0.075, within(1e-9));
+        // Main Campus share 1/1 * 0.15, salary matches the mean exactly
+        assertThat(results.get(1).score()).isCloseTo(0.15 + 0.15, within(1e-9));
+        assertThat(results.get(2).score()).isZero();
+    }
+
+    @Test
+    void coApplicationsBoostRelatedJobs() {
+        apply(8L, 3L);
+        apply(8L, 4L);
+        apply(9L, 3L);
+
+        List<JobRecommendation> results = service.recommend(9L, 10);
+
+        // job 4 is boosted by the co-application weight and by being applied to once
+        JobRecommendation research = results.stream().filter(r -> r.jobId() == 4L).findFirst().orElseThrow();
+        assertThat(research.score()).isCloseTo(0.30 + 0.05 * 1 / 2, within(1e-9));
+        assertThat(results).extracting(JobRecommendation::jobId).doesNotContain(3L);
+    }
+
+    @Test
+    void popularJobBoostsOnlyItsStrongestNeighbours() {
+        int others = RecommendationService.MAX_NEIGHBOURS + 1;
+        JobListing[] jobs = new JobListing[others + 1];
+        for (int i = 0; i <= others; i++) {
+            // no category, location or salary, so only co-applications and popularity score
+            jobs[i] = job((long) i, null, null, 0);
+        }
+        catalog(jobs);
+        // job 0 is co-applied with every other job once, and with job 1 twice
+        for (long k = 1; k <= others; k++) {
+            apply(100L + k, 0L);
+            apply(100L + k, k);
+        }
+        apply(200L, 0L);
+        apply(200L, 1L);
+        apply(9L, 0L);
+
+        List<JobRecommendation> results = service.recommend(9L, others);
+
+        // a co-application boost of at least 0.30 * 1/2 dwarfs popularity (at most 0.05)
+        assertThat(results.get(0).jobId()).isEqualTo(1L);
+        assertThat(results).filteredOn(r -> r.score() >= 0.15).hasSize(RecommendationService.MAX_NEIGHBOURS);
+    }
+
+    @Test
+    void studentsWithoutHistoryGetTheMostAppliedToJobsNewestFirst() {
+        apply(8L, 3L);
+        apply(9L, 3L);
+        apply(9L, 4L);
+
+        assertThat(service.recommend(10L, 3)).extracting(JobRecommendation::jobId).containsExactly(3L, 4L, 1L);
+        assertThat(service.recommend(10L, 0)).isEmpty();
+    }
+
+    @Test
+    void startupLoadStreamsHistoryAndLearnsLikeLiveApplications() {
+        AtomicBoolean closed = new AtomicBoolean();
+        List<ApplicationHistory> rows = List.of(
+                history(8L, 3L, "Library", "Main Campus", 20_000),
+                history(8L, 4L, "Research", "West Campus", 0),
+                history(8L, 4L, "Research", "West Campus", 0),
+                history(9L, 3L, "Library", "Main Campus", 20_000));
+        when(applicationRepository.streamAllHistory()).thenReturn(rows.stream().onClose(() -> closed.set(true)));
+        service.load();
+
+        List<JobRecommendation> loaded = service.recommend(9L, 10);
+
+        RecommendationService live = new RecommendationService(applicationRepository, catalogCache);
+        when(applicationRepository.streamAllHistory()).thenReturn(Stream.empty());
+        live.load();
+        apply(live, 8L, 3L);
+        apply(live, 8L, 4L);
+        apply(live, 9L, 3L);
+
+        assertThat(closed).isTrue();
+        assertThat(loaded).isEqualTo(live.recommend(9L, 10));
+    }
+
+    @Test
+    void profileBuilderIgnoresRepeatsAndBlankTerms() {
+        RecommendationService.Profile profile = new RecommendationService.Profile.Builder()
+                .add(1L, "IT", " ", 100)
+                .add(1L, "IT", "Main Campus", 100)
+                .add(2L, "IT", null, null)
+                .build();
+
+        assertThat(profile.categories()).isEqualTo(Map.of("IT", 2));
+        assertThat(profile.locations()).isEmpty();
+        assertThat(profile.salarySum()).isEqualTo(100);
+        assertThat(profile.salaryCount()).isEqualTo(1);
+        assertThat(profile.applied()).containsExactly(1L, 2L);
+        assertThat(new RecommendationService.Profile.Builder(profile).add(3L, "Library", "Main Campus", 300)
+                .build().applied()).containsExactly(1L, 2L, 3L);
+    }
+
+    private void apply(Long userId, Long jobId) {
+        apply(service, userId, jobId);
+    }
+
+    private static void apply(RecommendationService service, Long userId, Long jobId) {
+        service.onApplicationSubmitted(new ApplicationSubmittedEvent(userId, jobId));
+    }
+
+    private void catalog(JobListing... jobs) {
+        Map<Long, JobListing> byId = new HashMap<>();
+        for (JobListing job : jobs) {
+            byId.put(job.jobId(), job);
+        }
+        when(catalogCache.snapshot()).thenReturn(new JobCatalogCache.Snapshot(1, List.of(jobs), byId));
+    }
+
+    private static JobListing job(Long id, String category, String location, int salary) {
+        return new JobListing(id, "Job " + id, location, category, salary, null, new Date(), "Employer");
+    }
+
+    private static ApplicationHistory history(Long userId, Long jobId, String category, String location,
+                                              Integer salary) {
+        ApplicationHistory row = mock(ApplicationHistory.class);
+        when(row.getUserId()).thenReturn(userId);
+        when(row.getJobId()).thenReturn(jobId);
+        when(row.getCategory()).thenReturn(category);
+        when(row.getLocation()).thenReturn(location);
+        when(row.getSalary()).thenReturn(salary);
+        return row;
+    }
+}